@@ -18,7 +18,8 @@ public class EventsRestApi implements EventsApi {
 
     @Override
     public ResponseEntity<Void> onContributionsChange(OnContributionsChangeEvent onContributionsChangeEvent) {
-        contributionFacadePort.refreshIgnoredContributions(onContributionsChangeEvent.getRepoIds());
+        contributionFacadePort.onContributionsChange(onContributionsChangeEvent.getRepoIds(),
+                onContributionsChangeEvent.getContributionIds());
         return ResponseEntity.noContent().build();
     }
 }
@@ -3,27 +3,37 @@ package onlydust.com.marketplace.api.rest.api.adapter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import lombok.AllArgsConstructor;
-import onlydust.com.marketplace.api.contract.GithubApi;
 import onlydust.com.marketplace.api.contract.model.InstallationResponse;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.port.input.GithubInstallationFacadePort;
 import onlydust.com.marketplace.api.rest.api.adapter.mapper.GithubMapper;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 import static java.lang.String.format;
 
+/**
+ * Does not implement the generated {@code GithubApi}: the installation may not be indexed yet when github redirects
+ * the user, and the response is completed asynchronously so that waiting for it holds no request thread.
+ */
 @RestController
 @Tags(@Tag(name = "Github"))
 @AllArgsConstructor
-public class GithubRestApi implements GithubApi {
+public class GithubRestApi {
     private final GithubInstallationFacadePort githubInstallationFacadePort;
 
-    @Override
-    public ResponseEntity<InstallationResponse> getGithubInstallation(Long installationId) {
-        return githubInstallationFacadePort.getAccountByInstallationId(installationId)
-                .map(account -> GithubMapper.mapToInstallationResponse(installationId, account))
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> OnlyDustException.notFound(format("Installation %d not found", installationId)));
+    @GetMapping(value = "/api/v1/github/installations/{installationId}", produces = "application/json")
+    public CompletableFuture<ResponseEntity<InstallationResponse>> getGithubInstallation(
+            @PathVariable("installationId") Long installationId) {
+        return githubInstallationFacadePort.awaitAccountByInstallationId(installationId)
+                .thenApply(account -> account
+                        .map(githubAccount -> GithubMapper.mapToInstallationResponse(installationId, githubAccount))
+                        .map(ResponseEntity::ok)
+                        .orElseThrow(() -> OnlyDustException.notFound(format("Installation %d not found",
+                                installationId))));
     }
 }
@@ -5,7 +5,7 @@ import io.swagger.v3.oas.annotations.tags.Tags;
 import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.contract.MeApi;
 import onlydust.com.marketplace.api.contract.model.*;
-import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserPayoutInformation;
 import onlydust.com.marketplace.api.domain.port.input.ContributorFacadePort;
@@ -25,9 +25,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static java.util.Objects.nonNull;
 import static onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper.sanitizePageIndex;
 import static onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper.sanitizePageSize;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.MyRewardMapper.getSortBy;
+import static onlydust.com.marketplace.api.rest.api.adapter.mapper.MyRewardMapper.mapMyRewardsCursorPageToResponse;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.MyRewardMapper.mapMyRewardsToResponse;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.UserMapper.*;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.UserPayoutInfoMapper.userPayoutInformationToDomain;
@@ -38,6 +40,8 @@ import static onlydust.com.marketplace.api.rest.api.adapter.mapper.UserPayoutInf
 @AllArgsConstructor
 public class MeRestApi implements MeApi {
 
+    static final String INCOMPLETE_RESULTS_HEADER = "X-Incomplete-Results";
+
     private final AuthenticationService authenticationService;
     private final UserFacadePort userFacadePort;
     private final ContributorFacadePort contributorFacadePort;
@@ -111,11 +115,19 @@ public class MeRestApi implements MeApi {
 
     @Override
     public ResponseEntity<MyRewardsPageResponse> getMyRewards(Integer pageIndex, Integer pageSize, String sort,
-                                                              String direction) {
+                                                              String direction, String cursor) {
         final int sanitizedPageSize = sanitizePageSize(pageSize);
         final int sanitizedPageIndex = sanitizePageIndex(pageIndex);
         final User authenticatedUser = authenticationService.getAuthenticatedUser();
         final UserRewardView.SortBy sortBy = getSortBy(sort);
+        if (nonNull(cursor)) {
+            final MyRewardsPageResponse myRewardsPageResponse = mapMyRewardsCursorPageToResponse(
+                    userFacadePort.getRewardsForUserIdAfter(authenticatedUser.getId(), cursor, sanitizedPageSize,
+                            sortBy, SortDirectionMapper.requestToDomain(direction)));
+            return myRewardsPageResponse.getHasMore() ?
+                    ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(myRewardsPageResponse) :
+                    ResponseEntity.ok(myRewardsPageResponse);
+        }
         Page<UserRewardView> page = userFacadePort.getRewardsForUserId(authenticatedUser.getId(), sanitizedPageIndex,
                 sanitizedPageSize, sortBy, SortDirectionMapper.requestToDomain(direction));
 
@@ -236,11 +248,18 @@ public class MeRestApi implements MeApi {
     @Override
     public ResponseEntity<List<GithubOrganizationResponse>> searchGithubUserOrganizations() {
         final HasuraAuthentication hasuraAuthentication = authenticationService.getHasuraAuthentication();
-        final List<GithubAccount> githubAccounts =
+        final GithubAccountSearchResult githubAccounts =
                 githubOrganizationFacadePort.getOrganizationsForAuthenticatedUserAndGithubPersonalToken(
                         hasuraAuthentication.getClaims().getGithubAccessToken(),
                         hasuraAuthentication.getUser());
-        return githubAccounts.isEmpty() ? ResponseEntity.notFound().build() :
-                ResponseEntity.ok(githubAccounts.stream().map(GithubMapper::mapToGithubOrganizationResponse).toList());
+        if (githubAccounts.getAccounts().isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (githubAccounts.isIncomplete()) {
+            response.header(INCOMPLETE_RESULTS_HEADER, "true");
+        }
+        return response.body(githubAccounts.getAccounts().stream()
+                .map(GithubMapper::mapToGithubOrganizationResponse).toList());
     }
 }
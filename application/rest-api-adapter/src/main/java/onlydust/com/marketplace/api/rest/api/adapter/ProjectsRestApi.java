@@ -36,9 +36,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper.sanitizePageIndex;
 import static onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper.sanitizePageSize;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectBudgetMapper.mapProjectBudgetsViewToResponse;
+import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectContributorsMapper.mapProjectContributorsLinkViewCursorPageToResponse;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectContributorsMapper.mapProjectContributorsLinkViewPageToResponse;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectContributorsMapper.mapSortBy;
 import static onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectMapper.*;
@@ -133,10 +135,24 @@ public class ProjectsRestApi implements ProjectsApi {
                                                                            Integer pageSize,
                                                                            String login,
                                                                            String sort,
-                                                                           String direction) {
+                                                                           String direction,
+                                                                           String cursor) {
 
         final int sanitizedPageSize = sanitizePageSize(pageSize);
         final ProjectContributorsLinkView.SortBy sortBy = mapSortBy(sort);
+        if (nonNull(cursor)) {
+            final ContributorsPageResponse contributorsPageResponse =
+                    mapProjectContributorsLinkViewCursorPageToResponse(authenticationService.tryGetAuthenticatedUser()
+                            .map(user -> projectFacadePort.getContributorsForProjectLeadIdAfter(projectId, login,
+                                    user.getId(), sortBy, SortDirectionMapper.requestToDomain(direction),
+                                    cursor, sanitizedPageSize))
+                            .orElseGet(() -> projectFacadePort.getContributorsAfter(projectId, login,
+                                    sortBy, SortDirectionMapper.requestToDomain(direction),
+                                    cursor, sanitizedPageSize)));
+            return contributorsPageResponse.getHasMore() ?
+                    ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(contributorsPageResponse) :
+                    ResponseEntity.ok(contributorsPageResponse);
+        }
         final Page<ProjectContributorsLinkView> projectContributorsLinkViewPage =
                 authenticationService.tryGetAuthenticatedUser()
                         .map(user -> projectFacadePort.getContributorsForProjectLeadId(projectId, login, user.getId(),
@@ -4,7 +4,6 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.User;
@@ -13,24 +12,35 @@ import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.JwtService;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuthentication;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustGrantedAuthority;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.VerifiedTokenCache;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Base64;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
-@AllArgsConstructor
 public class Auth0JwtService implements JwtService {
     private final ObjectMapper objectMapper;
     private final JWTVerifier jwtVerifier;
     private final UserFacadePort userFacadePort;
+    private final VerifiedTokenCache<VerifiedJwt> verifiedTokens;
+
+    public Auth0JwtService(final ObjectMapper objectMapper, final JWTVerifier jwtVerifier,
+                           final UserFacadePort userFacadePort,
+                           final VerifiedTokenCache.Config verifiedTokenCacheConfig) {
+        this.objectMapper = objectMapper;
+        this.jwtVerifier = jwtVerifier;
+        this.userFacadePort = userFacadePort;
+        this.verifiedTokens = new VerifiedTokenCache<>(verifiedTokenCacheConfig);
+    }
 
     public Optional<OnlyDustAuthentication> getAuthenticationFromJwt(final String jwt, final String impersonationHeader) {
         try {
-            final DecodedJWT decodedJwt = this.jwtVerifier.verify(jwt);
-            final Auth0JwtClaims jwtClaims = objectMapper.readValue(Base64.getUrlDecoder().decode(decodedJwt.getPayload()),
-                    Auth0JwtClaims.class);
+            final VerifiedJwt verifiedJwt = verifiedTokens.get(jwt).orElseGet(() -> verify(jwt));
+            final DecodedJWT decodedJwt = verifiedJwt.decodedJwt();
+            final Auth0JwtClaims jwtClaims = verifiedJwt.claims();
             final User user = getUserFromClaims(jwtClaims);
 
             if (impersonationHeader != null && !impersonationHeader.isEmpty()) {
@@ -45,7 +55,7 @@ public class Auth0JwtService implements JwtService {
                     .principal(user.getGithubUserId().toString())
                     .impersonating(false)
                     .build());
-        } catch (IOException e) {
+        } catch (UncheckedIOException e) {
             LOGGER.error("Unable to deserialize Jwt token", e);
             return Optional.empty();
         } catch (Exception e) {
@@ -55,6 +65,20 @@ public class Auth0JwtService implements JwtService {
 
     }
 
+    private VerifiedJwt verify(final String jwt) {
+        final DecodedJWT decodedJwt = this.jwtVerifier.verify(jwt);
+        final Auth0JwtClaims jwtClaims;
+        try {
+            jwtClaims = objectMapper.readValue(Base64.getUrlDecoder().decode(decodedJwt.getPayload()),
+                    Auth0JwtClaims.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final VerifiedJwt verifiedJwt = new VerifiedJwt(decodedJwt, jwtClaims);
+        verifiedTokens.put(jwt, verifiedJwt, decodedJwt.getExpiresAt());
+        return verifiedJwt;
+    }
+
     private User getUserFromClaims(Auth0JwtClaims jwtClaims) {
         final Long githubUserId = Long.valueOf(jwtClaims.getGithubWithUserId().replaceFirst("github\\|", ""));
         return this.userFacadePort.getUserByGithubIdentity(GithubUserIdentity.builder()
@@ -92,4 +116,6 @@ public class Auth0JwtService implements JwtService {
                 .build());
     }
 
+    private record VerifiedJwt(DecodedJWT decodedJwt, Auth0JwtClaims claims) {
+    }
 }
@@ -1,44 +1,36 @@
 package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
 
-import com.auth0.jwk.JwkProvider;
-import com.auth0.jwk.JwkProviderBuilder;
+import com.auth0.jwk.UrlJwkProvider;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
-import com.auth0.jwt.interfaces.RSAKeyProvider;
-import lombok.SneakyThrows;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Optional;
 
-public class Auth0JwtVerifier implements JWTVerifier {
+public class Auth0JwtVerifier implements JWTVerifier, AutoCloseable {
+    private static final long DEFAULT_JWKS_REFRESH_INTERVAL_IN_SECONDS = 600L;
+    private static final int DEFAULT_JWKS_CONNECT_TIMEOUT_IN_MILLIS = 2000;
+    private static final int DEFAULT_JWKS_READ_TIMEOUT_IN_MILLIS = 3000;
+    private final JwksKeyStore keyStore;
     private final JWTVerifier jwtVerifier;
 
     public Auth0JwtVerifier(final Auth0Properties conf) {
-        JwkProvider provider = new JwkProviderBuilder(conf.getJwksUrl())
-                .build();
-
-        RSAKeyProvider keyProvider = new RSAKeyProvider() {
-            @SneakyThrows
-            @Override
-            public RSAPublicKey getPublicKeyById(String kid) {
-                return (RSAPublicKey) provider.get(kid).getPublicKey();
-            }
-
-            @Override
-            public RSAPrivateKey getPrivateKey() {
-                // return the private key used
-                return null;
-            }
-
-            @Override
-            public String getPrivateKeyId() {
-                return null;
-            }
-        };
-        Algorithm algorithm = Algorithm.RSA256(keyProvider);
+        final int connectTimeout = Optional.ofNullable(conf.getJwksConnectTimeoutInMillis())
+                .orElse(DEFAULT_JWKS_CONNECT_TIMEOUT_IN_MILLIS);
+        final int readTimeout = Optional.ofNullable(conf.getJwksReadTimeoutInMillis())
+                .orElse(DEFAULT_JWKS_READ_TIMEOUT_IN_MILLIS);
+        this.keyStore = new JwksKeyStore(
+                new UrlJwkProvider(jwksUrl(conf.getJwksUrl()), connectTimeout, readTimeout),
+                Duration.ofSeconds(Optional.ofNullable(conf.getJwksRefreshIntervalInSeconds())
+                        .orElse(DEFAULT_JWKS_REFRESH_INTERVAL_IN_SECONDS)),
+                Duration.ofMillis(connectTimeout + readTimeout));
+        Algorithm algorithm = Algorithm.RSA256(keyStore);
 
         this.jwtVerifier = JWT.require(algorithm)
                 .acceptExpiresAt(conf.getExpiresAtLeeway())
@@ -47,6 +39,15 @@ public class Auth0JwtVerifier implements JWTVerifier {
                 .build();
     }
 
+    private static URL jwksUrl(final String domain) {
+        final String url = domain.startsWith("http") ? domain : "https://" + domain;
+        try {
+            return URI.create(url).resolve("/.well-known/jwks.json").toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid JWKS url " + domain, e);
+        }
+    }
+
     @Override
     public DecodedJWT verify(String token) throws JWTVerificationException {
         return jwtVerifier.verify(token);
@@ -56,4 +57,9 @@ public class Auth0JwtVerifier implements JWTVerifier {
     public DecodedJWT verify(DecodedJWT jwt) throws JWTVerificationException {
         return jwtVerifier.verify(jwt);
     }
+
+    @Override
+    public void close() {
+        keyStore.close();
+    }
 }
@@ -12,4 +12,7 @@ import lombok.NoArgsConstructor;
 public class Auth0Properties {
     String jwksUrl;
     Long expiresAtLeeway;
+    Long jwksRefreshIntervalInSeconds;
+    Integer jwksConnectTimeoutInMillis;
+    Integer jwksReadTimeoutInMillis;
 }
@@ -0,0 +1,135 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.UrlJwkProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory store of the JWKS public keys. Keys are loaded once at startup, then refreshed in the background on a
+ * schedule and whenever a token comes with an unknown key id. Request threads only read the in-memory map: a token
+ * signed with a key that is not loaded yet is rejected until the background refresh brings the key in.
+ * Startup waits for the first load at most {@code fetchTimeout}, and a refresh still running after it is given up, so
+ * that a hung JWKS endpoint does not hold the next refreshes.
+ */
+@Slf4j
+public class JwksKeyStore implements RSAKeyProvider, AutoCloseable {
+
+    private static final Duration MIN_INTERVAL_BETWEEN_MISS_REFRESHES = Duration.ofSeconds(30);
+
+    private final UrlJwkProvider jwkProvider;
+    private final Duration fetchTimeout;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<CompletableFuture<Void>> inFlightRefresh = new AtomicReference<>();
+    private final AtomicLong lastMissRefreshAt = new AtomicLong();
+    private final AtomicLong missesSinceLastRefresh = new AtomicLong();
+    private volatile Map<String, RSAPublicKey> keysById = Map.of();
+
+    public JwksKeyStore(final UrlJwkProvider jwkProvider, final Duration refreshInterval,
+                        final Duration fetchTimeout) {
+        this.jwkProvider = jwkProvider;
+        this.fetchTimeout = fetchTimeout;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            refresh().get(fetchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            LOGGER.warn("JWKS keys not loaded within {}, they will be loaded in the background", fetchTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.executor.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String kid) {
+        final RSAPublicKey key = kid == null ? null : keysById.get(kid);
+        if (key == null) {
+            LOGGER.debug("Unknown JWKS key id {}", kid);
+            missesSinceLastRefresh.incrementAndGet();
+            refreshOnMiss(kid);
+        }
+        return key;
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return null;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return null;
+    }
+
+    /**
+     * Triggers a background refresh, or joins the one already running.
+     */
+    public CompletableFuture<Void> refresh() {
+        final CompletableFuture<Void> refresh = new CompletableFuture<>();
+        final CompletableFuture<Void> running = inFlightRefresh.compareAndExchange(null, refresh);
+        if (running != null) {
+            return running;
+        }
+        refresh.orTimeout(fetchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> inFlightRefresh.compareAndSet(refresh, null));
+        executor.execute(() -> {
+            try {
+                keysById = fetchKeys();
+            } catch (Exception e) {
+                LOGGER.error("Unable to refresh JWKS keys, keeping the {} known ones", keysById.size(), e);
+            } finally {
+                refresh.complete(null);
+            }
+        });
+        return refresh;
+    }
+
+    // warns once per refresh, as a client sending tokens signed with an unknown key would otherwise flood the logs
+    private void refreshOnMiss(final String kid) {
+        final long now = System.currentTimeMillis();
+        final long last = lastMissRefreshAt.get();
+        if (now - last >= MIN_INTERVAL_BETWEEN_MISS_REFRESHES.toMillis() && lastMissRefreshAt.compareAndSet(last,
+                now)) {
+            LOGGER.warn("Unknown JWKS key id {} ({} unknown key ids since the last refresh), refreshing the keys", kid,
+                    missesSinceLastRefresh.getAndSet(0));
+            refresh();
+        }
+    }
+
+    private Map<String, RSAPublicKey> fetchKeys() throws Exception {
+        final Map<String, RSAPublicKey> keys = new HashMap<>();
+        for (Jwk jwk : jwkProvider.getAll()) {
+            final PublicKey publicKey = jwk.getPublicKey();
+            if (jwk.getId() != null && publicKey instanceof RSAPublicKey rsaPublicKey) {
+                keys.put(jwk.getId(), rsaPublicKey);
+            }
+        }
+        LOGGER.info("Loaded {} JWKS keys", keys.size());
+        return Map.copyOf(keys);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -2,9 +2,7 @@ package onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.impl.crypto.DefaultJwtSignatureValidator;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.User;
@@ -15,6 +13,7 @@ import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuth
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustGrantedAuthority;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtHeader;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.VerifiedTokenCache;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
@@ -24,12 +23,24 @@ import java.util.stream.Collectors;
 
 import static io.jsonwebtoken.SignatureAlgorithm.HS256;
 
-@AllArgsConstructor
 @Slf4j
 public class HasuraJwtService implements JwtService {
     private final ObjectMapper objectMapper;
     private final JwtSecret jwtSecret;
     private final UserFacadePort userFacadePort;
+    private final DefaultJwtSignatureValidator signatureValidator;
+    private final VerifiedTokenCache<HasuraJwtPayload> verifiedTokens;
+
+    public HasuraJwtService(final ObjectMapper objectMapper, final JwtSecret jwtSecret,
+                            final UserFacadePort userFacadePort,
+                            final VerifiedTokenCache.Config verifiedTokenCacheConfig) {
+        this.objectMapper = objectMapper;
+        this.jwtSecret = jwtSecret;
+        this.userFacadePort = userFacadePort;
+        this.verifiedTokens = new VerifiedTokenCache<>(verifiedTokenCacheConfig);
+        this.signatureValidator = new DefaultJwtSignatureValidator(HS256,
+                new SecretKeySpec(jwtSecret.getKey().getBytes(), HS256.getJcaName()));
+    }
 
     private User getUserFromClaims(HasuraJwtPayload.HasuraClaims claims) {
         final Long githubUserId = claims.getGithubUserId();
@@ -42,6 +53,31 @@ public class HasuraJwtService implements JwtService {
 
     public Optional<OnlyDustAuthentication> getAuthenticationFromJwt(final String jwt,
                                                                      final String impersonationHeader) {
+        final Optional<HasuraJwtPayload> verifiedPayload = verifiedTokens.get(jwt).or(() -> verify(jwt));
+        if (verifiedPayload.isEmpty()) {
+            return Optional.empty();
+        }
+        final HasuraJwtPayload hasuraJwtPayload = verifiedPayload.get();
+
+        final User user = getUserFromClaims(hasuraJwtPayload.getClaims());
+
+        if (impersonationHeader != null && !impersonationHeader.isEmpty()) {
+            return getAuthenticationFromImpersonationHeader(hasuraJwtPayload, user, impersonationHeader, jwt);
+        }
+
+        return Optional.of(HasuraAuthentication.builder()
+                .user(user)
+                .authorities(user.getRoles().stream().map(OnlyDustGrantedAuthority::new).collect(Collectors.toList()))
+                .credentials(hasuraJwtPayload)
+                .isAuthenticated(true)
+                .claims(hasuraJwtPayload.getClaims())
+                .principal(user.getLogin())
+                .impersonating(false)
+                .jwt(jwt)
+                .build());
+    }
+
+    private Optional<HasuraJwtPayload> verify(final String jwt) {
         final String[] chunks = jwt.split("\\.");
         if (chunks.length != 3) {
             LOGGER.warn("Invalid Jwt format");
@@ -64,10 +100,7 @@ public class HasuraJwtService implements JwtService {
             return Optional.empty();
         }
 
-        final SignatureAlgorithm sa = HS256;
-        final SecretKeySpec secretKeySpec = new SecretKeySpec(jwtSecret.getKey().getBytes(), sa.getJcaName());
-        final DefaultJwtSignatureValidator validator = new DefaultJwtSignatureValidator(sa, secretKeySpec);
-        if (!validator.isValid(tokenWithoutSignature, signature)) {
+        if (!signatureValidator.isValid(tokenWithoutSignature, signature)) {
             LOGGER.warn("Invalid Jwt signature");
             return Optional.empty();
         }
@@ -85,22 +118,8 @@ public class HasuraJwtService implements JwtService {
             return Optional.empty();
         }
 
-        User user = getUserFromClaims(hasuraJwtPayload.getClaims());
-
-        if (impersonationHeader != null && !impersonationHeader.isEmpty()) {
-            return getAuthenticationFromImpersonationHeader(hasuraJwtPayload, user, impersonationHeader, jwt);
-        }
-
-        return Optional.of(HasuraAuthentication.builder()
-                .user(user)
-                .authorities(user.getRoles().stream().map(OnlyDustGrantedAuthority::new).collect(Collectors.toList()))
-                .credentials(hasuraJwtPayload)
-                .isAuthenticated(true)
-                .claims(hasuraJwtPayload.getClaims())
-                .principal(user.getLogin())
-                .impersonating(false)
-                .jwt(jwt)
-                .build());
+        verifiedTokens.put(jwt, hasuraJwtPayload, hasuraJwtPayload.getExp());
+        return Optional.of(hasuraJwtPayload);
     }
 
     private Optional<OnlyDustAuthentication> getAuthenticationFromImpersonationHeader(HasuraJwtPayload hasuraJwtPayload, User impersonator,
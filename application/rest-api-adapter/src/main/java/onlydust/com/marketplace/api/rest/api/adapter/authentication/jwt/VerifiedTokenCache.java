@@ -0,0 +1,119 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Bounded cache of already verified tokens, keyed by the SHA-256 of the token, so that the many calls made with the
+ * same token skip signature verification and claims parsing. An entry never outlives the token expiry.
+ * <p>
+ * Reads are lock free. When the cache is full, a single writer drops the expired entries, then the least recently
+ * used ones down to 90% of {@code maxSize}, so that the sort is paid once per tenth of the cache filled.
+ */
+public class VerifiedTokenCache<T> {
+
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong accessSequence = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maxSize;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public VerifiedTokenCache(final Config config) {
+        this(config.maxSize, Duration.ofSeconds(config.ttlInSeconds), Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(final int maxSize, final Duration maxTtl, final Clock clock) {
+        this.maxSize = maxSize;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+    }
+
+    public Optional<T> get(final String token) {
+        final String key = hash(token);
+        final Entry<T> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.expiresAt.isAfter(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        entry.lastAccess = accessSequence.incrementAndGet();
+        return Optional.of(entry.value);
+    }
+
+    public void put(final String token, final T value, final Date tokenExpiresAt) {
+        final Instant maxExpiresAt = clock.instant().plus(maxTtl);
+        final Instant expiresAt = tokenExpiresAt == null || tokenExpiresAt.toInstant().isAfter(maxExpiresAt) ?
+                maxExpiresAt : tokenExpiresAt.toInstant();
+        if (expiresAt.isAfter(clock.instant())) {
+            entries.put(hash(token), new Entry<>(value, expiresAt, accessSequence.incrementAndGet()));
+            if (entries.size() > maxSize && evictionLock.tryLock()) {
+                try {
+                    evict();
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+        }
+    }
+
+    private void evict() {
+        final Instant now = clock.instant();
+        entries.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+        final int targetSize = maxSize - maxSize / 10;
+        if (entries.size() <= targetSize) {
+            return;
+        }
+        // the access of an entry is read once, as it keeps changing while sorting
+        entries.entrySet().stream()
+                .map(entry -> new EvictionCandidate<>(entry.getKey(), entry.getValue(), entry.getValue().lastAccess))
+                .sorted(Comparator.comparingLong(EvictionCandidate::lastAccess))
+                .limit(entries.size() - targetSize)
+                .forEach(candidate -> entries.remove(candidate.key, candidate.entry));
+    }
+
+    private static String hash(final String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw OnlyDustException.internalServerError("SHA-256 is not available", e);
+        }
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final Instant expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(final T value, final Instant expiresAt, final long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private record EvictionCandidate<T>(String key, Entry<T> entry, long lastAccess) {
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        private Integer maxSize = 10_000;
+        private Long ttlInSeconds = 300L;
+    }
+}
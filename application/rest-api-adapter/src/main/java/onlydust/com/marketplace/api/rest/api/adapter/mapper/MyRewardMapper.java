@@ -21,6 +21,20 @@ public interface MyRewardMapper {
         myRewardsPageResponse.setTotalPageNumber(page.getTotalPageNumber());
         myRewardsPageResponse.setTotalItemNumber(page.getTotalItemNumber());
         myRewardsPageResponse.setNextPageIndex(PaginationHelper.nextPageIndex(pageIndex, page.getTotalPageNumber()));
+        myRewardsPageResponse.setNextCursor(page.getNextCursor());
+        page.getContent().stream()
+                .map(MyRewardMapper::mapMyRewardViewToResponse)
+                .forEach(myRewardsPageResponse::addRewardsItem);
+        return myRewardsPageResponse;
+    }
+
+    static MyRewardsPageResponse mapMyRewardsCursorPageToResponse(final Page<UserRewardView> page) {
+        final MyRewardsPageResponse myRewardsPageResponse = new MyRewardsPageResponse();
+        myRewardsPageResponse.setHasMore(Objects.nonNull(page.getNextCursor()));
+        myRewardsPageResponse.setTotalPageNumber(page.getTotalPageNumber());
+        myRewardsPageResponse.setTotalItemNumber(page.getTotalItemNumber());
+        myRewardsPageResponse.setNextPageIndex(0);
+        myRewardsPageResponse.setNextCursor(page.getNextCursor());
         page.getContent().stream()
                 .map(MyRewardMapper::mapMyRewardViewToResponse)
                 .forEach(myRewardsPageResponse::addRewardsItem);
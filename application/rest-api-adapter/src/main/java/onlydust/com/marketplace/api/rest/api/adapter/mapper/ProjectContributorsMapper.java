@@ -30,6 +30,19 @@ public interface ProjectContributorsMapper {
                 .map(ProjectContributorsMapper::mapProjectContributorsLinkViewToResponse).toList());
         contributorPageResponse.setHasMore(PaginationHelper.hasMore(pageIndex, page.getTotalPageNumber()));
         contributorPageResponse.setNextPageIndex(PaginationHelper.nextPageIndex(pageIndex, page.getTotalPageNumber()));
+        contributorPageResponse.setNextCursor(page.getNextCursor());
+        return contributorPageResponse;
+    }
+
+    static ContributorsPageResponse mapProjectContributorsLinkViewCursorPageToResponse(final Page<ProjectContributorsLinkView> page) {
+        final ContributorsPageResponse contributorPageResponse = new ContributorsPageResponse();
+        contributorPageResponse.setTotalPageNumber(page.getTotalPageNumber());
+        contributorPageResponse.setTotalItemNumber(page.getTotalItemNumber());
+        contributorPageResponse.setContributors(page.getContent().stream()
+                .map(ProjectContributorsMapper::mapProjectContributorsLinkViewToResponse).toList());
+        contributorPageResponse.setHasMore(page.getNextCursor() != null);
+        contributorPageResponse.setNextPageIndex(0);
+        contributorPageResponse.setNextCursor(page.getNextCursor());
         return contributorPageResponse;
     }
 
@@ -263,6 +263,9 @@ public interface ProjectMapper {
             if (sort.equals("CONTRIBUTOR_COUNT")) {
                 return ProjectCardView.SortBy.CONTRIBUTORS_COUNT;
             }
+            if (sort.equals("RELEVANCE")) {
+                return ProjectCardView.SortBy.RELEVANCE;
+            }
         }
         return null;
     }
@@ -5,6 +5,7 @@ import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.model.UserRole;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.VerifiedTokenCache;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -44,7 +45,8 @@ class Auth0JwtServiceTest {
                 .jwksUrl("https://onlydust-hackathon.eu.auth0.com/")
                 .expiresAtLeeway(ONE_CENTURY)
                 .build());
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new VerifiedTokenCache.Config());
 
         // When
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, null).orElseThrow();
@@ -85,7 +87,8 @@ class Auth0JwtServiceTest {
                 .jwksUrl("https://onlydust-hackathon.eu.auth0.com/")
                 .expiresAtLeeway(ONE_CENTURY)
                 .build());
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new VerifiedTokenCache.Config());
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, null);
 
         assertThat(authentication).isEmpty();
@@ -136,7 +139,8 @@ class Auth0JwtServiceTest {
                 .roles(List.of(UserRole.USER))
                 .build());
 
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new VerifiedTokenCache.Config());
 
         // When
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, impersonationHeader).orElseThrow();
@@ -202,7 +206,8 @@ class Auth0JwtServiceTest {
                 .roles(List.of(UserRole.USER))
                 .build());
 
-        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+        final Auth0JwtService auth0JwtService = new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort,
+                new VerifiedTokenCache.Config());
 
         // When
         final var authentication = auth0JwtService.getAuthenticationFromJwt(jwt, impersonationHeader);
@@ -0,0 +1,182 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0;
+
+import com.auth0.jwk.UrlJwkProvider;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksKeyStoreTest {
+
+    private final Map<String, RSAPublicKey> publishedKeys = new ConcurrentHashMap<>();
+    private final AtomicInteger jwksCallCount = new AtomicInteger();
+    private volatile CountDownLatch jwksLatch = new CountDownLatch(0);
+    private HttpServer jwksServer;
+    private JwksKeyStore keyStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/.well-known/jwks.json", exchange -> {
+            jwksCallCount.incrementAndGet();
+            try {
+                jwksLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] body = jwks().getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksServer.setExecutor(null);
+        jwksServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (keyStore != null) {
+            keyStore.close();
+        }
+        jwksServer.stop(0);
+    }
+
+    @Test
+    void should_serve_keys_from_memory() throws Exception {
+        // Given
+        final RSAPublicKey key = newKey();
+        publishedKeys.put("key-1", key);
+        keyStore = newKeyStore();
+
+        // When
+        final RSAPublicKey found1 = keyStore.getPublicKeyById("key-1");
+        final RSAPublicKey found2 = keyStore.getPublicKeyById("key-1");
+
+        // Then
+        assertThat(found1).isEqualTo(key);
+        assertThat(found2).isEqualTo(key);
+        assertThat(jwksCallCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_load_unknown_key_in_background() throws Exception {
+        // Given
+        keyStore = newKeyStore();
+        final RSAPublicKey rotatedKey = newKey();
+        publishedKeys.put("key-2", rotatedKey);
+
+        // When
+        final RSAPublicKey notYetKnown = keyStore.getPublicKeyById("key-2");
+        keyStore.refresh().get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(notYetKnown).isNull();
+        assertThat(keyStore.getPublicKeyById("key-2")).isEqualTo(rotatedKey);
+    }
+
+    @Test
+    void should_deduplicate_concurrent_refreshes() throws Exception {
+        // Given
+        keyStore = newKeyStore();
+        jwksLatch = new CountDownLatch(1);
+
+        // When
+        final var refresh1 = keyStore.refresh();
+        final var refresh2 = keyStore.refresh();
+        jwksLatch.countDown();
+        refresh1.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(refresh2).isSameAs(refresh1);
+        assertThat(jwksCallCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_keep_known_keys_when_jwks_is_unreachable() throws Exception {
+        // Given
+        final RSAPublicKey key = newKey();
+        publishedKeys.put("key-1", key);
+        keyStore = newKeyStore();
+        jwksServer.stop(0);
+
+        // When
+        keyStore.refresh().get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(keyStore.getPublicKeyById("key-1")).isEqualTo(key);
+    }
+
+    @Test
+    void should_not_wait_for_a_hung_jwks_at_startup() throws Exception {
+        // Given
+        final RSAPublicKey key = newKey();
+        publishedKeys.put("key-1", key);
+        jwksLatch = new CountDownLatch(1);
+
+        // When
+        final long start = System.currentTimeMillis();
+        keyStore = newKeyStore(Duration.ofMillis(200));
+        final long elapsed = System.currentTimeMillis() - start;
+        final var refresh = keyStore.refresh();
+        jwksLatch.countDown();
+        refresh.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(elapsed).isLessThan(2000);
+        assertThat(jwksCallCount.get()).isEqualTo(2);
+        assertThat(keyStore.getPublicKeyById("key-1")).isEqualTo(key);
+    }
+
+    private JwksKeyStore newKeyStore() throws IOException {
+        return newKeyStore(Duration.ofSeconds(10));
+    }
+
+    private JwksKeyStore newKeyStore(final Duration fetchTimeout) throws IOException {
+        return new JwksKeyStore(new UrlJwkProvider(new URL("http://localhost:%d/.well-known/jwks.json"
+                .formatted(jwksServer.getAddress().getPort()))), Duration.ofMinutes(10), fetchTimeout);
+    }
+
+    private static RSAPublicKey newKey() throws NoSuchAlgorithmException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+
+    private String jwks() {
+        return publishedKeys.entrySet().stream()
+                .map(entry -> """
+                        {"kty": "RSA", "use": "sig", "alg": "RS256", "kid": "%s", "n": "%s", "e": "%s"}"""
+                        .formatted(entry.getKey(), base64Url(entry.getValue().getModulus()),
+                                base64Url(entry.getValue().getPublicExponent())))
+                .collect(Collectors.joining(",", "{\"keys\": [", "]}"));
+    }
+
+    private static String base64Url(final BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -9,6 +9,7 @@ import onlydust.com.marketplace.api.domain.model.UserRole;
 import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuthentication;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.VerifiedTokenCache;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -60,7 +61,8 @@ public class HasuraJwtServiceTest {
 
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache.Config());
         final HasuraJwtPayload hasuraJwtPayload =
                 HasuraJwtPayload.builder()
                         .iss(jwtSecret.getIssuer())
@@ -106,7 +108,8 @@ public class HasuraJwtServiceTest {
         final UserFacadePort userFacadePort = mock(UserFacadePort.class);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache.Config());
 
         // When
         final Optional<OnlyDustAuthentication> authentication =
@@ -124,7 +127,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, false);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache.Config());
         final String jwtToken =
                 faker.cat().name() + "." + faker.pokemon().name() + "." + faker.pokemon().name();
 
@@ -142,7 +146,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, false);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache.Config());
         final String jwtToken = JwtHelper.generateValidJwtFor(jwtSecret, faker.pokemon().name());
 
         // When
@@ -160,7 +165,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, true);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache.Config());
         final HasuraJwtPayload hasuraJwtPayload =
                 HasuraJwtPayload.builder()
                         .iss(jwtSecret.getIssuer())
@@ -242,7 +248,8 @@ public class HasuraJwtServiceTest {
         final User user = mockUserFacadePort(userFacadePort, false);
         final JwtSecret jwtSecret = JwtSecret.builder().key(faker.cat().name()).issuer(faker.cat().breed()).type(
                 "HS256").build();
-        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+        final HasuraJwtService hasuraJwtService = new HasuraJwtService(objectMapper, jwtSecret, userFacadePort,
+                new VerifiedTokenCache.Config());
         final HasuraJwtPayload hasuraJwtPayload =
                 HasuraJwtPayload.builder()
                         .iss(jwtSecret.getIssuer())
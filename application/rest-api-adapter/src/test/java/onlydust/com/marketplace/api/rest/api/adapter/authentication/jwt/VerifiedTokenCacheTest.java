@@ -0,0 +1,120 @@
+package onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2023-11-02T10:00:00Z");
+
+    @Test
+    void should_keep_verified_token_until_its_expiry() {
+        // Given
+        final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+        final VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(5),
+                new Clock() {
+                    @Override
+                    public ZoneId getZone() {
+                        return ZoneOffset.UTC;
+                    }
+
+                    @Override
+                    public Clock withZone(ZoneId zone) {
+                        return this;
+                    }
+
+                    @Override
+                    public Instant instant() {
+                        return now.get();
+                    }
+                });
+
+        // When
+        cache.put("token", "claims", Date.from(NOW.plusSeconds(60)));
+
+        // Then
+        assertThat(cache.get("token")).contains("claims");
+        assertThat(cache.get("other-token")).isEmpty();
+
+        // When
+        now.set(NOW.plusSeconds(61));
+
+        // Then
+        assertThat(cache.get("token")).isEmpty();
+    }
+
+    @Test
+    void should_not_cache_expired_token() {
+        // Given
+        final VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(5),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // When
+        cache.put("token", "claims", Date.from(NOW.minusSeconds(1)));
+
+        // Then
+        assertThat(cache.get("token")).isEmpty();
+    }
+
+    @Test
+    void should_evict_least_recently_used_token() {
+        // Given
+        final VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(2, Duration.ofMinutes(5),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // When
+        cache.put("token-1", "claims-1", null);
+        cache.put("token-2", "claims-2", null);
+        cache.get("token-1");
+        cache.put("token-3", "claims-3", null);
+
+        // Then
+        assertThat(cache.get("token-1")).contains("claims-1");
+        assertThat(cache.get("token-2")).isEmpty();
+        assertThat(cache.get("token-3")).contains("claims-3");
+    }
+
+    @Test
+    void should_evict_expired_tokens_before_used_ones() {
+        // Given
+        final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+        final VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(2, Duration.ofMinutes(5),
+                new Clock() {
+                    @Override
+                    public ZoneId getZone() {
+                        return ZoneOffset.UTC;
+                    }
+
+                    @Override
+                    public Clock withZone(ZoneId zone) {
+                        return this;
+                    }
+
+                    @Override
+                    public Instant instant() {
+                        return now.get();
+                    }
+                });
+        cache.put("token-1", "claims-1", null);
+        cache.put("token-2", "claims-2", Date.from(NOW.plusSeconds(60)));
+        cache.get("token-2");
+
+        // When
+        now.set(NOW.plusSeconds(61));
+        cache.put("token-3", "claims-3", null);
+
+        // Then
+        assertThat(cache.get("token-1")).contains("claims-1");
+        assertThat(cache.get("token-2")).isEmpty();
+        assertThat(cache.get("token-3")).contains("claims-3");
+    }
+}
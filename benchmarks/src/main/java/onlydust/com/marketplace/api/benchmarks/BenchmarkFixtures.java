@@ -0,0 +1,184 @@
+package onlydust.com.marketplace.api.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import onlydust.com.marketplace.api.domain.model.ContributionType;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.model.UserRole;
+import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Page;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectPageItemFiltersViewEntity;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectPageItemViewEntity;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic, production-shaped data sets shared by the benchmarks. Read entities only expose package-private
+ * fields, so they are built the way Hibernate fills their jsonb columns: through Jackson with field access.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String[] TECHNOLOGIES = {"Rust", "TypeScript", "Cairo", "Go", "Python", "Java", "Solidity",
+            "Kotlin", "C++", "Shell", "HTML", "CSS"};
+    private static final String[] SPONSORS = {"Starknet Foundation", "Ethereum Foundation", "OnlyDust", "Aptos",
+            "Theodo", "No Sponsor", "Coca Cola", "Red Bull"};
+
+    private static final ObjectMapper ENTITY_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Same configuration as the application ObjectMapper bean, which Spring MVC uses to write responses.
+     */
+    public static ObjectMapper applicationObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+
+    public static List<ProjectPageItemViewEntity> projectPageItems(final int count) {
+        final Random random = new Random(42);
+        final List<Map<String, Object>> rows = IntStream.range(0, count).mapToObj(i -> {
+            final Map<String, Object> row = new HashMap<>();
+            row.put("projectId", uuid(random));
+            row.put("hiring", i % 3 == 0);
+            row.put("logoUrl", "https://onlydust-app-images.s3.eu-west-1.amazonaws.com/project-%d.png".formatted(i));
+            row.put("key", "project-%d".formatted(i));
+            row.put("name", "Project %d".formatted(i));
+            row.put("shortDescription", "A short description of project %d, as entered by its leads".formatted(i));
+            row.put("visibility", i % 10 == 0 ? "PRIVATE" : "PUBLIC");
+            row.put("repoCount", 1 + random.nextInt(20));
+            row.put("contributorsCount", random.nextInt(500));
+            row.put("isPendingProjectLead", i % 7 == 0);
+            row.put("isMissingGithubAppInstallation", i % 5 == 0);
+            row.put("sponsors", IntStream.range(0, random.nextInt(4)).mapToObj(s -> sponsor(random)).toList());
+            row.put("projectLeads", IntStream.range(0, 1 + random.nextInt(3)).mapToObj(l -> projectLead(random)).toList());
+            row.put("technologies", IntStream.range(0, 1 + random.nextInt(5)).mapToObj(t -> technologies(random)).toList());
+            row.put("totalItemNumber", count);
+            row.put("technologyNames", List.of(TECHNOLOGIES));
+            row.put("sponsorNames", List.of(SPONSORS));
+            return row;
+        }).toList();
+        return ENTITY_MAPPER.convertValue(rows, new TypeReference<List<ProjectPageItemViewEntity>>() {
+        });
+    }
+
+    public static List<ProjectPageItemFiltersViewEntity> projectPageItemFilters(final int count) {
+        final Random random = new Random(42);
+        final List<Map<String, Object>> rows = IntStream.range(0, count).mapToObj(i -> {
+            final Map<String, Object> row = new HashMap<>();
+            row.put("projectId", uuid(random));
+            row.put("sponsors", IntStream.range(0, random.nextInt(4)).mapToObj(s -> sponsor(random)).toList());
+            row.put("technologies", IntStream.range(0, 1 + random.nextInt(5)).mapToObj(t -> technologies(random)).toList());
+            return row;
+        }).toList();
+        return ENTITY_MAPPER.convertValue(rows, new TypeReference<List<ProjectPageItemFiltersViewEntity>>() {
+        });
+    }
+
+    public static Page<ProjectCardView> projectCardPage(final int count) {
+        final List<ProjectPageItemViewEntity> entities = projectPageItems(count);
+        return Page.<ProjectCardView>builder()
+                .content(entities.stream().map(entity -> entity.toView(null)).toList())
+                .totalItemNumber(ProjectPageItemViewEntity.totalItemNumber(entities) * 5)
+                .totalPageNumber(5)
+                .filters(ProjectPageItemViewEntity.filters(entities))
+                .build();
+    }
+
+    public static Page<RewardItemView> rewardItemPage(final int count) {
+        final Random random = new Random(42);
+        final ContributionType[] types = ContributionType.values();
+        final RewardItemStatus[] statuses = RewardItemStatus.values();
+        return Page.<RewardItemView>builder()
+                .content(IntStream.range(0, count).mapToObj(i -> {
+                    final ContributionType type = types[i % types.length];
+                    return RewardItemView.builder()
+                            .id(Long.toHexString(random.nextLong()))
+                            .number((long) random.nextInt(10_000))
+                            .title("Contribution %d title".formatted(i))
+                            .githubUrl("https://github.com/onlydustxyz/marketplace/pull/%d".formatted(i))
+                            .createdAt(new Date(1_690_000_000_000L + i * 3_600_000L))
+                            .lastUpdateAt(new Date(1_690_000_000_000L + i * 7_200_000L))
+                            .repoName("marketplace")
+                            .type(type)
+                            .status(statuses[i % statuses.length])
+                            .commitsCount(random.nextInt(50))
+                            .userCommitsCount(random.nextInt(50))
+                            .commentsCount(random.nextInt(30))
+                            .githubAuthorId(random.nextLong())
+                            .authorLogin("contributor-%d".formatted(i))
+                            .authorAvatarUrl("https://avatars.githubusercontent.com/u/%d?v=4".formatted(i))
+                            .authorGithubUrl("https://github.com/contributor-%d".formatted(i))
+                            .outcome(type == ContributionType.CODE_REVIEW ? CodeReviewOutcome.approved : null)
+                            .build();
+                }).toList())
+                .totalItemNumber(count * 3)
+                .totalPageNumber(3)
+                .build();
+    }
+
+    public static User user(final int projectsLedCount) {
+        final Random random = new Random(42);
+        return User.builder()
+                .id(uuid(random))
+                .githubUserId(595505L)
+                .login("ofux")
+                .avatarUrl("https://avatars.githubusercontent.com/u/595505?v=4")
+                .roles(List.of(UserRole.USER))
+                .hasAcceptedLatestTermsAndConditions(true)
+                .hasSeenOnboardingWizard(true)
+                .projectsLed(IntStream.range(0, projectsLedCount).mapToObj(i -> projectLed(random, i)).toList())
+                .pendingProjectsLed(IntStream.range(0, projectsLedCount / 2).mapToObj(i -> projectLed(random, i)).toList())
+                .build();
+    }
+
+    private static ProjectLedView projectLed(final Random random, final int index) {
+        return ProjectLedView.builder()
+                .id(uuid(random))
+                .slug("project-%d".formatted(index))
+                .name("Project %d".formatted(index))
+                .logoUrl("https://onlydust-app-images.s3.eu-west-1.amazonaws.com/project-%d.png".formatted(index))
+                .contributorCount((long) random.nextInt(500))
+                .build();
+    }
+
+    private static Map<String, Object> sponsor(final Random random) {
+        final String name = SPONSORS[random.nextInt(SPONSORS.length)];
+        return Map.of("id", uuid(random),
+                "name", name,
+                "url", "https://%s.com".formatted(name.toLowerCase().replace(' ', '-')),
+                "logoUrl", "https://logos.com/%s.png".formatted(name.toLowerCase().replace(' ', '-')));
+    }
+
+    private static Map<String, Object> projectLead(final Random random) {
+        final long githubId = random.nextInt(10_000_000);
+        return Map.of("id", uuid(random),
+                "githubId", githubId,
+                "login", "lead-%d".formatted(githubId),
+                "url", "https://github.com/lead-%d".formatted(githubId),
+                "avatarUrl", "https://avatars.githubusercontent.com/u/%d?v=4".formatted(githubId));
+    }
+
+    private static Map<String, Long> technologies(final Random random) {
+        final Map<String, Long> technologies = new HashMap<>();
+        for (int i = 0; i < 1 + random.nextInt(4); i++) {
+            technologies.put(TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)], (long) random.nextInt(100_000));
+        }
+        return technologies;
+    }
+
+    private static UUID uuid(final Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,23 @@
+package onlydust.com.marketplace.api.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks from the IDE with the gc profiler, so that allocation rates ({@code gc.alloc.rate.norm}, in
+ * bytes per operation) are reported next to timings. An optional argument restricts the run to the benchmarks
+ * matching that regular expression.
+ */
+public class BenchmarksRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarksRunner.class.getPackageName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,115 @@
+package onlydust.com.marketplace.api.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.impl.crypto.DefaultJwtSigner;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.OnlyDustAuthentication;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraJwtPayload;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraJwtService;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtHeader;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS256;
+
+/**
+ * Measures the authentication of a request carrying a Hasura JWT, the user lookup being stubbed. {@code cachedToken}
+ * replays the same token, as a browser session does; {@code uncachedToken} cycles through more distinct tokens than
+ * the verified token cache can hold, so that every call goes through signature verification and payload parsing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class HasuraJwtServiceBenchmark {
+
+    private static final ObjectMapper TOKEN_MAPPER = new ObjectMapper();
+    private static final JwtSecret JWT_SECRET = JwtSecret.builder()
+            .type("HS256")
+            .issuer("hasura-auth-benchmark")
+            .key("benchmark-secret-key-that-is-long-enough-for-hs256")
+            .build();
+
+    private HasuraJwtService hasuraJwtService;
+    private String cachedToken;
+    private String[] distinctTokens;
+    private int nextTokenIndex;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        final ObjectMapper objectMapper = BenchmarkFixtures.applicationObjectMapper();
+        final User user = BenchmarkFixtures.user(3);
+        final VerifiedTokenCache.Config verifiedTokenCacheConfig = new VerifiedTokenCache.Config();
+        hasuraJwtService = new HasuraJwtService(objectMapper, JWT_SECRET, userFacadeReturning(user),
+                verifiedTokenCacheConfig);
+
+        cachedToken = token(user, 0);
+        distinctTokens = new String[verifiedTokenCacheConfig.getMaxSize() * 2];
+        for (int i = 0; i < distinctTokens.length; i++) {
+            distinctTokens[i] = token(user, i + 1);
+        }
+    }
+
+    @Benchmark
+    public Optional<OnlyDustAuthentication> cachedToken() {
+        return hasuraJwtService.getAuthenticationFromJwt(cachedToken, null);
+    }
+
+    @Benchmark
+    public Optional<OnlyDustAuthentication> uncachedToken() {
+        final String token = distinctTokens[nextTokenIndex];
+        nextTokenIndex = (nextTokenIndex + 1) % distinctTokens.length;
+        return hasuraJwtService.getAuthenticationFromJwt(token, null);
+    }
+
+    private static String token(final User user, final int sessionIndex) throws JsonProcessingException {
+        final Date issuedAt = new Date(System.currentTimeMillis() - sessionIndex * 1000L);
+        final HasuraJwtPayload payload = HasuraJwtPayload.builder()
+                .sub(user.getId().toString())
+                .iss(JWT_SECRET.getIssuer())
+                .iat(issuedAt)
+                .exp(new Date(issuedAt.getTime() + TimeUnit.DAYS.toMillis(1)))
+                .claims(HasuraJwtPayload.HasuraClaims.builder()
+                        .userId(user.getId())
+                        .githubUserId(user.getGithubUserId())
+                        .login(user.getLogin())
+                        .avatarUrl(user.getAvatarUrl())
+                        .allowedRoles(List.of("me", "public", "registered_user"))
+                        .defaultRole("registered_user")
+                        .isAnonymous(false)
+                        .isAnOnlydustAdmin(false)
+                        .build())
+                .build();
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        final String headerAndPayload =
+                encoder.encodeToString(TOKEN_MAPPER.writeValueAsBytes(JwtHeader.builder().alg("HS256").build()))
+                + "." + encoder.encodeToString(TOKEN_MAPPER.writeValueAsBytes(payload));
+        final DefaultJwtSigner signer = new DefaultJwtSigner(HS256,
+                new SecretKeySpec(JWT_SECRET.getKey().getBytes(), HS256.getJcaName()));
+        return headerAndPayload + "." + signer.sign(headerAndPayload);
+    }
+
+    private static UserFacadePort userFacadeReturning(final User user) {
+        return (UserFacadePort) Proxy.newProxyInstance(UserFacadePort.class.getClassLoader(),
+                new Class<?>[]{UserFacadePort.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getUserByGithubIdentity" -> user;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserFacadePort stub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package onlydust.com.marketplace.api.benchmarks;
+
+import onlydust.com.marketplace.api.domain.view.ProjectCardView;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectPageItemFiltersViewEntity;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectPageItemViewEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ProjectPageItemViewEntityBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private List<ProjectPageItemViewEntity> page;
+    private List<ProjectPageItemFiltersViewEntity> allProjectsFilters;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.projectPageItems(pageSize);
+        allProjectsFilters = BenchmarkFixtures.projectPageItemFilters(pageSize * 10);
+        userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public List<ProjectCardView> toView() {
+        final List<ProjectCardView> views = new ArrayList<>(page.size());
+        for (ProjectPageItemViewEntity entity : page) {
+            views.add(entity.toView(userId));
+        }
+        return views;
+    }
+
+    @Benchmark
+    public Map<String, Set<String>> filters() {
+        return ProjectPageItemViewEntity.filters(page);
+    }
+
+    @Benchmark
+    public Map<String, Set<String>> entitiesToFilters() {
+        return ProjectPageItemFiltersViewEntity.entitiesToFilters(allProjectsFilters);
+    }
+}
@@ -0,0 +1,43 @@
+package onlydust.com.marketplace.api.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import onlydust.com.marketplace.api.contract.model.ProjectPageResponse;
+import onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ProjectPageResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter projectPageWriter;
+    private ProjectPageResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.applicationObjectMapper();
+        projectPageWriter = objectMapper.writerFor(ProjectPageResponse.class);
+        response = ProjectMapper.mapProjectCards(BenchmarkFixtures.projectCardPage(pageSize), 0);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytesWithTypedWriter() throws JsonProcessingException {
+        return projectPageWriter.writeValueAsBytes(response);
+    }
+}
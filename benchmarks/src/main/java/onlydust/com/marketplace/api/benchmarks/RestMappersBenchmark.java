@@ -0,0 +1,53 @@
+package onlydust.com.marketplace.api.benchmarks;
+
+import onlydust.com.marketplace.api.contract.model.GetMeResponse;
+import onlydust.com.marketplace.api.contract.model.ProjectPageResponse;
+import onlydust.com.marketplace.api.contract.model.RewardItemsPageResponse;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.view.ProjectCardView;
+import onlydust.com.marketplace.api.domain.view.RewardItemView;
+import onlydust.com.marketplace.api.domain.view.pagination.Page;
+import onlydust.com.marketplace.api.rest.api.adapter.mapper.ProjectMapper;
+import onlydust.com.marketplace.api.rest.api.adapter.mapper.RewardMapper;
+import onlydust.com.marketplace.api.rest.api.adapter.mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class RestMappersBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private Page<ProjectCardView> projectCards;
+    private Page<RewardItemView> rewardItems;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        projectCards = BenchmarkFixtures.projectCardPage(pageSize);
+        rewardItems = BenchmarkFixtures.rewardItemPage(pageSize);
+        user = BenchmarkFixtures.user(pageSize / 10);
+    }
+
+    @Benchmark
+    public ProjectPageResponse mapProjectCards() {
+        return ProjectMapper.mapProjectCards(projectCards, 0);
+    }
+
+    @Benchmark
+    public RewardItemsPageResponse mapRewardItems() {
+        return RewardMapper.pageToResponse(0, rewardItems);
+    }
+
+    @Benchmark
+    public GetMeResponse userToGetMeResponse() {
+        return UserMapper.userToGetMeResponse(user);
+    }
+}
@@ -0,0 +1,119 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Access log of the REST API, written to the {@code access-log} logger (asynchronously appended, see logback.xml).
+ * Only a sample of the calls is logged, except slow and failed ones which are always logged. Arguments are only
+ * rendered for logged calls, redacted when their name matches a sensitive fragment and truncated.
+ */
+@Aspect
+@AllArgsConstructor
+public class AccessLogAspect {
+
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger("access-log");
+    private static final String REDACTED = "<redacted>";
+    private static final String TRUNCATED = "...";
+
+    private final Config config;
+
+    @Around("(execution(* onlydust.com.marketplace.api.rest.api.adapter.*.*(..)))")
+    public Object around(ProceedingJoinPoint point) throws Throwable {
+        final long start = System.nanoTime();
+        try {
+            final Object result = point.proceed();
+            if (result instanceof CompletableFuture<?> asyncResult) {
+                // asynchronous endpoints are logged once their response is completed
+                asyncResult.whenComplete((response, error) -> log(point, System.nanoTime() - start,
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+            } else {
+                log(point, System.nanoTime() - start, null);
+            }
+            return result;
+        } catch (Throwable e) {
+            log(point, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    private void log(final ProceedingJoinPoint point, final long durationInNanos, final Throwable error) {
+        final long durationInMillis = durationInNanos / 1_000_000;
+        final boolean slow = durationInMillis >= config.getSlowThresholdInMillis();
+        if (error == null && !slow && !sampled()) {
+            return;
+        }
+        if (error != null || slow) {
+            if (ACCESS_LOGGER.isWarnEnabled()) {
+                ACCESS_LOGGER.warn("{} {} {} {} {}", kv("method", point.getSignature().getName()),
+                        kv("durationInMillis", durationInMillis), kv("slow", slow),
+                        kv("error", error == null ? null : error.getClass().getSimpleName()),
+                        kv("arguments", arguments(point)));
+            }
+        } else if (ACCESS_LOGGER.isInfoEnabled()) {
+            ACCESS_LOGGER.info("{} {} {}", kv("method", point.getSignature().getName()),
+                    kv("durationInMillis", durationInMillis), kv("arguments", arguments(point)));
+        }
+    }
+
+    private boolean sampled() {
+        final double sampleRate = config.getSampleRate();
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private List<String> arguments(final ProceedingJoinPoint point) {
+        final String[] names = ((CodeSignature) point.getSignature()).getParameterNames();
+        final Object[] values = point.getArgs();
+        final List<String> arguments = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            final String name = names == null ? "arg" + i : names[i];
+            arguments.add(name + "=" + render(name, values[i]));
+        }
+        return arguments;
+    }
+
+    private String render(final String name, final Object value) {
+        final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        if (config.getRedactedArguments().stream().anyMatch(fragment ->
+                lowerCaseName.contains(fragment.toLowerCase(Locale.ROOT)))) {
+            return REDACTED;
+        }
+        if (value instanceof InputStreamSource || value instanceof InputStream || value instanceof byte[]) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        final String rendered = String.valueOf(value);
+        final int maxLength = config.getMaxArgumentLength();
+        return rendered.length() <= maxLength ? rendered : rendered.substring(0, maxLength) + TRUNCATED;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        Double sampleRate = 0.1;
+        Long slowThresholdInMillis = 1000L;
+        Integer maxArgumentLength = 256;
+        List<String> redactedArguments = new ArrayList<>(List.of("password", "secret", "token", "key", "payout",
+                "contact"));
+    }
+}
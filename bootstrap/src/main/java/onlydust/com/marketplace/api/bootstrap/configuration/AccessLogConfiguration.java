@@ -0,0 +1,22 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+@Configuration
+@EnableAspectJAutoProxy
+public class AccessLogConfiguration {
+
+    @Bean
+    @ConfigurationProperties("application.access-log")
+    public AccessLogAspect.Config accessLogConfig() {
+        return new AccessLogAspect.Config();
+    }
+
+    @Bean
+    public AccessLogAspect accessLogAspect(final AccessLogAspect.Config accessLogConfig) {
+        return new AccessLogAspect(accessLogConfig);
+    }
+}
@@ -0,0 +1,44 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import lombok.AllArgsConstructor;
+import onlydust.com.marketplace.api.domain.service.CachedPermissionService;
+import onlydust.com.marketplace.api.domain.service.CachedUserFacade;
+import org.apache.commons.lang3.tuple.Pair;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.UUID;
+
+/**
+ * Project creation and update may add, invite or remove project leads, which changes the projects led by users held
+ * in the user cache. These writes are rare, so the whole cache is dropped after them, on every node.
+ * They also change the leads and repos of the project held by the permission cache, as does accepting an invitation
+ * to lead a project, so the project is evicted from it.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+@Aspect
+@AllArgsConstructor
+public class CacheInvalidationConfiguration {
+
+    private final ObjectProvider<CachedUserFacade> cachedUserFacade;
+    private final ObjectProvider<CachedPermissionService> cachedPermissionService;
+
+    @AfterReturning(pointcut =
+            "execution(* onlydust.com.marketplace.api.domain.port.input.ProjectFacadePort.createProject(..))" +
+            " || execution(* onlydust.com.marketplace.api.domain.port.input.ProjectFacadePort.updateProject(..))",
+            returning = "projectIdAndSlug")
+    public void invalidateAfterProjectLeadsChange(final Pair<UUID, String> projectIdAndSlug) {
+        cachedUserFacade.ifAvailable(CachedUserFacade::invalidateAll);
+        cachedPermissionService.ifAvailable(service -> service.invalidateProject(projectIdAndSlug.getLeft()));
+    }
+
+    @AfterReturning("execution(* onlydust.com.marketplace.api.domain.port.input.UserFacadePort.acceptInvitationToLeadProject(..))" +
+                    " && args(githubUserId, projectId)")
+    public void invalidateAfterProjectLeaderInvitationAcceptance(final Long githubUserId, final UUID projectId) {
+        cachedPermissionService.ifAvailable(service -> service.invalidateProject(projectId));
+    }
+}
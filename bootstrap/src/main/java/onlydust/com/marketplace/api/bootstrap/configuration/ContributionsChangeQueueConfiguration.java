@@ -0,0 +1,105 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.port.output.ContributionsChangeQueuePort;
+import onlydust.com.marketplace.api.domain.service.ContributionService;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contributions change events are acknowledged as soon as they are stored in the contributions_change_queue table.
+ * A bounded pool of workers then drains the queue, each pending repo being refreshed once whatever the number of
+ * events received for it in the meantime.
+ */
+@Configuration
+@Slf4j
+public class ContributionsChangeQueueConfiguration {
+
+    @Bean
+    @ConfigurationProperties("application.contributions-change-queue")
+    public Properties contributionsChangeQueueProperties() {
+        return new Properties();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService contributionsChangeQueueWorkers(final ContributionService contributionService,
+                                                                    final Properties contributionsChangeQueueProperties) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ScheduledExecutorService executor =
+                Executors.newScheduledThreadPool(Math.max(contributionsChangeQueueProperties.getWorkers(), 1),
+                        runnable -> {
+                            final Thread thread = new Thread(runnable,
+                                    "contributions-change-worker-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        final long pollDelay = contributionsChangeQueueProperties.getPollDelayInMillis();
+        for (int i = 0; i < contributionsChangeQueueProperties.getWorkers(); i++) {
+            executor.scheduleWithFixedDelay(() -> drain(contributionService), pollDelay, pollDelay,
+                    TimeUnit.MILLISECONDS);
+        }
+        return executor;
+    }
+
+    /**
+     * The gauges read the last sample, so that scraping the metrics does not query the database.
+     */
+    @Bean
+    public MeterBinder contributionsChangeQueueMetrics(final ContributionsChangeQueuePort contributionsChangeQueuePort,
+                                                       final ScheduledExecutorService contributionsChangeQueueWorkers,
+                                                       final Properties contributionsChangeQueueProperties) {
+        final AtomicLong depth = new AtomicLong();
+        // 0 when the queue is empty
+        final AtomicLong oldestEnqueuedAt = new AtomicLong();
+        final long sampleInterval = contributionsChangeQueueProperties.getMetricsSampleIntervalInMillis();
+        contributionsChangeQueueWorkers.scheduleWithFixedDelay(() -> {
+            try {
+                depth.set(contributionsChangeQueuePort.depth());
+                oldestEnqueuedAt.set(contributionsChangeQueuePort.oldestEnqueuedAt().map(Date::getTime).orElse(0L));
+            } catch (Exception e) {
+                LOGGER.warn("Failed to sample contributions change queue metrics", e);
+            }
+        }, 0, sampleInterval, TimeUnit.MILLISECONDS);
+
+        return registry -> {
+            Gauge.builder("contributions.change.queue.depth", depth, AtomicLong::get)
+                    .description("Number of repos waiting for their ignored contributions to be refreshed")
+                    .register(registry);
+            Gauge.builder("contributions.change.queue.lag", oldestEnqueuedAt,
+                            enqueuedAt -> enqueuedAt.get() == 0 ? 0.0 :
+                                    (System.currentTimeMillis() - enqueuedAt.get()) / 1000.0)
+                    .description("Age of the oldest pending contributions change")
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    private static void drain(final ContributionService contributionService) {
+        try {
+            while (contributionService.processNextContributionsChange()) {
+                LOGGER.debug("Processed a contributions change");
+            }
+        } catch (Exception e) {
+            // the change stays in the queue and is retried once its lease expires
+            LOGGER.error("Failed to process contributions change", e);
+        }
+    }
+
+    @Data
+    public static class Properties {
+        Integer workers = 2;
+        Long pollDelayInMillis = 1000L;
+        Long metricsSampleIntervalInMillis = 15000L;
+    }
+}
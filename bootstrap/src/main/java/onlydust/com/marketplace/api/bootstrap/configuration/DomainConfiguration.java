@@ -8,6 +8,7 @@ import onlydust.com.marketplace.api.postgres.adapter.PostgresGithubAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresProjectAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresUserAdapter;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraAuthentication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,9 +25,10 @@ public class DomainConfiguration {
     }
 
     @Bean
-    public ContributionFacadePort contributionFacadePort(final ContributionStoragePort contributionStoragePort,
-                                                         final PermissionService permissionService) {
-        return new ContributionService(contributionStoragePort, permissionService);
+    public ContributionService contributionFacadePort(final ContributionStoragePort contributionStoragePort,
+                                                      final PermissionService permissionService,
+                                                      final ContributionsChangeQueuePort contributionsChangeQueuePort) {
+        return new ContributionService(contributionStoragePort, permissionService, contributionsChangeQueuePort);
     }
 
     @Bean
@@ -47,13 +49,19 @@ public class DomainConfiguration {
 
 
     @Bean
-    public GithubInstallationFacadePort githubInstallationFacadePort(
+    @ConfigurationProperties("application.github.installation.await")
+    public AwaitingGithubInstallationFacade.Config githubInstallationAwaitConfig() {
+        return new AwaitingGithubInstallationFacade.Config();
+    }
+
+    @Bean
+    public AwaitingGithubInstallationFacade githubInstallationFacadePort(
             final PostgresGithubAdapter postgresGithubAdapter,
             final GithubSearchPort githubSearchPort,
-            final RetriedGithubInstallationFacade.Config config
+            final AwaitingGithubInstallationFacade.Config githubInstallationAwaitConfig
     ) {
-        return new RetriedGithubInstallationFacade(new GithubAccountService(postgresGithubAdapter, githubSearchPort),
-                config);
+        return new AwaitingGithubInstallationFacade(new GithubAccountService(postgresGithubAdapter, githubSearchPort),
+                githubInstallationAwaitConfig);
     }
 
     @Bean
@@ -62,9 +70,20 @@ public class DomainConfiguration {
     }
 
     @Bean
-    public UserFacadePort userFacadePort(final PostgresUserAdapter postgresUserAdapter,
-                                         final DateProvider dateProvider) {
-        return new UserService(postgresUserAdapter, dateProvider);
+    @ConfigurationProperties("application.user-cache")
+    public CachedUserFacade.Config userCacheConfig() {
+        return new CachedUserFacade.Config();
+    }
+
+    @Bean
+    public CachedUserFacade userFacadePort(final PostgresUserAdapter postgresUserAdapter,
+                                           final DateProvider dateProvider,
+                                           final CachedUserFacade.Config userCacheConfig,
+                                           final CacheInvalidationPort cacheInvalidationPort) {
+        final CachedUserFacade cachedUserFacade = new CachedUserFacade(new UserService(postgresUserAdapter,
+                dateProvider), dateProvider, userCacheConfig, cacheInvalidationPort);
+        cacheInvalidationPort.subscribe(cachedUserFacade::onInvalidation);
+        return cachedUserFacade;
     }
 
     @Bean
@@ -77,9 +96,21 @@ public class DomainConfiguration {
 
 
     @Bean
-    PermissionService permissionService(final ProjectStoragePort projectStoragePort,
-                                        final ContributionStoragePort contributionStoragePort) {
-        return new PermissionService(projectStoragePort, contributionStoragePort);
+    @ConfigurationProperties("application.permission-cache")
+    public CachedPermissionService.Config permissionCacheConfig() {
+        return new CachedPermissionService.Config();
+    }
+
+    @Bean
+    CachedPermissionService permissionService(final ProjectStoragePort projectStoragePort,
+                                              final ContributionStoragePort contributionStoragePort,
+                                              final DateProvider dateProvider,
+                                              final CachedPermissionService.Config permissionCacheConfig,
+                                              final CacheInvalidationPort cacheInvalidationPort) {
+        final CachedPermissionService cachedPermissionService = new CachedPermissionService(projectStoragePort,
+                contributionStoragePort, dateProvider, permissionCacheConfig, cacheInvalidationPort);
+        cacheInvalidationPort.subscribe(cachedPermissionService::onInvalidation);
+        return cachedPermissionService;
     }
 
     @Bean
@@ -3,28 +3,26 @@ package onlydust.com.marketplace.api.bootstrap.configuration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
-import onlydust.com.marketplace.api.domain.service.RetriedGithubInstallationFacade;
 import onlydust.com.marketplace.api.github_api.GithubHttpClient;
+import onlydust.com.marketplace.api.github_api.GithubTokenPool;
+import onlydust.com.marketplace.api.github_api.adapters.CachedGithubSearchApiAdapter;
 import onlydust.com.marketplace.api.github_api.adapters.GithubDustyBotAdapter;
 import onlydust.com.marketplace.api.github_api.adapters.GithubSearchApiAdapter;
 import onlydust.com.marketplace.api.github_api.properties.GithubPaginationProperties;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.net.http.HttpClient;
+import java.util.List;
 
 @Configuration
 public class GithubApiClientConfiguration {
 
-    @Bean
-    @ConfigurationProperties("application.github.installation.retry")
-    public RetriedGithubInstallationFacade.Config config() {
-        return new RetriedGithubInstallationFacade.Config();
-    }
-
-
     @Bean
     public ObjectMapper objectMapper() {
         final var objectMapper = new ObjectMapper();
@@ -34,8 +32,25 @@ public class GithubApiClientConfiguration {
     }
 
     @Bean
-    public HttpClient httpClient() {
-        return HttpClient.newHttpClient();
+    @ConfigurationProperties("infrastructure.github.http")
+    public OutboundHttpClient.Config githubHttpConfig() {
+        return new OutboundHttpClient.Config();
+    }
+
+    @Bean
+    public OutboundHttpClient githubOutboundHttpClient(final OutboundHttpClient.Config githubHttpConfig) {
+        return new OutboundHttpClient("github", githubHttpConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties("infrastructure.dusty-bot.http")
+    public OutboundHttpClient.Config dustyBotHttpConfig() {
+        return new OutboundHttpClient.Config();
+    }
+
+    @Bean
+    public OutboundHttpClient dustyBotOutboundHttpClient(final OutboundHttpClient.Config dustyBotHttpConfig) {
+        return new OutboundHttpClient("dusty-bot", dustyBotHttpConfig);
     }
 
     @Bean
@@ -45,14 +60,56 @@ public class GithubApiClientConfiguration {
     }
 
     @Bean
-    public GithubSearchPort githubSearchPort(final GithubHttpClient githubHttpClient) {
-        return new GithubSearchApiAdapter(githubHttpClient, GithubPaginationProperties.builder().build());
+    @ConfigurationProperties("application.github.user-search-cache")
+    public CachedGithubSearchApiAdapter.Config githubUserSearchCacheConfig() {
+        return new CachedGithubSearchApiAdapter.Config();
+    }
+
+    @Bean
+    @ConfigurationProperties("application.github.organizations-search")
+    public GithubSearchApiAdapter.Config githubOrganizationsSearchConfig() {
+        return new GithubSearchApiAdapter.Config();
     }
 
     @Bean
-    public GithubHttpClient githubHttpClient(final ObjectMapper objectMapper, final HttpClient httpClient,
+    public GithubSearchPort githubSearchPort(final GithubHttpClient githubHttpClient,
+                                             final CachedGithubSearchApiAdapter.Config githubUserSearchCacheConfig,
+                                             final GithubSearchApiAdapter.Config githubOrganizationsSearchConfig) {
+        return new CachedGithubSearchApiAdapter(new GithubSearchApiAdapter(githubHttpClient,
+                GithubPaginationProperties.builder().build(), githubOrganizationsSearchConfig),
+                githubUserSearchCacheConfig);
+    }
+
+    @Bean
+    public GithubHttpClient githubHttpClient(final ObjectMapper objectMapper,
+                                             final OutboundHttpClient githubOutboundHttpClient,
                                              final GithubHttpClient.Config githubConfig) {
-        return new GithubHttpClient(objectMapper, httpClient, githubConfig);
+        return new GithubHttpClient(objectMapper, githubOutboundHttpClient, githubConfig);
+    }
+
+    @Bean
+    public MeterBinder githubRateLimitMetrics(final GithubHttpClient githubHttpClient) {
+        return registry -> {
+            final GithubTokenPool tokenPool = githubHttpClient.getTokenPool();
+            for (int i = 0; i < tokenPool.poolSize(); i++) {
+                final int poolIndex = i;
+                for (String resource : List.of(GithubTokenPool.CORE, GithubTokenPool.SEARCH)) {
+                    Gauge.builder("github.ratelimit.remaining", tokenPool,
+                                    pool -> pool.remainingBudget(poolIndex, resource))
+                            .tag("token", "pool-" + poolIndex)
+                            .tag("resource", resource)
+                            .register(registry);
+                    Gauge.builder("github.ratelimit.reset", tokenPool,
+                                    pool -> pool.secondsUntilReset(poolIndex, resource))
+                            .tag("token", "pool-" + poolIndex)
+                            .tag("resource", resource)
+                            .baseUnit("seconds")
+                            .register(registry);
+                }
+            }
+            FunctionCounter.builder("github.ratelimit.shed.calls", tokenPool, GithubTokenPool::shedCalls)
+                    .register(registry);
+        };
     }
 
     @Bean
@@ -62,9 +119,10 @@ public class GithubApiClientConfiguration {
     }
 
     @Bean
-    public GithubHttpClient dustyBotClient(final ObjectMapper objectMapper, final HttpClient httpClient,
+    public GithubHttpClient dustyBotClient(final ObjectMapper objectMapper,
+                                           final OutboundHttpClient dustyBotOutboundHttpClient,
                                            final GithubHttpClient.Config githubDustyBotConfig) {
-        return new GithubHttpClient(objectMapper, httpClient, githubDustyBotConfig);
+        return new GithubHttpClient(objectMapper, dustyBotOutboundHttpClient, githubDustyBotConfig);
     }
 
     @Bean
@@ -0,0 +1,62 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.service.AwaitingGithubInstallationFacade;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresNotificationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wakes up the calls waiting for a github app installation to be indexed: a trigger on the indexer tables notifies the
+ * {@code github_app_installations} channel, and the pending installations are re-checked on a schedule in case a
+ * notification got lost or was read from a lagging replica.
+ */
+@Configuration
+@Slf4j
+public class GithubInstallationAwaitConfiguration {
+
+    public static final String GITHUB_APP_INSTALLATIONS_CHANNEL = "github_app_installations";
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService githubInstallationRecheck(final AwaitingGithubInstallationFacade githubInstallationFacadePort,
+                                                              final AwaitingGithubInstallationFacade.Config githubInstallationAwaitConfig,
+                                                              final PostgresNotificationListener postgresNotificationListener) {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "github-installation-recheck");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // the lookups run on this executor: the notification listener thread is shared with the cache invalidations
+        postgresNotificationListener.listen(GITHUB_APP_INSTALLATIONS_CHANNEL, installationId -> executor.execute(() -> {
+            try {
+                githubInstallationFacadePort.onInstallationIndexed(Long.valueOf(installationId));
+            } catch (Exception e) {
+                LOGGER.error("Failed to look up indexed github app installation {}", installationId, e);
+            }
+        }));
+
+        final long recheckInterval = githubInstallationAwaitConfig.getRecheckIntervalInMillis();
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                githubInstallationFacadePort.recheckPendingInstallations();
+            } catch (Exception e) {
+                LOGGER.error("Failed to re-check pending github app installations", e);
+            }
+        }, recheckInterval, recheckInterval, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    @Bean
+    public MeterBinder githubInstallationAwaitMetrics(final AwaitingGithubInstallationFacade githubInstallationFacadePort) {
+        return registry -> Gauge.builder("github.installations.awaited", githubInstallationFacadePort,
+                        AwaitingGithubInstallationFacade::pendingInstallationCount)
+                .description("Number of github app installations waited for")
+                .register(registry);
+    }
+}
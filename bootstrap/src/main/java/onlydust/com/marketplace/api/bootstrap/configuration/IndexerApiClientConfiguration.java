@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.bootstrap.configuration;
 import onlydust.com.marketplace.api.domain.port.output.IndexerPort;
 import onlydust.com.marketplace.api.indexer.api.client.adapter.IndexerApiClientAdapter;
 import onlydust.com.marketplace.api.indexer.api.client.adapter.IndexerApiHttpClient;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,12 +18,31 @@ public class IndexerApiClientConfiguration {
     }
 
     @Bean
-    public IndexerApiHttpClient indexerApiHttpClient(final IndexerApiHttpClient.Properties indexerApiHttpClientProperties) {
-        return new IndexerApiHttpClient(indexerApiHttpClientProperties);
+    @ConfigurationProperties(value = "infrastructure.indexer.api.client.http")
+    public OutboundHttpClient.Config indexerHttpConfig() {
+        return new OutboundHttpClient.Config();
     }
 
     @Bean
-    public IndexerPort indexerPort(final IndexerApiHttpClient indexerApiHttpClient) {
-        return new IndexerApiClientAdapter(indexerApiHttpClient);
+    public OutboundHttpClient indexerOutboundHttpClient(final OutboundHttpClient.Config indexerHttpConfig) {
+        return new OutboundHttpClient("indexer", indexerHttpConfig);
+    }
+
+    @Bean
+    public IndexerApiHttpClient indexerApiHttpClient(final IndexerApiHttpClient.Properties indexerApiHttpClientProperties,
+                                                     final OutboundHttpClient indexerOutboundHttpClient) {
+        return new IndexerApiHttpClient(indexerApiHttpClientProperties, indexerOutboundHttpClient);
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "infrastructure.indexer.api.client.batch")
+    public IndexerApiClientAdapter.Config indexerBatchConfig() {
+        return new IndexerApiClientAdapter.Config();
+    }
+
+    @Bean
+    public IndexerPort indexerPort(final IndexerApiHttpClient indexerApiHttpClient,
+                                   final IndexerApiClientAdapter.Config indexerBatchConfig) {
+        return new IndexerApiClientAdapter(indexerApiHttpClient, indexerBatchConfig);
     }
 }
@@ -0,0 +1,131 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresCacheInvalidationBus;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresNotificationListener;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times the domain facades, the hand-written repositories and the outbound HTTP clients, so that the time of a request
+ * ({@code http.server.requests}) can be split between the domain, SQL ({@code repository.calls} and
+ * {@code spring.data.repository.invocations}), connection pool waits ({@code hikaricp.connections.acquire}) and
+ * third-party APIs ({@code outbound.http.calls}).
+ * The bulkheads and circuit breakers of the outbound HTTP clients are exported as {@code outbound.http.*} gauges, the
+ * Postgres notifications connection and the cache invalidation bus as {@code postgres.notifications.*} and
+ * {@code cache.invalidations.*}.
+ * Spring Data repositories, Hikari and the JVM are already instrumented by Spring Boot.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+@Aspect
+@RequiredArgsConstructor
+public class MetricsConfiguration {
+
+    public static final String FACADE_CALLS = "facade.calls";
+    public static final String REPOSITORY_CALLS = "repository.calls";
+    public static final String OUTBOUND_HTTP_CALLS = "outbound.http.calls";
+
+    // resolved lazily: injecting the registry in an aspect would create its meter binders before they get proxied
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(* onlydust.com.marketplace.api.domain.port.input.*FacadePort.*(..))")
+    public Object timeFacade(final ProceedingJoinPoint point) throws Throwable {
+        return time(FACADE_CALLS, "facade", point);
+    }
+
+    @Around("execution(public * onlydust.com.marketplace.api.postgres.adapter.repository..Custom*.*(..))" +
+            " && !this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(final ProceedingJoinPoint point) throws Throwable {
+        return time(REPOSITORY_CALLS, "repository", point);
+    }
+
+    @Around("execution(public * onlydust.com.marketplace.api.github_api.GithubHttpClient.fetch(..))" +
+            " || execution(public * onlydust.com.marketplace.api.github_api.GithubHttpClient.get(..))" +
+            " || execution(public * onlydust.com.marketplace.api.github_api.GithubHttpClient.post(..))" +
+            " || execution(public * onlydust.com.marketplace.api.indexer.api.client.adapter.IndexerApiHttpClient.sendRequest(..))" +
+            " || execution(public * onlydust.com.marketplace.api.od.rust.api.client.adapter.OdRustApiHttpClient.sendRequest(..))")
+    public Object timeOutboundCall(final ProceedingJoinPoint point) throws Throwable {
+        return time(OUTBOUND_HTTP_CALLS, "client", point);
+    }
+
+    @Bean
+    public MeterBinder outboundHttpMetrics(final List<OutboundHttpClient> outboundHttpClients) {
+        return registry -> outboundHttpClients.forEach(client -> {
+            Gauge.builder("outbound.http.in.flight.calls", client, OutboundHttpClient::getInFlightCalls)
+                    .tag("target", client.getName())
+                    .register(registry);
+            Gauge.builder("outbound.http.circuit.state", client, OutboundHttpClient::getCircuitState)
+                    .description("0: closed, 1: open, 2: half-open")
+                    .tag("target", client.getName())
+                    .register(registry);
+            FunctionCounter.builder("outbound.http.rejected.calls", client, OutboundHttpClient::getRejectedCalls)
+                    .tag("target", client.getName())
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder postgresNotificationsMetrics(final PostgresNotificationListener postgresNotificationListener,
+                                                    final PostgresCacheInvalidationBus postgresCacheInvalidationBus) {
+        return registry -> {
+            Gauge.builder("postgres.notifications.connected", postgresNotificationListener,
+                            listener -> listener.isConnected() ? 1 : 0)
+                    .register(registry);
+            FunctionCounter.builder("postgres.notifications.received", postgresNotificationListener,
+                            PostgresNotificationListener::getReceivedNotifications)
+                    .register(registry);
+            FunctionCounter.builder("postgres.notifications.reconnections", postgresNotificationListener,
+                            PostgresNotificationListener::getReconnections)
+                    .register(registry);
+            FunctionCounter.builder("cache.invalidations.published", postgresCacheInvalidationBus,
+                            PostgresCacheInvalidationBus::getPublishedInvalidations)
+                    .register(registry);
+            FunctionCounter.builder("cache.invalidations.received", postgresCacheInvalidationBus,
+                            PostgresCacheInvalidationBus::getReceivedInvalidations)
+                    .register(registry);
+        };
+    }
+
+    private Object time(final String name, final String componentTag, final ProceedingJoinPoint point)
+            throws Throwable {
+        final MeterRegistry registry = meterRegistry.getObject();
+        final Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return point.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timers.computeIfAbsent(
+                    new TimerKey(name, AopUtils.getTargetClass(point.getTarget()), point.getSignature().getName(),
+                            exception),
+                    key -> Timer.builder(key.name)
+                            .tag(componentTag, key.target.getSimpleName())
+                            .tag("method", key.method)
+                            .tag("exception", key.exception)
+                            .register(registry)));
+        }
+    }
+
+    private record TimerKey(String name, Class<?> target, String method, String exception) {
+    }
+}
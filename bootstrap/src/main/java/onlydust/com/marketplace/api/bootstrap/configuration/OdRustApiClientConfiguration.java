@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.bootstrap.configuration;
 import onlydust.com.marketplace.api.domain.port.output.RewardStoragePort;
 import onlydust.com.marketplace.api.od.rust.api.client.adapter.OdRustApiClientAdapter;
 import onlydust.com.marketplace.api.od.rust.api.client.adapter.OdRustApiHttpClient;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraAuthentication;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -18,8 +19,20 @@ public class OdRustApiClientConfiguration {
     }
 
     @Bean
-    public OdRustApiHttpClient odRustApiHttpClient(final OdRustApiHttpClient.Properties odRustApiHttpClientProperties) {
-        return new OdRustApiHttpClient(odRustApiHttpClientProperties);
+    @ConfigurationProperties(value = "infrastructure.od.api.client.http")
+    public OutboundHttpClient.Config odRustApiHttpConfig() {
+        return new OutboundHttpClient.Config();
+    }
+
+    @Bean
+    public OutboundHttpClient odRustApiOutboundHttpClient(final OutboundHttpClient.Config odRustApiHttpConfig) {
+        return new OutboundHttpClient("od-rust-api", odRustApiHttpConfig);
+    }
+
+    @Bean
+    public OdRustApiHttpClient odRustApiHttpClient(final OdRustApiHttpClient.Properties odRustApiHttpClientProperties,
+                                                   final OutboundHttpClient odRustApiOutboundHttpClient) {
+        return new OdRustApiHttpClient(odRustApiHttpClientProperties, odRustApiOutboundHttpClient);
     }
 
     @Bean
@@ -0,0 +1,48 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import onlydust.com.marketplace.api.postgres.adapter.datasource.ReadYourWritesContext;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Configuration
+public class ReadYourWritesConfiguration {
+
+    /**
+     * Runs after the security filter chain, so that the reads following the writes of an authenticated user go to the
+     * primary database whatever the thread serving the request.
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> readYourWritesFilter() {
+        final FilterRegistrationBean<OncePerRequestFilter> registration =
+                new FilterRegistrationBean<>(new OncePerRequestFilter() {
+                    @Override
+                    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                    FilterChain filterChain) throws ServletException, IOException {
+                        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                        if (authentication != null && authentication.isAuthenticated()
+                            && !(authentication instanceof AnonymousAuthenticationToken)) {
+                            ReadYourWritesContext.setKey("user-" + authentication.getName());
+                        }
+                        try {
+                            filterChain.doFilter(request, response);
+                        } finally {
+                            ReadYourWritesContext.clear();
+                        }
+                    }
+                });
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -12,6 +12,7 @@ import onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0.Auth0J
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.auth0.Auth0Properties;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraJwtService;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.JwtSecret;
+import onlydust.com.marketplace.api.rest.api.adapter.authentication.jwt.VerifiedTokenCache;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,7 +35,7 @@ public class WebSecurityConfiguration {
                 delegatedAuthenticationEntryPoint);
     }
 
-    @Bean
+    @Bean(destroyMethod = "close")
     @Profile("!hasura_auth")
     public JWTVerifier jwtVerifier(final Auth0Properties auth0Properties) {
         return new Auth0JwtVerifier(auth0Properties);
@@ -43,15 +44,17 @@ public class WebSecurityConfiguration {
     @Bean
     @Profile("!hasura_auth")
     public JwtService jwtServiceAuth0(final ObjectMapper objectMapper, final JWTVerifier jwtVerifier,
-                                      final UserFacadePort userFacadePort) {
-        return new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort);
+                                      final UserFacadePort userFacadePort,
+                                      final VerifiedTokenCache.Config verifiedTokenCacheConfig) {
+        return new Auth0JwtService(objectMapper, jwtVerifier, userFacadePort, verifiedTokenCacheConfig);
     }
 
     @Bean
     @Profile("hasura_auth")
     public JwtService jwtServiceHasura(final ObjectMapper objectMapper, final JwtSecret jwtSecret,
-                                       final UserFacadePort userFacadePort) {
-        return new HasuraJwtService(objectMapper, jwtSecret, userFacadePort);
+                                       final UserFacadePort userFacadePort,
+                                       final VerifiedTokenCache.Config verifiedTokenCacheConfig) {
+        return new HasuraJwtService(objectMapper, jwtSecret, userFacadePort, verifiedTokenCacheConfig);
     }
 
     @Bean
@@ -99,6 +102,12 @@ public class WebSecurityConfiguration {
         return new Auth0Properties();
     }
 
+    @Bean
+    @ConfigurationProperties("application.web.verified-token-cache")
+    public VerifiedTokenCache.Config verifiedTokenCacheConfig() {
+        return new VerifiedTokenCache.Config();
+    }
+
     @Bean
     @ConfigurationProperties("application.web.machine-to-machine")
     public ApiKeyAuthenticationService.Config apiKeyAuthenticationConfig() {
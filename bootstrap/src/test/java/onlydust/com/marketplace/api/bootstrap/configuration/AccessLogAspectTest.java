@@ -0,0 +1,127 @@
+package onlydust.com.marketplace.api.bootstrap.configuration;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AccessLogAspectTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access-log");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AccessLogAspect.Config config = new AccessLogAspect.Config();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    void should_redact_secret_headers_and_query_params() throws Throwable {
+        // Given
+        config.setSampleRate(1.0);
+        final UUID projectId = UUID.randomUUID();
+        final ProceedingJoinPoint point = joinPoint("getProject",
+                new String[]{"projectId", "apiKey", "accessToken", "sort"},
+                new Object[]{projectId, "some-api-key", "some-token", "NAME"});
+
+        // When
+        new AccessLogAspect(config).around(point);
+
+        // Then
+        assertThat(appender.list).hasSize(1);
+        final String message = appender.list.get(0).getFormattedMessage();
+        assertThat(message).contains("projectId=" + projectId, "apiKey=<redacted>", "accessToken=<redacted>",
+                "sort=NAME");
+        assertThat(message).doesNotContain("some-api-key");
+        assertThat(message).doesNotContain("some-token");
+    }
+
+    @Test
+    void should_cut_bodies_longer_than_the_limit() throws Throwable {
+        // Given
+        config.setSampleRate(1.0);
+        config.setMaxArgumentLength(10);
+        final ProceedingJoinPoint point = joinPoint("updateProject", new String[]{"shortBody", "longBody"},
+                new Object[]{"0123456789", "0123456789abcdef"});
+
+        // When
+        new AccessLogAspect(config).around(point);
+
+        // Then
+        assertThat(appender.list).hasSize(1);
+        final String message = appender.list.get(0).getFormattedMessage();
+        assertThat(message).contains("shortBody=0123456789,", "longBody=0123456789...");
+        assertThat(message).doesNotContain("abcdef");
+    }
+
+    @Test
+    void should_only_log_a_sample_of_the_successful_calls() throws Throwable {
+        // Given
+        config.setSampleRate(0.5);
+        final AccessLogAspect accessLogAspect = new AccessLogAspect(config);
+        final ProceedingJoinPoint point = joinPoint("getProjects", new String[0], new Object[0]);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            accessLogAspect.around(point);
+        }
+
+        // Then
+        assertThat(appender.list.size()).isBetween(400, 600);
+        assertThat(appender.list.stream().allMatch(event -> event.getLevel() == Level.INFO)).isTrue();
+    }
+
+    @Test
+    void should_log_every_failed_call_whatever_the_sample_rate() throws Throwable {
+        // Given
+        config.setSampleRate(0.0);
+        final AccessLogAspect accessLogAspect = new AccessLogAspect(config);
+        final ProceedingJoinPoint successfulPoint = joinPoint("getProjects", new String[0], new Object[0]);
+        final ProceedingJoinPoint failingPoint = joinPoint("getProject", new String[0], new Object[0]);
+        when(failingPoint.proceed()).thenThrow(new IllegalStateException());
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            accessLogAspect.around(successfulPoint);
+            assertThrows(IllegalStateException.class, () -> accessLogAspect.around(failingPoint));
+        }
+
+        // Then
+        assertThat(appender.list).hasSize(10);
+        assertThat(appender.list.stream().allMatch(event -> event.getLevel() == Level.WARN
+                                                         && event.getFormattedMessage().contains("IllegalStateException")))
+                .isTrue();
+    }
+
+    private static ProceedingJoinPoint joinPoint(final String method, final String[] parameterNames,
+                                                 final Object[] args) throws Throwable {
+        final MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getName()).thenReturn(method);
+        when(signature.getParameterNames()).thenReturn(parameterNames);
+        final ProceedingJoinPoint point = mock(ProceedingJoinPoint.class);
+        when(point.getSignature()).thenReturn(signature);
+        when(point.getArgs()).thenReturn(args);
+        when(point.proceed()).thenReturn("response");
+        return point;
+    }
+}
@@ -0,0 +1,148 @@
+package onlydust.com.marketplace.api.bootstrap.helper;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Closed-loop load generator: {@code concurrency} virtual users send the same request back to back, first during the
+ * warmup (not recorded), then during the measurement window.
+ */
+@Slf4j
+@AllArgsConstructor
+public class LoadTestRunner {
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public static LoadTestRunner fromSystemProperties() {
+        return new LoadTestRunner(Integer.getInteger("scale.load.concurrency", 8),
+                Duration.ofSeconds(Long.getLong("scale.load.warmupInSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("scale.load.durationInSeconds", 30)));
+    }
+
+    public Result run(final String name, final URI uri, final String jwt) throws Exception {
+        final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(1)).GET();
+        if (jwt != null) {
+            requestBuilder.header("Authorization", "Bearer " + jwt);
+        }
+        final HttpRequest request = requestBuilder.build();
+
+        final long measureFrom = System.nanoTime() + warmup.toNanos();
+        final long measureUntil = measureFrom + duration.toNanos();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            final List<Future<VirtualUserStats>> virtualUsers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                virtualUsers.add(executor.submit(() -> virtualUser(httpClient, request, measureFrom, measureUntil)));
+            }
+            long errors = 0;
+            final List<long[]> latencies = new ArrayList<>();
+            for (Future<VirtualUserStats> virtualUser : virtualUsers) {
+                final VirtualUserStats stats = virtualUser.get();
+                errors += stats.errors;
+                latencies.add(stats.latencies());
+            }
+            final long[] allLatencies = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            final Result result = new Result(name, allLatencies.length, errors,
+                    allLatencies.length / (double) duration.toSeconds(),
+                    percentileInMillis(allLatencies, 50), percentileInMillis(allLatencies, 95),
+                    percentileInMillis(allLatencies, 99), percentileInMillis(allLatencies, 100));
+            LOGGER.info("{}", result);
+            return result;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static VirtualUserStats virtualUser(final HttpClient httpClient, final HttpRequest request,
+                                                final long measureFrom, final long measureUntil) {
+        final VirtualUserStats stats = new VirtualUserStats();
+        long now = System.nanoTime();
+        while (now < measureUntil) {
+            final long start = now;
+            boolean success;
+            try {
+                final HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            now = System.nanoTime();
+            if (start >= measureFrom && now <= measureUntil) {
+                if (success) {
+                    stats.add(now - start);
+                } else {
+                    stats.errors++;
+                }
+            }
+        }
+        return stats;
+    }
+
+    private static double percentileInMillis(final long[] sortedLatencies, final int percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        final int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public static void writeReport(final Path path, final List<Result> results) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, results.stream()
+                .map(r -> "%s,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f".formatted(r.name(), r.requests(), r.errors(),
+                        r.throughput(), r.p50(), r.p95(), r.p99(), r.max()))
+                .collect(Collectors.joining("\n", "endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms\n",
+                        "\n")));
+        LOGGER.info("Load test report written to {}", path.toAbsolutePath());
+    }
+
+    public record Result(String name, long requests, long errors, double throughput, double p50, double p95,
+                         double p99, double max) {
+        @Override
+        public String toString() {
+            return "%-28s %8d req %5d errors %8.1f req/s   p50 %8.1fms   p95 %8.1fms   p99 %8.1fms   max %8.1fms"
+                    .formatted(name, requests, errors, throughput, p50, p95, p99, max);
+        }
+    }
+
+    private static class VirtualUserStats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(final long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+
+        long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+}
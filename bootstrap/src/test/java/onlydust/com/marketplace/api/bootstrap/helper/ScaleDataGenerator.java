@@ -0,0 +1,406 @@
+package onlydust.com.marketplace.api.bootstrap.helper;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.intellij.lang.annotations.Language;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds the staging database with a synthetic, production-sized data set.
+ * <p>
+ * Most of the legacy tables come from the staging dump and are not described in this repository, so every table is
+ * filled by cloning one of its existing rows and overriding the columns the API reads (ids, foreign keys, names,
+ * dates...). Generated columns are skipped and views are left alone, as they derive from the tables seeded here.
+ * <p>
+ * Generated ids live above {@link #ID_OFFSET} (github ids) or are derived from a stable name (uuids), so they never
+ * collide with the dump. Activity is skewed towards the first users, repos and projects, like in production, and the
+ * data set is reproducible: the same {@link ScaleProfile} always produces the same rows.
+ */
+@Slf4j
+@AllArgsConstructor
+public class ScaleDataGenerator {
+
+    public static final long ID_OFFSET = 1_000_000_000L;
+
+    private final DataSource dataSource;
+
+    public ScaleDataSet generate(final ScaleProfile profile) {
+        LOGGER.info("Seeding scale data set {}", profile);
+        final long start = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            execute(connection, "set session_replication_role = replica");
+            try {
+                seed(connection, profile);
+            } finally {
+                execute(connection, "set session_replication_role = origin");
+            }
+            // triggers are disabled while seeding, so the cards of the seeded projects are built at once
+            execute(connection, "select refresh_project_page_cards(array(select project_id from project_details))");
+            execute(connection, "analyze");
+            final ScaleDataSet dataSet = new ScaleDataSet(
+                    queryForLong(connection, """
+                            select contributor_id
+                            from indexer_exp.contributions
+                            where contributor_id between %d and %d
+                            group by contributor_id
+                            order by count(*) desc
+                            limit 1
+                            """.formatted(ID_OFFSET + 1, ID_OFFSET + profile.getRegisteredUsers())),
+                    queryForLong(connection, """
+                            select recipient_id
+                            from payment_requests
+                            where recipient_id between %d and %d
+                            group by recipient_id
+                            order by count(*) desc
+                            limit 1
+                            """.formatted(ID_OFFSET + 1, ID_OFFSET + profile.getRegisteredUsers())),
+                    UUID.fromString(queryForString(connection, """
+                            select cast(project_id as text)
+                            from projects_contributors
+                            where github_user_id > %d
+                            group by project_id
+                            order by count(*) desc
+                            limit 1
+                            """.formatted(ID_OFFSET))));
+            LOGGER.info("Scale data set seeded in {}s: {}", (System.currentTimeMillis() - start) / 1000, dataSet);
+            return dataSet;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to seed scale data set", e);
+        }
+    }
+
+    private void seed(final Connection connection, final ScaleProfile profile) throws SQLException {
+        final long users = profile.getGithubUsers();
+        final long projects = profile.getProjects();
+        final long repos = profile.repos();
+        final long registeredUsers = profile.getRegisteredUsers();
+
+        insertFromTemplate(connection, profile, "public.github_users",
+                "(select g from generate_series(1, %d) g) s".formatted(users), """
+                        jsonb_build_object('id', %1$d + s.g,
+                                           'login', 'scale-user-' || s.g,
+                                           'avatar_url', 'https://avatars.githubusercontent.com/u/' || (%1$d + s.g),
+                                           'html_url', 'https://github.com/scale-user-' || s.g)
+                        """.formatted(ID_OFFSET));
+        insertFromTemplate(connection, profile, "indexer_exp.github_accounts",
+                "(select g from generate_series(1, %d) g) s".formatted(users), """
+                        jsonb_build_object('id', %1$d + s.g,
+                                           'login', 'scale-user-' || s.g,
+                                           'avatar_url', 'https://avatars.githubusercontent.com/u/' || (%1$d + s.g),
+                                           'html_url', 'https://github.com/scale-user-' || s.g)
+                        """.formatted(ID_OFFSET));
+        insertFromTemplate(connection, profile, "public.auth_users",
+                "(select g from generate_series(1, %d) g) s".formatted(registeredUsers), """
+                        jsonb_build_object('id', cast(md5('scale-user-' || s.g) as uuid),
+                                           'github_user_id', %1$d + s.g,
+                                           'email', 'scale-user-' || s.g || '@onlydust.xyz',
+                                           'login_at_signup', 'scale-user-' || s.g,
+                                           'avatar_url_at_signup', 'https://avatars.githubusercontent.com/u/' || (%1$d + s.g),
+                                           'created_at', now(),
+                                           'last_seen', now(),
+                                           'admin', false)
+                        """.formatted(ID_OFFSET));
+
+        insertFromTemplate(connection, profile, "public.projects",
+                "(select g from generate_series(1, %d) g) s".formatted(projects), """
+                        jsonb_build_object('id', cast(md5('scale-project-' || s.g) as uuid))
+                        """);
+        insertFromTemplate(connection, profile, "public.project_details",
+                "(select g, cast(floor(random() * 1000) as int) as rank from generate_series(1, %d) g) s".formatted(projects), """
+                        jsonb_build_object('project_id', cast(md5('scale-project-' || s.g) as uuid),
+                                           'name', 'Scale project ' || s.g,
+                                           'short_description', 'Synthetic project number ' || s.g,
+                                           'long_description', 'Synthetic project number ' || s.g || ', generated for scale tests',
+                                           'logo_url', null,
+                                           'telegram_link', null,
+                                           'hiring', s.g % 4 = 0,
+                                           'rank', s.rank,
+                                           'visibility', case when s.g % 20 = 0 then 'PRIVATE' else 'PUBLIC' end,
+                                           'created_at', now(),
+                                           'updated_at', now())
+                        """);
+        insertFromTemplate(connection, profile, "public.project_leads",
+                "(select g from generate_series(1, %d) g) s".formatted(projects), """
+                        jsonb_build_object('project_id', cast(md5('scale-project-' || s.g) as uuid),
+                                           'user_id', cast(md5('scale-user-' || (1 + (s.g - 1) %% %d)) as uuid),
+                                           'assigned_at', now())
+                        """.formatted(registeredUsers));
+        insertFromTemplate(connection, profile, "public.sponsors",
+                "(select g from generate_series(1, %d) g) s".formatted(profile.getSponsors()), """
+                        jsonb_build_object('id', cast(md5('scale-sponsor-' || s.g) as uuid),
+                                           'name', 'Scale sponsor ' || s.g,
+                                           'url', 'https://sponsor-' || s.g || '.com',
+                                           'logo_url', 'https://sponsor-' || s.g || '.com/logo.png')
+                        """);
+        insertFromTemplate(connection, profile, "public.projects_sponsors",
+                "(select g from generate_series(1, %d) g where g %% 3 = 0) s".formatted(projects), """
+                        jsonb_build_object('project_id', cast(md5('scale-project-' || s.g) as uuid),
+                                           'sponsor_id', cast(md5('scale-sponsor-' || (1 + s.g %% %d)) as uuid))
+                        """.formatted(profile.getSponsors()));
+
+        insertFromTemplate(connection, profile, "indexer_exp.github_repos", """
+                (select g,
+                        (array ['Rust', 'TypeScript', 'Cairo', 'Go', 'Python', 'Java', 'Solidity', 'Kotlin'])[1 + g %% 8] as main_language,
+                        (array ['Shell', 'HTML', 'CSS', 'Makefile', 'Dockerfile', 'JavaScript'])[1 + g %% 6] as other_language
+                 from generate_series(1, %d) g) s
+                """.formatted(repos), """
+                jsonb_build_object('id', %1$d + s.g,
+                                   'name', 'scale-repo-' || s.g,
+                                   'html_url', 'https://github.com/onlydust-scale/scale-repo-' || s.g,
+                                   'description', 'Synthetic repository number ' || s.g,
+                                   'languages', jsonb_build_object(s.main_language, 10000 + s.g %% 500000,
+                                                                   s.other_language, 100 + s.g %% 5000))
+                """.formatted(ID_OFFSET));
+        insertFromTemplate(connection, profile, "public.project_github_repos",
+                "(select g from generate_series(1, %d) g) s".formatted(repos), """
+                        jsonb_build_object('project_id', cast(md5('scale-project-' || (1 + (s.g - 1) %% %d)) as uuid),
+                                           'github_repo_id', %d + s.g)
+                        """.formatted(projects, ID_OFFSET));
+
+        insertFromTemplate(connection, profile, "indexer_exp.contributions", """
+                (select g,
+                        cast(1 + floor(%d * power(random(), 3)) as bigint) as contributor,
+                        cast(1 + floor(%d * power(random(), 2)) as bigint) as repo,
+                        (array ['PULL_REQUEST', 'ISSUE', 'CODE_REVIEW'])[1 + g %% 3] as type,
+                        case when g %% 7 = 0 then 'IN_PROGRESS' else 'COMPLETED' end as status,
+                        now() - random() * interval '730 days' as created_at
+                 from generate_series(1, %d) g) s
+                """.formatted(users, repos, profile.getContributions()), """
+                jsonb_build_object('id', encode(sha256(cast('scale-contribution-' || s.g as bytea)), 'hex'),
+                                   'repo_id', %1$d + s.repo,
+                                   'repo_name', 'scale-repo-' || s.repo,
+                                   'repo_html_url', 'https://github.com/onlydust-scale/scale-repo-' || s.repo,
+                                   'contributor_id', %1$d + s.contributor,
+                                   'contributor_login', 'scale-user-' || s.contributor,
+                                   'type', s.type,
+                                   'status', s.status,
+                                   'github_number', s.g,
+                                   'github_title', 'Synthetic contribution number ' || s.g,
+                                   'github_html_url', 'https://github.com/onlydust-scale/scale-repo-' || s.repo || '/pull/' || s.g,
+                                   'github_author_id', %1$d + s.contributor,
+                                   'github_author_login', 'scale-user-' || s.contributor,
+                                   'github_author_html_url', 'https://github.com/scale-user-' || s.contributor,
+                                   'created_at', s.created_at,
+                                   'completed_at', case when s.status = 'COMPLETED' then s.created_at + interval '2 days' end)
+                """.formatted(ID_OFFSET));
+        insertFromTemplate(connection, profile, "public.contributions", """
+                (select c.id, c.repo_id, c.contributor_id, c.type, c.status, c.created_at, c.completed_at
+                 from indexer_exp.contributions c
+                 where c.repo_id > %d) s
+                """.formatted(ID_OFFSET), """
+                jsonb_build_object('id', s.id,
+                                   'repo_id', s.repo_id,
+                                   'user_id', s.contributor_id,
+                                   'details_id', s.id,
+                                   'type', lower(cast(s.type as text)),
+                                   'status', case when cast(s.status as text) = 'COMPLETED' then 'complete' else 'in_progress' end,
+                                   'created_at', s.created_at,
+                                   'closed_at', s.completed_at)
+                """);
+        insertFromTemplate(connection, profile, "public.projects_contributors", """
+                (select distinct pgr.project_id, c.contributor_id
+                 from indexer_exp.contributions c
+                          join public.project_github_repos pgr on pgr.github_repo_id = c.repo_id
+                 where c.repo_id > %d) s
+                """.formatted(ID_OFFSET), """
+                jsonb_build_object('project_id', s.project_id,
+                                   'github_user_id', s.contributor_id)
+                """);
+
+        insertFromTemplate(connection, profile, "public.payment_requests", """
+                (select g,
+                        cast(1 + floor(%d * power(random(), 3)) as bigint) as recipient,
+                        cast(1 + floor(%d * power(random(), 2)) as bigint) as project,
+                        (array ['usd', 'eth', 'stark', 'apt', 'op'])[1 + g %% 5] as currency,
+                        round(cast(10 + random() * 2000 as numeric), 2) as amount,
+                        now() - random() * interval '730 days' as requested_at
+                 from generate_series(1, %d) g) s
+                """.formatted(users, projects, profile.getPaymentRequests()), """
+                jsonb_build_object('id', cast(md5('scale-payment-request-' || s.g) as uuid),
+                                   'requestor_id', cast(md5('scale-user-' || (1 + (s.project - 1) %% %d)) as uuid),
+                                   'recipient_id', %d + s.recipient,
+                                   'project_id', cast(md5('scale-project-' || s.project) as uuid),
+                                   'amount', s.amount,
+                                   'currency', s.currency,
+                                   'requested_at', s.requested_at,
+                                   'invoice_received_at', null,
+                                   'hours_worked', s.g %% 10)
+                """.formatted(registeredUsers, ID_OFFSET));
+        insertFromTemplate(connection, profile, "public.payments", """
+                (select pr.id, pr.amount, pr.currency, pr.requested_at
+                 from public.payment_requests pr
+                 where pr.recipient_id > %d
+                   and abs(hashtext(cast(pr.id as text))) %% 5 < 3) s
+                """.formatted(ID_OFFSET), """
+                jsonb_build_object('id', cast(md5('scale-payment-' || s.id) as uuid),
+                                   'request_id', s.id,
+                                   'amount', s.amount,
+                                   'currency_code', upper(cast(s.currency as text)),
+                                   'processed_at', s.requested_at + interval '7 days')
+                """);
+        insertFromTemplate(connection, profile, "public.work_items", """
+                (select pr.id, pr.project_id, pr.recipient_id, pgr.github_repo_id, row_number() over () as number
+                 from public.payment_requests pr
+                          join public.project_github_repos pgr on pgr.project_id = pr.project_id
+                 where pr.recipient_id > %d) s
+                """.formatted(ID_OFFSET), """
+                jsonb_build_object('payment_id', s.id,
+                                   'project_id', s.project_id,
+                                   'recipient_id', s.recipient_id,
+                                   'repo_id', s.github_repo_id,
+                                   'number', s.number,
+                                   'id', encode(sha256(cast('scale-work-item-' || s.number as bytea)), 'hex'))
+                """);
+
+        // triggers are disabled while seeding, so the persisted payout checks are computed once at the end
+        time("payment_request_payout_checks", () -> executeUpdate(connection, """
+                insert into payment_request_payout_checks (id, recipient_id, has_pending_payments, valid_person,
+                                                           valid_location, valid_company, valid_eth_wallet,
+                                                           valid_op_wallet, valid_stark_wallet, valid_apt_wallet,
+                                                           valid_banking_account, valid_usdc_wallet)
+                select id,
+                       recipient_id,
+                       has_pending_payments,
+                       valid_person,
+                       valid_location,
+                       valid_company,
+                       valid_eth_wallet,
+                       valid_op_wallet,
+                       valid_stark_wallet,
+                       valid_apt_wallet,
+                       valid_banking_account,
+                       valid_usdc_wallet
+                from computed_payment_request_payout_checks
+                where recipient_id > %d
+                on conflict (id) do nothing
+                """.formatted(ID_OFFSET)));
+    }
+
+    /**
+     * Inserts one row per row of {@code source}, each being a copy of an existing row of {@code table} whose columns
+     * are overridden by the {@code overrides} jsonb object. Tables that are actually views are skipped.
+     */
+    private void insertFromTemplate(final Connection connection, final ScaleProfile profile, final String table,
+                                    @Language("PostgreSQL") final String source,
+                                    @Language("PostgreSQL") final String overrides) throws SQLException {
+        final String[] schemaAndName = table.split("\\.");
+        if (!isBaseTable(connection, schemaAndName[0], schemaAndName[1])) {
+            LOGGER.info("Skipping {}, which is not a table", table);
+            return;
+        }
+        if (queryForLong(connection, "select count(*) from (select 1 from %s limit 1) t".formatted(table)) == 0) {
+            throw new IllegalStateException("No row to use as template in %s".formatted(table));
+        }
+        final List<String> columns = insertableColumns(connection, schemaAndName[0], schemaAndName[1]);
+        execute(connection, "select setseed(%s)".formatted(profile.getSeed()));
+        time(table, () -> executeUpdate(connection, """
+                insert into %1$s (%2$s)
+                select %3$s
+                from (select * from %1$s limit 1) template
+                         cross join %4$s
+                         cross join lateral jsonb_populate_record(null::%1$s, to_jsonb(template) || %5$s) r
+                on conflict do nothing
+                """.formatted(table,
+                columns.stream().map(c -> "\"" + c + "\"").collect(Collectors.joining(", ")),
+                columns.stream().map(c -> "r.\"" + c + "\"").collect(Collectors.joining(", ")),
+                source,
+                overrides)));
+    }
+
+    private static boolean isBaseTable(final Connection connection, final String schema, final String name)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                select count(*)
+                from information_schema.tables
+                where table_schema = ?
+                  and table_name = ?
+                  and table_type = 'BASE TABLE'
+                """)) {
+            statement.setString(1, schema);
+            statement.setString(2, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    private static List<String> insertableColumns(final Connection connection, final String schema,
+                                                  final String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                select column_name
+                from information_schema.columns
+                where table_schema = ?
+                  and table_name = ?
+                  and is_generated = 'NEVER'
+                  and is_identity = 'NO'
+                order by ordinal_position
+                """)) {
+            statement.setString(1, schema);
+            statement.setString(2, name);
+            final List<String> columns = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    columns.add(resultSet.getString(1));
+                }
+            }
+            return columns;
+        }
+    }
+
+    private static void time(final String table, final SqlUpdate update) throws SQLException {
+        final long start = System.currentTimeMillis();
+        final long rows = update.execute();
+        LOGGER.info("Inserted {} rows into {} in {}ms", rows, table, System.currentTimeMillis() - start);
+    }
+
+    private static long executeUpdate(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeLargeUpdate(sql);
+        }
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long queryForLong(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("No result for query %s".formatted(sql));
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static String queryForString(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("No result for query %s".formatted(sql));
+            }
+            return resultSet.getString(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlUpdate {
+        long execute() throws SQLException;
+    }
+
+    public record ScaleDataSet(Long mostActiveContributorGithubId, Long mostRewardedRecipientGithubId,
+                               UUID largestProjectId) {
+    }
+}
@@ -0,0 +1,47 @@
+package onlydust.com.marketplace.api.bootstrap.helper;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Volumes of the synthetic data set seeded by {@link ScaleDataGenerator}. Every value can be overridden with a
+ * {@code scale.*} system property, e.g. {@code -Dscale.contributions=1000000}.
+ */
+@Value
+@Builder
+public class ScaleProfile {
+    @Builder.Default
+    long projects = 10_000;
+    @Builder.Default
+    long reposPerProject = 3;
+    @Builder.Default
+    long githubUsers = 200_000;
+    @Builder.Default
+    long registeredUsers = 20_000;
+    @Builder.Default
+    long contributions = 5_000_000;
+    @Builder.Default
+    long paymentRequests = 500_000;
+    @Builder.Default
+    long sponsors = 100;
+    @Builder.Default
+    double seed = 0.42;
+
+    public static ScaleProfile fromSystemProperties() {
+        final ScaleProfile defaults = ScaleProfile.builder().build();
+        return ScaleProfile.builder()
+                .projects(Long.getLong("scale.projects", defaults.projects))
+                .reposPerProject(Long.getLong("scale.reposPerProject", defaults.reposPerProject))
+                .githubUsers(Long.getLong("scale.githubUsers", defaults.githubUsers))
+                .registeredUsers(Long.getLong("scale.registeredUsers", defaults.registeredUsers))
+                .contributions(Long.getLong("scale.contributions", defaults.contributions))
+                .paymentRequests(Long.getLong("scale.paymentRequests", defaults.paymentRequests))
+                .sponsors(Long.getLong("scale.sponsors", defaults.sponsors))
+                .seed(Double.parseDouble(System.getProperty("scale.seed", String.valueOf(defaults.seed))))
+                .build();
+    }
+
+    public long repos() {
+        return projects * reposPerProject;
+    }
+}
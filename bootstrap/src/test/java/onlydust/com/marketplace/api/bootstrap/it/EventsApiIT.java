@@ -3,9 +3,11 @@ package onlydust.com.marketplace.api.bootstrap.it;
 import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
 import onlydust.com.marketplace.api.domain.model.ProjectRewardSettings;
 import onlydust.com.marketplace.api.domain.model.ProjectVisibility;
+import onlydust.com.marketplace.api.domain.service.ContributionService;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresProjectAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.CustomIgnoredContributionEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.IgnoredContributionEntity;
+import onlydust.com.marketplace.api.postgres.adapter.repository.ContributionsChangeQueueRepository;
 import onlydust.com.marketplace.api.postgres.adapter.repository.CustomIgnoredContributionsRepository;
 import onlydust.com.marketplace.api.postgres.adapter.repository.IgnoredContributionsRepository;
 import org.junit.jupiter.api.Test;
@@ -58,6 +60,10 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
     CustomIgnoredContributionsRepository customIgnoredContributionsRepository;
     @Autowired
     PostgresProjectAdapter postgresProjectAdapter;
+    @Autowired
+    ContributionService contributionService;
+    @Autowired
+    ContributionsChangeQueueRepository contributionsChangeQueueRepository;
 
     @Test
     public void should_refresh_ignored_contributions_on_contributions_change_event() {
@@ -83,6 +89,7 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
                 // Then
                 .expectStatus()
                 .is2xxSuccessful();
+        processContributionsChanges();
 
         // Then
         // @formatter:off
@@ -136,6 +143,7 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
                 // Then
                 .expectStatus()
                 .is2xxSuccessful();
+        processContributionsChanges();
 
         // Then
         // @formatter:off
@@ -187,11 +195,46 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
                 // Then
                 .expectStatus()
                 .is2xxSuccessful();
+        processContributionsChanges();
 
         // Then
         assertIgnored(projectId);
     }
 
+    @Test
+    public void should_refresh_only_changed_contributions_on_contributions_change_event() {
+        // Given
+        final UUID projectId = createProject(REWARD_SETTINGS);
+
+        // For now, nothing is ignored
+        assertIgnored(projectId);
+
+        // When
+        client.post()
+                .uri(getApiURI(EVENT_ON_CONTRIBUTIONS_CHANGE_POST))
+                .header("Api-Key", API_KEY)
+                .contentType(APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "repoIds": [602953043],
+                          "contributionIds": [
+                            "f7a052432021934afeaca8898250691058aae6884c906514dea140e4ac1effef",
+                            "0c84f988abd52d1fe7d7889860d2e049072c6bb7879758d0ebc73188f2f93da4"
+                          ]
+                        }
+                        """)
+                .exchange()
+                // Then
+                .expectStatus()
+                .is2xxSuccessful();
+        processContributionsChanges();
+
+        // Then
+        assertIgnored(projectId,
+                "f7a052432021934afeaca8898250691058aae6884c906514dea140e4ac1effef" // CODE_REVIEW
+        );
+    }
+
     @Test
     public void should_return_401_when_api_key_is_missing() {
         client.post()
@@ -209,6 +252,56 @@ public class EventsApiIT extends AbstractMarketplaceApiIT {
     }
 
 
+    @Test
+    public void should_coalesce_contributions_change_events() {
+        // Given
+        final UUID projectId = createProject(REWARD_SETTINGS);
+
+        // When
+        for (String contributionId : List.of(
+                "f7a052432021934afeaca8898250691058aae6884c906514dea140e4ac1effef",
+                "0c84f988abd52d1fe7d7889860d2e049072c6bb7879758d0ebc73188f2f93da4",
+                "420bbdd396b23d24fbe94bf6a874736b1430ecb93cc59a42642ecb4a50e79e45")) {
+            client.post()
+                    .uri(getApiURI(EVENT_ON_CONTRIBUTIONS_CHANGE_POST))
+                    .header("Api-Key", API_KEY)
+                    .contentType(APPLICATION_JSON)
+                    .bodyValue("""
+                            {
+                              "repoIds": [602953043],
+                              "contributionIds": ["%s"]
+                            }
+                            """.formatted(contributionId))
+                    .exchange()
+                    .expectStatus()
+                    .is2xxSuccessful();
+        }
+
+        // Then
+        assertIgnored(projectId);
+        final var pendingChange = contributionsChangeQueueRepository.findById(repo2).orElseThrow();
+        assertThat(pendingChange.getContributionIds()).containsExactlyInAnyOrder(
+                "f7a052432021934afeaca8898250691058aae6884c906514dea140e4ac1effef",
+                "0c84f988abd52d1fe7d7889860d2e049072c6bb7879758d0ebc73188f2f93da4",
+                "420bbdd396b23d24fbe94bf6a874736b1430ecb93cc59a42642ecb4a50e79e45");
+
+        // When
+        processContributionsChanges();
+
+        // Then
+        assertIgnored(projectId,
+                "f7a052432021934afeaca8898250691058aae6884c906514dea140e4ac1effef", // CODE_REVIEW
+                "420bbdd396b23d24fbe94bf6a874736b1430ecb93cc59a42642ecb4a50e79e45"  // CODE_REVIEW
+        );
+        assertThat(contributionsChangeQueueRepository.findById(repo2)).isEmpty();
+    }
+
+    private void processContributionsChanges() {
+        while (contributionService.processNextContributionsChange()) {
+            // drain the queue
+        }
+    }
+
     private UUID createProject(ProjectRewardSettings rewardSettings) {
         final UUID projectId = UUID.randomUUID();
         final UUID leadId = userHelper.authenticatePierre().user().getId();
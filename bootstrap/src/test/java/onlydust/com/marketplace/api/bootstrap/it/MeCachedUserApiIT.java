@@ -0,0 +1,110 @@
+package onlydust.com.marketplace.api.bootstrap.it;
+
+import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.ProjectLeaderInvitationEntity;
+import onlydust.com.marketplace.api.postgres.adapter.repository.old.ProjectLeaderInvitationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static java.lang.String.format;
+import static onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationFilter.BEARER_PREFIX;
+
+@ActiveProfiles({"hasura_auth"})
+@TestPropertySource(properties = {"application.user-cache.ttl-in-seconds=60",
+        "application.user-cache.invalidation-grace-in-millis=0"})
+public class MeCachedUserApiIT extends AbstractMarketplaceApiIT {
+
+    @Autowired
+    HasuraUserHelper userHelper;
+    @Autowired
+    ProjectLeaderInvitationRepository projectLeaderInvitationRepository;
+
+    @Test
+    void should_serve_the_cached_user_until_a_project_leader_invitation_is_accepted() {
+        // Given
+        final var githubUserId = faker.number().randomNumber();
+        final String jwt = userHelper.newFakeUser(UUID.randomUUID(), githubUserId, faker.name().username(),
+                faker.internet().avatar(), false).jwt();
+        final String projectId = "7d04163c-4187-4313-8066-61504d34fc56";
+
+        client.get()
+                .uri(getApiURI(ME_GET))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.pendingProjectsLed.length()").isEqualTo(0);
+
+        // When
+        projectLeaderInvitationRepository.save(new ProjectLeaderInvitationEntity(UUID.randomUUID(),
+                UUID.fromString(projectId), githubUserId));
+
+        // Then
+        client.get()
+                .uri(getApiURI(ME_GET))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.pendingProjectsLed.length()").isEqualTo(0);
+
+        // When
+        client.put()
+                .uri(getApiURI(format(ME_ACCEPT_PROJECT_LEADER_INVITATION, projectId)))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus().is2xxSuccessful();
+
+        // Then
+        client.get()
+                .uri(getApiURI(ME_GET))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.pendingProjectsLed.length()").isEqualTo(0)
+                .jsonPath(format("$.projectsLed[?(@.id=='%s')]", projectId)).exists();
+    }
+
+    @Test
+    void should_serve_the_updated_user_after_an_update() {
+        // Given
+        final String jwt = userHelper.newFakeUser(UUID.randomUUID(), faker.number().randomNumber(),
+                faker.name().username(), faker.internet().avatar(), false).jwt();
+        client.get()
+                .uri(getApiURI(ME_GET))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.hasSeenOnboardingWizard").isEqualTo(false);
+
+        // When
+        client.patch()
+                .uri(ME_PATCH)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "hasSeenOnboardingWizard": true
+                        }
+                        """)
+                .exchange()
+                .expectStatus().is2xxSuccessful();
+
+        // Then
+        client.get()
+                .uri(getApiURI(ME_GET))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.hasSeenOnboardingWizard").isEqualTo(true);
+    }
+}
@@ -0,0 +1,56 @@
+package onlydust.com.marketplace.api.bootstrap.it;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles({"hasura_auth"})
+public class MetricsApiIT extends AbstractMarketplaceApiIT {
+
+    private static final String METRICS_GET = "/actuator/prometheus";
+    private static final String API_KEY = "some-api-key";
+
+    @Test
+    void should_require_api_key_to_scrape_metrics() {
+        // When
+        client.get()
+                .uri(getApiURI(METRICS_GET))
+                // Then
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+    }
+
+    @Test
+    void should_expose_facade_repository_and_connection_pool_metrics() {
+        // Given
+        client.get()
+                .uri(getApiURI(PROJECTS_GET, Map.of("pageIndex", "0", "pageSize", "10")))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful();
+
+        // When
+        final String metrics = client.get()
+                .uri(getApiURI(METRICS_GET))
+                .header("Api-Key", API_KEY)
+                .exchange()
+                // Then
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(metrics)
+                .contains("facade_calls_seconds_count{")
+                .contains("facade=\"ProjectService\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("hikaricp_connections_acquire_seconds_count{")
+                .contains("jvm_memory_used_bytes{")
+                .contains("http_server_requests_seconds_bucket{");
+    }
+}
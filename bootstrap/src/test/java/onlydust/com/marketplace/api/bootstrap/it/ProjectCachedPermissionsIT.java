@@ -0,0 +1,123 @@
+package onlydust.com.marketplace.api.bootstrap.it;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
+import onlydust.com.marketplace.api.contract.model.CreateProjectResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static java.lang.String.format;
+import static onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationFilter.BEARER_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles({"hasura_auth"})
+@TestPropertySource(properties = {"application.permission-cache.ttl-in-seconds=60",
+        "application.permission-cache.invalidation-grace-in-millis=0"})
+public class ProjectCachedPermissionsIT extends AbstractMarketplaceApiIT {
+
+    @Autowired
+    HasuraUserHelper userHelper;
+
+    @BeforeEach
+    void setUp() {
+        indexerApiWireMockServer.stubFor(WireMock.put(
+                        WireMock.urlEqualTo("/api/v1/users/595505"))
+                .withHeader("Content-Type", equalTo("application/json"))
+                .withHeader("Api-Key", equalTo("some-indexer-api-key"))
+                .willReturn(ResponseDefinitionBuilder.okForEmptyJson()));
+    }
+
+    @Test
+    void should_check_lead_permissions_against_the_latest_project_leads() {
+        // Given
+        final String pierreJwt = userHelper.authenticatePierre().jwt();
+        final String olivierJwt = userHelper.authenticateOlivier().jwt();
+
+        // When
+        final CreateProjectResponse response = client.post()
+                .uri(getApiURI(PROJECTS_POST))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + pierreJwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "name": "Cached Permissions Project",
+                          "shortDescription": "This is a project whose permissions are cached",
+                          "longDescription": "This is a project whose permissions are cached",
+                          "moreInfo": [],
+                          "isLookingForContributors": false,
+                          "inviteGithubUserIdsAsProjectLeads": [
+                            595505
+                          ],
+                          "githubRepoIds": [
+                            498695724
+                          ]
+                        }
+                        """)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody(CreateProjectResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(response).isNotNull();
+        final UUID projectId = response.getProjectId();
+
+        // Then
+        assertBudgetsStatus(projectId, pierreJwt, HttpStatus.OK);
+        assertBudgetsStatus(projectId, olivierJwt, HttpStatus.FORBIDDEN);
+
+        // When
+        client.put()
+                .uri(getApiURI(format(ME_ACCEPT_PROJECT_LEADER_INVITATION, projectId)))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + olivierJwt)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful();
+
+        // Then
+        assertBudgetsStatus(projectId, olivierJwt, HttpStatus.OK);
+
+        // When
+        client.put()
+                .uri(getApiURI(format(PROJECTS_PUT, projectId)))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + pierreJwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                          "name": "Cached Permissions Project",
+                          "shortDescription": "This is a project whose permissions are cached",
+                          "longDescription": "This is a project whose permissions are cached",
+                          "moreInfo": [],
+                          "isLookingForContributors": false,
+                          "projectLeadsToKeep": [
+                            "e461c019-ba23-4671-9b6c-3a5a18748af9"
+                          ]
+                        }
+                        """)
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful();
+
+        // Then
+        assertBudgetsStatus(projectId, pierreJwt, HttpStatus.OK);
+        assertBudgetsStatus(projectId, olivierJwt, HttpStatus.FORBIDDEN);
+    }
+
+    private void assertBudgetsStatus(final UUID projectId, final String jwt, final HttpStatus status) {
+        client.get()
+                .uri(getApiURI(format(PROJECTS_GET_BUDGETS, projectId)))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + jwt)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(status);
+    }
+}
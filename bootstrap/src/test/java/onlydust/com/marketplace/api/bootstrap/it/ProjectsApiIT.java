@@ -2531,4 +2531,38 @@ public class ProjectsApiIT extends AbstractMarketplaceApiIT {
                 .expectBody()
                 .json(GET_PROJECTS_FOR_AUTHENTICATED_USER_FOR_MINE_JSON_RESPONSE);
     }
+
+    @Test
+    @Order(8)
+    void should_search_projects_by_word_prefixes_given_anonymous_user() {
+        client.get()
+                .uri(getApiURI(PROJECTS_GET, Map.of("search", "fruit lov", "pageIndex", "0", "pageSize", "100")))
+                .exchange()
+                // Then
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.projects.length()").isEqualTo(1)
+                .jsonPath("$.projects[0].name").isEqualTo("Bretzel");
+    }
+
+    @Test
+    @Order(9)
+    void should_sort_searched_projects_by_relevance_given_authenticated_user() {
+        // Given
+        final String jwt = userHelper.authenticateAnthony().jwt();
+
+        // When
+        client.get()
+                .uri(getApiURI(PROJECTS_GET, Map.of("search", "bretzel", "sort", "RELEVANCE", "pageIndex", "0",
+                        "pageSize", "100")))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt)
+                .exchange()
+                // Then
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.projects[0].name").isEqualTo("Bretzel")
+                .jsonPath("$.projects[1].name").isEqualTo("Bretzel 196");
+    }
 }
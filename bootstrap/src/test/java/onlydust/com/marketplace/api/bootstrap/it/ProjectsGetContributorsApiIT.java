@@ -1,6 +1,8 @@
 package onlydust.com.marketplace.api.bootstrap.it;
 
 import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
+import onlydust.com.marketplace.api.contract.model.ContributorPageItemResponse;
+import onlydust.com.marketplace.api.contract.model.ContributorsPageResponse;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.CryptoUsdQuotesEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.IgnoredContributionEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.PaymentRequestEntity;
@@ -17,11 +19,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static onlydust.com.marketplace.api.rest.api.adapter.authentication.AuthenticationFilter.BEARER_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @ActiveProfiles({"hasura_auth"})
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -1181,4 +1187,48 @@ public class ProjectsGetContributorsApiIT extends AbstractMarketplaceApiIT {
                 .expectBody()
                 .json(GET_PROJECTS_CONTRIBUTORS_WITH_MULTI_CURRENCIES_AND_IGNORED_CONTRIBUTIONS);
     }
+
+    @Test
+    @Order(6)
+    void should_page_across_contributors_earning_the_same_amount() {
+        // Given
+        final UUID projectId = UUID.fromString("f39b827f-df73-498c-8853-99bc3f562723");
+
+        // When
+        final List<Long> offsetPagedIds = new ArrayList<>();
+        ContributorsPageResponse page;
+        int pageIndex = 0;
+        do {
+            page = getContributorsPage(projectId, Map.of("pageIndex", String.valueOf(pageIndex++)));
+            page.getContributors().stream().map(ContributorPageItemResponse::getGithubUserId)
+                    .forEach(offsetPagedIds::add);
+        } while (page.getHasMore());
+        final int totalItemNumber = page.getTotalItemNumber();
+
+        final List<Long> cursorPagedIds = new ArrayList<>();
+        page = getContributorsPage(projectId, Map.of("pageIndex", "0"));
+        page.getContributors().stream().map(ContributorPageItemResponse::getGithubUserId)
+                .forEach(cursorPagedIds::add);
+        while (page.getNextCursor() != null) {
+            page = getContributorsPage(projectId, Map.of("cursor", page.getNextCursor()));
+            page.getContributors().stream().map(ContributorPageItemResponse::getGithubUserId)
+                    .forEach(cursorPagedIds::add);
+        }
+
+        // Then
+        assertThat(offsetPagedIds).hasSize(totalItemNumber).doesNotHaveDuplicates();
+        assertThat(cursorPagedIds).hasSize(totalItemNumber).doesNotHaveDuplicates();
+    }
+
+    private ContributorsPageResponse getContributorsPage(final UUID projectId, final Map<String, String> params) {
+        final Map<String, String> queryParams = new HashMap<>(params);
+        queryParams.putAll(Map.of("pageSize", "2", "sort", "EARNED", "direction", "DESC"));
+        return client.get()
+                .uri(getApiURI(String.format(PROJECTS_GET_CONTRIBUTORS, projectId), queryParams))
+                .exchange()
+                .expectStatus()
+                .is2xxSuccessful()
+                .expectBody(ContributorsPageResponse.class)
+                .returnResult().getResponseBody();
+    }
 }
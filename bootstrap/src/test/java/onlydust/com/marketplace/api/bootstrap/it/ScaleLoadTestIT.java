@@ -0,0 +1,74 @@
+package onlydust.com.marketplace.api.bootstrap.it;
+
+import onlydust.com.marketplace.api.bootstrap.helper.HasuraUserHelper;
+import onlydust.com.marketplace.api.bootstrap.helper.LoadTestRunner;
+import onlydust.com.marketplace.api.bootstrap.helper.ScaleDataGenerator;
+import onlydust.com.marketplace.api.bootstrap.helper.ScaleProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a production-sized data set and measures throughput and latency percentiles of the heaviest endpoints.
+ * Disabled by default, run it with:
+ * <pre>
+ * mvn -pl bootstrap verify -Dit.test=ScaleLoadTestIT -Dscale.tests=true [-Dscale.projects=10000 ...]
+ * </pre>
+ * Volumes are set by the {@code scale.*} properties of {@link ScaleProfile}, the load by {@code scale.load.concurrency},
+ * {@code scale.load.warmupInSeconds} and {@code scale.load.durationInSeconds}. When {@code scale.load.p95BudgetInMillis}
+ * is set, the test fails if an endpoint p95 exceeds it. Results are written to
+ * {@code target/scale-tests/load-test-report.csv}.
+ */
+@ActiveProfiles({"hasura_auth"})
+@EnabledIfSystemProperty(named = "scale.tests", matches = "true")
+public class ScaleLoadTestIT extends AbstractMarketplaceApiIT {
+
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    HasuraUserHelper userHelper;
+
+    @Test
+    void should_serve_heaviest_endpoints_at_production_volume() throws Exception {
+        // Given
+        final ScaleDataGenerator.ScaleDataSet dataSet =
+                new ScaleDataGenerator(dataSource).generate(ScaleProfile.fromSystemProperties());
+        final String contributorJwt = userHelper.authenticateUser(dataSet.mostActiveContributorGithubId()).jwt();
+        final String recipientJwt = userHelper.authenticateUser(dataSet.mostRewardedRecipientGithubId()).jwt();
+        final LoadTestRunner runner = LoadTestRunner.fromSystemProperties();
+
+        // When
+        final List<LoadTestRunner.Result> results = new ArrayList<>();
+        results.add(runner.run("GET /projects",
+                getApiURI(PROJECTS_GET, Map.of("pageIndex", "0", "pageSize", "50", "sort", "RANK")), null));
+        results.add(runner.run("GET /projects (authenticated)",
+                getApiURI(PROJECTS_GET, Map.of("pageIndex", "0", "pageSize", "50", "sort", "RANK")), contributorJwt));
+        results.add(runner.run("GET /me/rewards",
+                getApiURI(ME_GET_REWARDS, Map.of("pageIndex", "0", "pageSize", "50")), recipientJwt));
+        results.add(runner.run("GET /me/contributions",
+                getApiURI(ME_GET_CONTRIBUTIONS, Map.of("pageIndex", "0", "pageSize", "50")), contributorJwt));
+        results.add(runner.run("GET /projects/{id}/contributors",
+                getApiURI(PROJECTS_GET_CONTRIBUTORS.formatted(dataSet.largestProjectId()),
+                        Map.of("pageIndex", "0", "pageSize", "50", "sort", "CONTRIBUTION_COUNT")), null));
+        LoadTestRunner.writeReport(Path.of("target", "scale-tests", "load-test-report.csv"), results);
+
+        // Then
+        final Long p95Budget = Long.getLong("scale.load.p95BudgetInMillis");
+        for (LoadTestRunner.Result result : results) {
+            assertThat(result.errors()).as("errors on %s", result.name()).isZero();
+            assertThat(result.requests()).as("requests on %s", result.name()).isPositive();
+            if (p95Budget != null) {
+                assertThat(result.p95()).as("p95 of %s", result.name()).isLessThanOrEqualTo(p95Budget);
+            }
+        }
+    }
+}
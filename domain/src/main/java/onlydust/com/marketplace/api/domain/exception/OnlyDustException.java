@@ -85,6 +85,14 @@ public class OnlyDustException extends RuntimeException {
         return new OnlyDustException(400, message, cause);
     }
 
+    public static OnlyDustException serviceUnavailable(final String message) {
+        return new OnlyDustException(503, message);
+    }
+
+    public static OnlyDustException serviceUnavailable(final String message, final Throwable cause) {
+        return new OnlyDustException(503, message, cause);
+    }
+
 
     @Override
     public String toString() {
@@ -0,0 +1,35 @@
+package onlydust.com.marketplace.api.domain.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Invalidation of the cached entries of an entity, broadcast to every node of the cluster.
+ */
+@Value
+public class CacheInvalidation {
+    Entity entity;
+    // null when every cached entry of the entity must be invalidated
+    String id;
+
+    public static CacheInvalidation ofUser(final UUID userId) {
+        return new CacheInvalidation(Entity.USER, userId.toString());
+    }
+
+    public static CacheInvalidation ofGithubUser(final Long githubUserId) {
+        return new CacheInvalidation(Entity.GITHUB_USER, githubUserId.toString());
+    }
+
+    public static CacheInvalidation ofProject(final UUID projectId) {
+        return new CacheInvalidation(Entity.PROJECT, projectId.toString());
+    }
+
+    public static CacheInvalidation all(final Entity entity) {
+        return new CacheInvalidation(entity, null);
+    }
+
+    public enum Entity {
+        USER, GITHUB_USER, PROJECT
+    }
+}
@@ -0,0 +1,21 @@
+package onlydust.com.marketplace.api.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Pending refresh of the ignored contributions of a repo. All the change events received for the repo since the last
+ * refresh are coalesced into a single one.
+ */
+@Value
+@Builder
+public class ContributionsChange {
+    Long repoId;
+    // null when the whole repo must be refreshed
+    List<String> contributionIds;
+    Long version;
+    Date enqueuedAt;
+}
@@ -0,0 +1,15 @@
+package onlydust.com.marketplace.api.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+public class GithubAccountSearchResult {
+    @Builder.Default
+    List<GithubAccount> accounts = List.of();
+    // Github did not answer all the requests in time: some accounts may be missing or not flagged as admin
+    boolean incomplete;
+}
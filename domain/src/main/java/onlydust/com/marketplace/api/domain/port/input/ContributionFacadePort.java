@@ -13,4 +13,8 @@ public interface ContributionFacadePort {
     void unignoreContributions(UUID projectId, UUID projectLeadId, List<String> contributionIds);
 
     void refreshIgnoredContributions(List<Long> repoIds);
+
+    void refreshIgnoredContributions(List<Long> repoIds, List<String> contributionIds);
+
+    void onContributionsChange(List<Long> repoIds, List<String> contributionIds);
 }
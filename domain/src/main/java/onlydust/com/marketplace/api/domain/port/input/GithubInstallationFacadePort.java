@@ -3,7 +3,16 @@ package onlydust.com.marketplace.api.domain.port.input;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface GithubInstallationFacadePort {
     Optional<GithubAccount> getAccountByInstallationId(Long installationId);
+
+    /**
+     * Completes with the account once the installation is indexed, which can happen a few seconds after the github app
+     * got installed.
+     */
+    default CompletableFuture<Optional<GithubAccount>> awaitAccountByInstallationId(Long installationId) {
+        return CompletableFuture.completedFuture(getAccountByInstallationId(installationId));
+    }
 }
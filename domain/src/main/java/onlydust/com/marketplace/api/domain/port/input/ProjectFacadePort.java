@@ -48,6 +48,19 @@ public interface ProjectFacadePort {
                                                                       Integer pageIndex,
                                                                       Integer pageSize);
 
+    Page<ProjectContributorsLinkView> getContributorsAfter(UUID projectId, String login,
+                                                           ProjectContributorsLinkView.SortBy sortBy,
+                                                           SortDirection sortDirection,
+                                                           String cursor,
+                                                           Integer pageSize);
+
+    Page<ProjectContributorsLinkView> getContributorsForProjectLeadIdAfter(UUID projectId, String login,
+                                                                           UUID projectLeadId,
+                                                                           ProjectContributorsLinkView.SortBy sortBy,
+                                                                           SortDirection sortDirection,
+                                                                           String cursor,
+                                                                           Integer pageSize);
+
     Page<ProjectRewardView> getRewards(UUID projectId, UUID projectLeadId, Integer pageIndex, Integer pageSize,
                                        ProjectRewardView.SortBy sortBy, SortDirection sortDirection);
 
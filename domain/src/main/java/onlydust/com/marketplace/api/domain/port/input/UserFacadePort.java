@@ -37,6 +37,10 @@ public interface UserFacadePort {
                                              UserRewardView.SortBy sortBy,
                                              SortDirection sortDirection);
 
+    Page<UserRewardView> getRewardsForUserIdAfter(UUID userId, String cursor, int sanitizedPageSize,
+                                                  UserRewardView.SortBy sortBy,
+                                                  SortDirection sortDirection);
+
     UserRewardTotalAmountsView getRewardTotalAmountsForUserId(UUID userId);
 
     UserPayoutInformation updatePayoutInformation(UUID userId, UserPayoutInformation userPayoutInformation);
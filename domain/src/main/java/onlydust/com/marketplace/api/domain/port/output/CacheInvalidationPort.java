@@ -0,0 +1,19 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationPort {
+
+    /**
+     * Broadcasts the invalidation to every node, this one included, once the current transaction (if any) is
+     * committed.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * The subscriber is also called with an invalidation of every entity when invalidations may have been missed.
+     */
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
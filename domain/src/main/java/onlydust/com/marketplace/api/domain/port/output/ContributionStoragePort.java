@@ -33,4 +33,6 @@ public interface ContributionStoragePort {
     void refreshIgnoredContributions(UUID projectId);
 
     void refreshIgnoredContributions(List<Long> repoIds);
+
+    void refreshIgnoredContributionsAmong(List<String> contributionIds);
 }
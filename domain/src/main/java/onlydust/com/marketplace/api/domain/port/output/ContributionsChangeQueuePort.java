@@ -0,0 +1,20 @@
+package onlydust.com.marketplace.api.domain.port.output;
+
+import onlydust.com.marketplace.api.domain.model.ContributionsChange;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+public interface ContributionsChangeQueuePort {
+    void push(List<Long> repoIds, List<String> contributionIds);
+
+    Optional<ContributionsChange> poll(Duration lease);
+
+    void acknowledge(ContributionsChange change);
+
+    long depth();
+
+    Optional<Date> oldestEnqueuedAt();
+}
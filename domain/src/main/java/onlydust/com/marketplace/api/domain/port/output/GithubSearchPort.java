@@ -1,6 +1,6 @@
 package onlydust.com.marketplace.api.domain.port.output;
 
-import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 
 import java.util.List;
@@ -8,7 +8,6 @@ import java.util.List;
 public interface GithubSearchPort {
     List<GithubUserIdentity> searchUsersByLogin(String login);
 
-    List<GithubAccount> searchOrganizationsByGithubPersonalToken(String githubPersonalToken);
-
-    boolean isGithubUserAdminOfOrganization(String githubPersonalToken, String userLogin, String organizationLogin);
+    GithubAccountSearchResult searchOrganizationsWithAdminRoleByGithubPersonalToken(String githubPersonalToken,
+                                                                                    String userLogin);
 }
@@ -49,6 +49,16 @@ public interface ProjectStoragePort {
 
     List<UUID> getProjectLeadIds(UUID projectId);
 
+    Page<ProjectContributorsLinkView> findContributorsAfter(UUID projectId, String login,
+                                                            ProjectContributorsLinkView.SortBy sortBy,
+                                                            SortDirection sortDirection,
+                                                            String cursor, int pageSize);
+
+    Page<ProjectContributorsLinkView> findContributorsForProjectLeadAfter(UUID projectId, String login,
+                                                                          ProjectContributorsLinkView.SortBy sortBy,
+                                                                          SortDirection sortDirection,
+                                                                          String cursor, int pageSize);
+
     Page<ProjectRewardView> findRewards(UUID projectId, ProjectRewardView.SortBy sortBy, SortDirection sortDirection,
                                         int pageIndex, int pageSize);
 
@@ -38,6 +38,9 @@ public interface UserStoragePort {
     Page<UserRewardView> findRewardsForUserId(UUID userId, int pageIndex, int pageSize, UserRewardView.SortBy sortBy,
                                               SortDirection sortDirection);
 
+    Page<UserRewardView> findRewardsForUserIdAfter(UUID userId, String cursor, int pageSize,
+                                                   UserRewardView.SortBy sortBy, SortDirection sortDirection);
+
     UserRewardTotalAmountsView findRewardTotalAmountsForUserId(UUID userId);
 
     RewardView findRewardById(UUID rewardId);
@@ -0,0 +1,80 @@
+package onlydust.com.marketplace.api.domain.service;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.port.input.GithubInstallationFacadePort;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Github redirects the user as soon as the github app is installed, usually before the indexer stored the
+ * installation. Callers waiting for an installation hold no thread: they are completed when the installation is
+ * notified as indexed ({@link #onInstallationIndexed}), by a periodic re-check in case a notification got lost
+ * ({@link #recheckPendingInstallations}), or with an empty result once the timeout elapsed. Concurrent callers waiting
+ * for the same installation share the same lookups.
+ */
+public class AwaitingGithubInstallationFacade implements GithubInstallationFacadePort {
+
+    private final GithubInstallationFacadePort installationFacadePort;
+    private final Config config;
+    private final Map<Long, CompletableFuture<Optional<GithubAccount>>> pendingInstallations =
+            new ConcurrentHashMap<>();
+
+    public AwaitingGithubInstallationFacade(final GithubInstallationFacadePort installationFacadePort,
+                                            final Config config) {
+        this.installationFacadePort = installationFacadePort;
+        this.config = config;
+    }
+
+    @Override
+    public Optional<GithubAccount> getAccountByInstallationId(Long installationId) {
+        return installationFacadePort.getAccountByInstallationId(installationId);
+    }
+
+    @Override
+    public CompletableFuture<Optional<GithubAccount>> awaitAccountByInstallationId(Long installationId) {
+        final Optional<GithubAccount> account = installationFacadePort.getAccountByInstallationId(installationId);
+        if (account.isPresent() || config.timeoutInMillis <= 0) {
+            return CompletableFuture.completedFuture(account);
+        }
+        final CompletableFuture<Optional<GithubAccount>> pending = pendingInstallations.computeIfAbsent(installationId,
+                id -> {
+                    final CompletableFuture<Optional<GithubAccount>> future = new CompletableFuture<>();
+                    future.completeOnTimeout(Optional.empty(), config.timeoutInMillis, TimeUnit.MILLISECONDS)
+                            .whenComplete((result, error) -> pendingInstallations.remove(id, future));
+                    return future;
+                });
+        // the installation may have been indexed and notified between the lookup and the registration
+        onInstallationIndexed(installationId);
+        return pending.copy();
+    }
+
+    public void onInstallationIndexed(final Long installationId) {
+        final CompletableFuture<Optional<GithubAccount>> pending = pendingInstallations.get(installationId);
+        if (pending == null || pending.isDone()) {
+            return;
+        }
+        installationFacadePort.getAccountByInstallationId(installationId)
+                .ifPresent(account -> pending.complete(Optional.of(account)));
+    }
+
+    public void recheckPendingInstallations() {
+        pendingInstallations.keySet().forEach(this::onInstallationIndexed);
+    }
+
+    public int pendingInstallationCount() {
+        return pendingInstallations.size();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        Long timeoutInMillis = 10000L;
+        Long recheckIntervalInMillis = 2000L;
+    }
+}
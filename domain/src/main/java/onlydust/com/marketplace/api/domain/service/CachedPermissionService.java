@@ -0,0 +1,150 @@
+package onlydust.com.marketplace.api.domain.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.gateway.DateProvider;
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+import onlydust.com.marketplace.api.domain.port.output.CacheInvalidationPort;
+import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the leads and the repos of the projects in bounded, time-limited indexes, so that checking the permissions of
+ * a project lead is a hash lookup instead of a query. Project creation, update and lead invitation acceptance evict the
+ * project, on this node right away and on the other nodes through the {@link CacheInvalidationPort}.
+ * An evicted project is read from the storage without being cached for {@code invalidationGraceInMillis}, so that a
+ * lagging read replica cannot put stale leads or repos back in the cache. The evicted projects are kept apart from the
+ * bounded indexes, so that a full index cannot drop them before their grace expires.
+ */
+public class CachedPermissionService extends PermissionService {
+
+    private final ProjectStoragePort projectStoragePort;
+    private final DateProvider dateProvider;
+    private final Config config;
+    private final CacheInvalidationPort cacheInvalidationPort;
+    private final Map<UUID, CachedIds<UUID>> leadIdsByProjectId;
+    private final Map<UUID, CachedIds<Long>> repoIdsByProjectId;
+    private final Map<UUID, Long> graceExpiresAtByProjectId = new ConcurrentHashMap<>();
+
+    public CachedPermissionService(final ProjectStoragePort projectStoragePort,
+                                   final ContributionStoragePort contributionStoragePort,
+                                   final DateProvider dateProvider, final Config config,
+                                   final CacheInvalidationPort cacheInvalidationPort) {
+        super(projectStoragePort, contributionStoragePort);
+        this.projectStoragePort = projectStoragePort;
+        this.dateProvider = dateProvider;
+        this.config = config;
+        this.cacheInvalidationPort = cacheInvalidationPort;
+        this.leadIdsByProjectId = boundedMap(config.maxSize);
+        this.repoIdsByProjectId = boundedMap(config.maxSize);
+    }
+
+    @Override
+    public boolean isUserProjectLead(UUID projectId, UUID projectLeadId) {
+        return getCachedIds(leadIdsByProjectId, projectId,
+                () -> Set.copyOf(projectStoragePort.getProjectLeadIds(projectId))).contains(projectLeadId);
+    }
+
+    @Override
+    public boolean isRepoLinkedToProject(UUID projectId, Long githubRepoId) {
+        return getCachedIds(repoIdsByProjectId, projectId,
+                () -> Set.copyOf(projectStoragePort.getProjectRepoIds(projectId))).contains(githubRepoId);
+    }
+
+    public void invalidateProject(final UUID projectId) {
+        evict(projectId);
+        cacheInvalidationPort.publish(CacheInvalidation.ofProject(projectId));
+    }
+
+    /**
+     * Applies an invalidation published by any node, without publishing it again.
+     */
+    public void onInvalidation(final CacheInvalidation invalidation) {
+        if (invalidation.getEntity() != CacheInvalidation.Entity.PROJECT) {
+            return;
+        }
+        if (invalidation.getId() == null) {
+            leadIdsByProjectId.clear();
+            repoIdsByProjectId.clear();
+            graceExpiresAtByProjectId.clear();
+        } else {
+            evict(UUID.fromString(invalidation.getId()));
+        }
+    }
+
+    private <T> Set<T> getCachedIds(final Map<UUID, CachedIds<T>> idsByProjectId, final UUID projectId,
+                                    final Supplier<Set<T>> loader) {
+        if (config.ttlInSeconds <= 0) {
+            return loader.get();
+        }
+        final long now = dateProvider.now().getTime();
+        if (isInGracePeriod(projectId, now)) {
+            return loader.get();
+        }
+        final CachedIds<T> cachedIds = idsByProjectId.get(projectId);
+        if (cachedIds != null && cachedIds.expiresAt > now) {
+            return cachedIds.ids;
+        }
+        final Set<T> ids = loader.get();
+        final CachedIds<T> loaded = new CachedIds<>(ids, now + config.ttlInSeconds * 1000L);
+        if (cachedIds == null) {
+            idsByProjectId.putIfAbsent(projectId, loaded);
+        } else {
+            idsByProjectId.replace(projectId, cachedIds, loaded);
+        }
+        // an eviction that happened while loading wins over the loaded ids, which may predate it
+        if (graceExpiresAtByProjectId.containsKey(projectId)) {
+            idsByProjectId.remove(projectId, loaded);
+        }
+        return ids;
+    }
+
+    private boolean isInGracePeriod(final UUID projectId, final long now) {
+        final Long graceExpiresAt = graceExpiresAtByProjectId.get(projectId);
+        if (graceExpiresAt == null) {
+            return false;
+        }
+        if (graceExpiresAt > now) {
+            return true;
+        }
+        graceExpiresAtByProjectId.remove(projectId, graceExpiresAt);
+        return false;
+    }
+
+    private void evict(final UUID projectId) {
+        final long now = dateProvider.now().getTime();
+        // the grace period is set before removing the ids, so that a concurrent load cannot cache them again
+        graceExpiresAtByProjectId.values().removeIf(graceExpiresAt -> graceExpiresAt <= now);
+        graceExpiresAtByProjectId.put(projectId, now + config.invalidationGraceInMillis);
+        leadIdsByProjectId.remove(projectId);
+        repoIdsByProjectId.remove(projectId);
+    }
+
+    private static <T> Map<UUID, CachedIds<T>> boundedMap(final Integer maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedIds<T>> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private record CachedIds<T>(Set<T> ids, long expiresAt) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        Integer maxSize;
+        Integer ttlInSeconds;
+        Long invalidationGraceInMillis;
+    }
+}
@@ -0,0 +1,289 @@
+package onlydust.com.marketplace.api.domain.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.gateway.DateProvider;
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.model.UserPayoutInformation;
+import onlydust.com.marketplace.api.domain.model.UserProfile;
+import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
+import onlydust.com.marketplace.api.domain.port.output.CacheInvalidationPort;
+import onlydust.com.marketplace.api.domain.view.*;
+import onlydust.com.marketplace.api.domain.view.pagination.Page;
+import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the users resolved from a github identity in a bounded, time-limited cache, so that authenticating a request
+ * does not hit the database. Every mutation going through this facade evicts the mutated user, on this node right
+ * away and on the other nodes through the {@link CacheInvalidationPort}.
+ * An evicted user is read from the storage without being cached for {@code invalidationGraceInMillis}, so that a
+ * lagging read replica cannot put a stale user back in the cache. When full, the cache drops the entries in the order
+ * they were cached, which is also their expiry order as they all live for the same time.
+ */
+public class CachedUserFacade implements UserFacadePort {
+
+    private final UserFacadePort userFacadePort;
+    private final DateProvider dateProvider;
+    private final Config config;
+    private final CacheInvalidationPort cacheInvalidationPort;
+    private final Map<Long, CachedUser> usersByGithubUserId = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> githubUserIdsByUserId = new ConcurrentHashMap<>();
+    // entries replaced since they were queued are skipped when shrinking
+    private final Queue<QueuedUser> cacheOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger cacheOrderSize = new AtomicInteger();
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    public CachedUserFacade(final UserFacadePort userFacadePort, final DateProvider dateProvider,
+                            final Config config, final CacheInvalidationPort cacheInvalidationPort) {
+        this.userFacadePort = userFacadePort;
+        this.dateProvider = dateProvider;
+        this.config = config;
+        this.cacheInvalidationPort = cacheInvalidationPort;
+    }
+
+    @Override
+    public User getUserByGithubIdentity(GithubUserIdentity githubUserIdentity) {
+        if (config.ttlInSeconds <= 0) {
+            return userFacadePort.getUserByGithubIdentity(githubUserIdentity);
+        }
+        final Long githubUserId = githubUserIdentity.getGithubUserId();
+        final long now = dateProvider.now().getTime();
+        final CachedUser cachedUser = usersByGithubUserId.get(githubUserId);
+        if (cachedUser != null && cachedUser.expiresAt > now) {
+            return cachedUser.user == null ? userFacadePort.getUserByGithubIdentity(githubUserIdentity) :
+                    copy(cachedUser.user);
+        }
+        final User user = userFacadePort.getUserByGithubIdentity(githubUserIdentity);
+        final CachedUser loaded = new CachedUser(copy(user), now + config.ttlInSeconds * 1000L,
+                loadSequence.incrementAndGet());
+        // indexed first, so that an eviction of the user by id cannot miss the entry being cached
+        if (user.getId() != null) {
+            githubUserIdsByUserId.put(user.getId(), githubUserId);
+        }
+        // an eviction that happened while loading wins over the loaded user, who may predate it
+        final boolean cached = cachedUser == null ? usersByGithubUserId.putIfAbsent(githubUserId, loaded) == null :
+                usersByGithubUserId.replace(githubUserId, cachedUser, loaded);
+        if (cached) {
+            enqueue(githubUserId, loaded);
+        }
+        return user;
+    }
+
+    public void invalidate(final UUID userId) {
+        evict(userId);
+        cacheInvalidationPort.publish(CacheInvalidation.ofUser(userId));
+    }
+
+    public void invalidate(final Long githubUserId) {
+        evict(githubUserId);
+        cacheInvalidationPort.publish(CacheInvalidation.ofGithubUser(githubUserId));
+    }
+
+    public void invalidateAll() {
+        clear();
+        cacheInvalidationPort.publish(CacheInvalidation.all(CacheInvalidation.Entity.USER));
+    }
+
+    /**
+     * Applies an invalidation published by any node, without publishing it again.
+     */
+    public void onInvalidation(final CacheInvalidation invalidation) {
+        switch (invalidation.getEntity()) {
+            case USER -> {
+                if (invalidation.getId() == null) {
+                    clear();
+                } else {
+                    evict(UUID.fromString(invalidation.getId()));
+                }
+            }
+            case GITHUB_USER -> {
+                if (invalidation.getId() == null) {
+                    clear();
+                } else {
+                    evict(Long.valueOf(invalidation.getId()));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void evict(final UUID userId) {
+        final Long githubUserId = githubUserIdsByUserId.get(userId);
+        if (githubUserId != null) {
+            evict(githubUserId);
+        }
+    }
+
+    private void evict(final Long githubUserId) {
+        final CachedUser evicted = new CachedUser(null,
+                dateProvider.now().getTime() + config.invalidationGraceInMillis, loadSequence.incrementAndGet());
+        unindex(githubUserId, usersByGithubUserId.put(githubUserId, evicted));
+        enqueue(githubUserId, evicted);
+    }
+
+    private void unindex(final Long githubUserId, final CachedUser cachedUser) {
+        if (cachedUser != null && cachedUser.user != null && cachedUser.user.getId() != null) {
+            githubUserIdsByUserId.remove(cachedUser.user.getId(), githubUserId);
+        }
+    }
+
+    private void clear() {
+        usersByGithubUserId.clear();
+        githubUserIdsByUserId.clear();
+        cacheOrder.clear();
+        cacheOrderSize.set(0);
+    }
+
+    private void enqueue(final Long githubUserId, final CachedUser cachedUser) {
+        cacheOrder.add(new QueuedUser(githubUserId, cachedUser));
+        cacheOrderSize.incrementAndGet();
+        shrink();
+    }
+
+    // the queue is also shrunk when users are cached again and again, as it keeps the replaced entries
+    private void shrink() {
+        while (usersByGithubUserId.size() > config.maxSize || cacheOrderSize.get() > 2 * config.maxSize) {
+            final QueuedUser oldest = cacheOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            cacheOrderSize.decrementAndGet();
+            if (usersByGithubUserId.remove(oldest.githubUserId, oldest.cachedUser)) {
+                unindex(oldest.githubUserId, oldest.cachedUser);
+            }
+        }
+    }
+
+    /**
+     * The cached user is shared by concurrent requests: callers get their own copy, lists included.
+     */
+    private static User copy(final User user) {
+        return user.toBuilder()
+                .roles(copy(user.getRoles()))
+                .projectsLed(copy(user.getProjectsLed()))
+                .pendingProjectsLed(copy(user.getPendingProjectsLed()))
+                .build();
+    }
+
+    private static <T> List<T> copy(final List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    @Override
+    public UserProfileView getProfileById(UUID userId) {
+        return userFacadePort.getProfileById(userId);
+    }
+
+    @Override
+    public UserProfileView getProfileById(Long githubUserId) {
+        return userFacadePort.getProfileById(githubUserId);
+    }
+
+    @Override
+    public UserProfileView getProfileByLogin(String githubLogin) {
+        return userFacadePort.getProfileByLogin(githubLogin);
+    }
+
+    @Override
+    public UserProfileView updateProfile(UUID userId, UserProfile userProfile) {
+        return userFacadePort.updateProfile(userId, userProfile);
+    }
+
+    @Override
+    public UserPayoutInformation getPayoutInformationForUserId(UUID id) {
+        return userFacadePort.getPayoutInformationForUserId(id);
+    }
+
+    @Override
+    public void markUserAsOnboarded(UUID userId) {
+        userFacadePort.markUserAsOnboarded(userId);
+        invalidate(userId);
+    }
+
+    @Override
+    public void updateTermsAndConditionsAcceptanceDate(UUID userId) {
+        userFacadePort.updateTermsAndConditionsAcceptanceDate(userId);
+        invalidate(userId);
+    }
+
+    @Override
+    public void acceptInvitationToLeadProject(Long githubUserId, UUID projectId) {
+        userFacadePort.acceptInvitationToLeadProject(githubUserId, projectId);
+        invalidate(githubUserId);
+    }
+
+    @Override
+    public void applyOnProject(UUID id, UUID projectId) {
+        userFacadePort.applyOnProject(id, projectId);
+    }
+
+    @Override
+    public Page<UserRewardView> getRewardsForUserId(UUID userId, int pageIndex, int sanitizedPageSize,
+                                                    UserRewardView.SortBy sortBy, SortDirection sortDirection) {
+        return userFacadePort.getRewardsForUserId(userId, pageIndex, sanitizedPageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Page<UserRewardView> getRewardsForUserIdAfter(UUID userId, String cursor, int sanitizedPageSize,
+                                                         UserRewardView.SortBy sortBy, SortDirection sortDirection) {
+        return userFacadePort.getRewardsForUserIdAfter(userId, cursor, sanitizedPageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public UserRewardTotalAmountsView getRewardTotalAmountsForUserId(UUID userId) {
+        return userFacadePort.getRewardTotalAmountsForUserId(userId);
+    }
+
+    @Override
+    public UserPayoutInformation updatePayoutInformation(UUID userId, UserPayoutInformation userPayoutInformation) {
+        final UserPayoutInformation updated = userFacadePort.updatePayoutInformation(userId, userPayoutInformation);
+        invalidate(userId);
+        return updated;
+    }
+
+    @Override
+    public RewardView getRewardByIdForRecipientId(UUID rewardId, Long recipientId) {
+        return userFacadePort.getRewardByIdForRecipientId(rewardId, recipientId);
+    }
+
+    @Override
+    public Page<RewardItemView> getRewardItemsPageByIdForRecipientId(UUID rewardId, Long recipientId, int pageIndex,
+                                                                     int pageSize) {
+        return userFacadePort.getRewardItemsPageByIdForRecipientId(rewardId, recipientId, pageIndex, pageSize);
+    }
+
+    @Override
+    public List<UserRewardView> getPendingInvoiceRewardsForRecipientId(Long githubUserId) {
+        return userFacadePort.getPendingInvoiceRewardsForRecipientId(githubUserId);
+    }
+
+    /**
+     * A null user marks a user evicted until {@code expiresAt}.
+     */
+    private record CachedUser(User user, long expiresAt, long loadSequence) {
+    }
+
+    private record QueuedUser(Long githubUserId, CachedUser cachedUser) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        Integer maxSize;
+        Integer ttlInSeconds;
+        Long invalidationGraceInMillis;
+    }
+}
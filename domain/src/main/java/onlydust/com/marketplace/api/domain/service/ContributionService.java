@@ -2,17 +2,25 @@ package onlydust.com.marketplace.api.domain.service;
 
 import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.domain.model.ContributionsChange;
 import onlydust.com.marketplace.api.domain.port.input.ContributionFacadePort;
 import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.ContributionsChangeQueuePort;
 import onlydust.com.marketplace.api.domain.view.ContributionDetailsView;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @AllArgsConstructor
 public class ContributionService implements ContributionFacadePort {
+    // A change whose refresh did not complete within the lease (crash, restart) is picked up again by another worker
+    private static final Duration CONTRIBUTIONS_CHANGE_LEASE = Duration.ofMinutes(5);
+
     final ContributionStoragePort contributionStoragePort;
     final PermissionService permissionService;
+    final ContributionsChangeQueuePort contributionsChangeQueuePort;
 
     @Override
     public ContributionDetailsView getContribution(UUID projectId, String contributionId, Long githubUserId) {
@@ -39,4 +47,33 @@ public class ContributionService implements ContributionFacadePort {
     public void refreshIgnoredContributions(List<Long> repoIds) {
         contributionStoragePort.refreshIgnoredContributions(repoIds);
     }
+
+    @Override
+    public void refreshIgnoredContributions(List<Long> repoIds, List<String> contributionIds) {
+        if (contributionIds == null || contributionIds.isEmpty()) {
+            refreshIgnoredContributions(repoIds);
+        } else {
+            contributionStoragePort.refreshIgnoredContributionsAmong(contributionIds);
+        }
+    }
+
+    @Override
+    public void onContributionsChange(List<Long> repoIds, List<String> contributionIds) {
+        contributionsChangeQueuePort.push(repoIds, contributionIds);
+    }
+
+    /**
+     * Called by the queue workers, not part of {@link ContributionFacadePort}.
+     *
+     * @return whether a change was processed
+     */
+    public boolean processNextContributionsChange() {
+        final Optional<ContributionsChange> change = contributionsChangeQueuePort.poll(CONTRIBUTIONS_CHANGE_LEASE);
+        if (change.isEmpty()) {
+            return false;
+        }
+        refreshIgnoredContributions(List.of(change.get().getRepoId()), change.get().getContributionIds());
+        contributionsChangeQueuePort.acknowledge(change.get());
+        return true;
+    }
 }
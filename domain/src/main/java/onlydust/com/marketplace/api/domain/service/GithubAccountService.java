@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.domain.service;
 
 import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.port.input.GithubInstallationFacadePort;
 import onlydust.com.marketplace.api.domain.port.input.GithubOrganizationFacadePort;
@@ -24,17 +25,12 @@ public class GithubAccountService implements GithubInstallationFacadePort, Githu
         return githubStoragePort.findAccountByInstallationId(installationId);
     }
 
-    public List<GithubAccount> getOrganizationsForAuthenticatedUserAndGithubPersonalToken(final String githubPersonalToken,
-                                                                                          final User authenticatedUser) {
-        final List<GithubAccount> userGithubAccounts =
-                new ArrayList<>(githubSearchPort.searchOrganizationsByGithubPersonalToken(githubPersonalToken))
-                        .stream()
-                        .map(githubAccount -> githubAccount.toBuilder()
-                                .isCurrentUserAdmin(githubSearchPort.isGithubUserAdminOfOrganization(githubPersonalToken
-                                        , authenticatedUser.getLogin(), githubAccount.getLogin()))
-                                .build()
-                        )
-                        .collect(Collectors.toList());
+    public GithubAccountSearchResult getOrganizationsForAuthenticatedUserAndGithubPersonalToken(final String githubPersonalToken,
+                                                                                                final User authenticatedUser) {
+        final GithubAccountSearchResult organizations =
+                githubSearchPort.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPersonalToken,
+                        authenticatedUser.getLogin());
+        final List<GithubAccount> userGithubAccounts = new ArrayList<>(organizations.getAccounts());
         userGithubAccounts.add(GithubAccount.builder()
                 .id(authenticatedUser.getGithubUserId())
                 .login(authenticatedUser.getLogin())
@@ -49,7 +45,7 @@ public class GithubAccountService implements GithubInstallationFacadePort, Githu
         final List<GithubAccount> installedGithubAccounts =
                 githubStoragePort.findInstalledAccountsByIds(userGithubAccountIds);
         if (installedGithubAccounts.isEmpty()) {
-            return userGithubAccounts;
+            return organizations.toBuilder().accounts(userGithubAccounts).build();
         } else {
             final List<GithubAccount> updatedUserGithubAccounts = new ArrayList<>();
             for (GithubAccount userGithubAccount : userGithubAccounts) {
@@ -62,7 +58,7 @@ public class GithubAccountService implements GithubInstallationFacadePort, Githu
                                 .installed(true).build())
                         .orElse(userGithubAccount));
             }
-            return updatedUserGithubAccounts;
+            return organizations.toBuilder().accounts(updatedUserGithubAccounts).build();
         }
     }
 }
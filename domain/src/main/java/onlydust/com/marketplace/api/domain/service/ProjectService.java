@@ -142,6 +142,28 @@ public class ProjectService implements ProjectFacadePort {
         }
     }
 
+    @Override
+    public Page<ProjectContributorsLinkView> getContributorsAfter(UUID projectId, String login,
+                                                                  ProjectContributorsLinkView.SortBy sortBy,
+                                                                  SortDirection sortDirection,
+                                                                  String cursor, Integer pageSize) {
+        return projectStoragePort.findContributorsAfter(projectId, login, sortBy, sortDirection, cursor, pageSize);
+    }
+
+    @Override
+    public Page<ProjectContributorsLinkView> getContributorsForProjectLeadIdAfter(UUID projectId, String login,
+                                                                                  UUID projectLeadId,
+                                                                                  ProjectContributorsLinkView.SortBy sortBy,
+                                                                                  SortDirection sortDirection,
+                                                                                  String cursor, Integer pageSize) {
+        if (permissionService.isUserProjectLead(projectId, projectLeadId)) {
+            return projectStoragePort.findContributorsForProjectLeadAfter(projectId, login, sortBy, sortDirection,
+                    cursor, pageSize);
+        } else {
+            return projectStoragePort.findContributorsAfter(projectId, login, sortBy, sortDirection, cursor, pageSize);
+        }
+    }
+
     @Override
     public Page<ProjectRewardView> getRewards(UUID projectId, UUID projectLeadId, Integer pageIndex, Integer pageSize
             , ProjectRewardView.SortBy sortBy, SortDirection sortDirection) {
@@ -100,6 +100,12 @@ public class UserService implements UserFacadePort {
         return userStoragePort.findRewardsForUserId(userId, pageIndex, pageSize, sortBy, sortDirection);
     }
 
+    @Override
+    public Page<UserRewardView> getRewardsForUserIdAfter(UUID userId, String cursor, int pageSize,
+                                                         UserRewardView.SortBy sortBy, SortDirection sortDirection) {
+        return userStoragePort.findRewardsForUserIdAfter(userId, cursor, pageSize, sortBy, sortDirection);
+    }
+
     @Override
     public UserRewardTotalAmountsView getRewardTotalAmountsForUserId(UUID userId) {
         return userStoragePort.findRewardTotalAmountsForUserId(userId);
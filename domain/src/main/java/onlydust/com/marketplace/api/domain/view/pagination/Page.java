@@ -15,6 +15,7 @@ public class Page<T> {
     List<T> content;
     int totalPageNumber;
     int totalItemNumber;
+    String nextCursor;
     @Builder.Default
     Map<String, Set<String>> filters = new HashMap<>();
 }
@@ -0,0 +1,51 @@
+package onlydust.com.marketplace.api.domain.view.pagination;
+
+import lombok.Value;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Opaque keyset pagination cursor: it holds the sort it was issued for and the sort key values of the last item of
+ * the previous page, so that the next page can be fetched with a seek predicate instead of an offset.
+ */
+@Value
+public class PageCursor {
+
+    private static final String SEPARATOR = "\u001F";
+
+    String sort;
+    List<String> keys;
+
+    public static PageCursor of(final String sort, final String... keys) {
+        return new PageCursor(sort, List.of(keys));
+    }
+
+    public String encode() {
+        final String raw = String.join(SEPARATOR, Stream.concat(Stream.of(sort), keys.stream()).toList());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    public static PageCursor decode(final String cursor, final String expectedSort, final int expectedKeyCount) {
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw OnlyDustException.badRequest("Invalid pagination cursor %s".formatted(cursor), e);
+        }
+        if (parts.length != expectedKeyCount + 1 || !parts[0].equals(expectedSort)) {
+            throw OnlyDustException.badRequest("Pagination cursor %s does not match sort %s".formatted(cursor,
+                    expectedSort));
+        }
+        return new PageCursor(parts[0], Arrays.asList(parts).subList(1, parts.length));
+    }
+
+    public String key(final int index) {
+        return keys.get(index);
+    }
+}
@@ -0,0 +1,125 @@
+package onlydust.com.marketplace.api.domain.service;
+
+import onlydust.com.marketplace.api.domain.mocks.DeterministicDateProvider;
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+import onlydust.com.marketplace.api.domain.port.output.CacheInvalidationPort;
+import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class CachedPermissionServiceTest {
+
+    private final DeterministicDateProvider dateProvider = new DeterministicDateProvider();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID projectLeadId = UUID.randomUUID();
+    private final UUID newProjectLeadId = UUID.randomUUID();
+    private ProjectStoragePort projectStoragePort;
+    private CacheInvalidationPort cacheInvalidationPort;
+    private CachedPermissionService permissionService;
+
+    @BeforeEach
+    void setUp() {
+        projectStoragePort = mock(ProjectStoragePort.class);
+        cacheInvalidationPort = mock(CacheInvalidationPort.class);
+        permissionService = new CachedPermissionService(projectStoragePort, mock(ContributionStoragePort.class),
+                dateProvider, CachedPermissionService.Config.builder()
+                .maxSize(10)
+                .ttlInSeconds(300)
+                .invalidationGraceInMillis(5000L)
+                .build(), cacheInvalidationPort);
+        when(projectStoragePort.getProjectLeadIds(projectId)).thenReturn(List.of(projectLeadId));
+        when(projectStoragePort.getProjectRepoIds(projectId)).thenReturn(Set.of(1L, 2L));
+    }
+
+    @Test
+    void should_serve_project_leads_and_repos_from_cache_until_ttl() {
+        // When
+        final boolean isLead = permissionService.isUserProjectLead(projectId, projectLeadId);
+        final boolean isNotLead = permissionService.isUserProjectLead(projectId, newProjectLeadId);
+        final boolean isLinked = permissionService.isRepoLinkedToProject(projectId, 1L);
+        final boolean isNotLinked = permissionService.isRepoLinkedToProject(projectId, 3L);
+
+        // Then
+        assertTrue(isLead);
+        assertFalse(isNotLead);
+        assertTrue(isLinked);
+        assertFalse(isNotLinked);
+        verify(projectStoragePort, times(1)).getProjectLeadIds(projectId);
+        verify(projectStoragePort, times(1)).getProjectRepoIds(projectId);
+
+        // When
+        dateProvider.setNow(new Date(dateProvider.now().getTime() + 301_000L));
+        permissionService.isUserProjectLead(projectId, projectLeadId);
+
+        // Then
+        verify(projectStoragePort, times(2)).getProjectLeadIds(projectId);
+    }
+
+    @Test
+    void should_read_invalidated_project_from_storage_until_grace_expires() {
+        // Given
+        permissionService.isUserProjectLead(projectId, newProjectLeadId);
+        when(projectStoragePort.getProjectLeadIds(projectId)).thenReturn(List.of(projectLeadId, newProjectLeadId));
+
+        // When
+        permissionService.invalidateProject(projectId);
+        final boolean isLead = permissionService.isUserProjectLead(projectId, newProjectLeadId);
+        permissionService.isUserProjectLead(projectId, newProjectLeadId);
+
+        // Then
+        assertTrue(isLead);
+        verify(projectStoragePort, times(3)).getProjectLeadIds(projectId);
+        verify(cacheInvalidationPort).publish(CacheInvalidation.ofProject(projectId));
+
+        // When
+        dateProvider.setNow(new Date(dateProvider.now().getTime() + 5_001L));
+        permissionService.isUserProjectLead(projectId, newProjectLeadId);
+        permissionService.isUserProjectLead(projectId, newProjectLeadId);
+
+        // Then
+        verify(projectStoragePort, times(4)).getProjectLeadIds(projectId);
+    }
+
+    @Test
+    void should_evict_project_invalidated_by_another_node() {
+        // Given
+        permissionService.isRepoLinkedToProject(projectId, 3L);
+        when(projectStoragePort.getProjectRepoIds(projectId)).thenReturn(Set.of(1L, 2L, 3L));
+
+        // When
+        permissionService.onInvalidation(CacheInvalidation.ofProject(projectId));
+        final boolean isLinked = permissionService.isRepoLinkedToProject(projectId, 3L);
+
+        // Then
+        assertTrue(isLinked);
+        verify(projectStoragePort, times(2)).getProjectRepoIds(projectId);
+        verify(cacheInvalidationPort, never()).publish(any());
+    }
+
+    @Test
+    void should_keep_invalidated_project_out_of_cache_until_grace_expires_when_full() {
+        // Given
+        permissionService.isUserProjectLead(projectId, projectLeadId);
+        permissionService.invalidateProject(projectId);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            permissionService.isUserProjectLead(UUID.randomUUID(), projectLeadId);
+        }
+        permissionService.isUserProjectLead(projectId, projectLeadId);
+        permissionService.isUserProjectLead(projectId, projectLeadId);
+
+        // Then
+        verify(projectStoragePort, times(3)).getProjectLeadIds(projectId);
+    }
+}
@@ -0,0 +1,180 @@
+package onlydust.com.marketplace.api.domain.service;
+
+import onlydust.com.marketplace.api.domain.mocks.DeterministicDateProvider;
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
+import onlydust.com.marketplace.api.domain.model.User;
+import onlydust.com.marketplace.api.domain.model.UserPayoutInformation;
+import onlydust.com.marketplace.api.domain.model.UserRole;
+import onlydust.com.marketplace.api.domain.port.input.UserFacadePort;
+import onlydust.com.marketplace.api.domain.port.output.CacheInvalidationPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class CachedUserFacadeTest {
+
+    private final DeterministicDateProvider dateProvider = new DeterministicDateProvider();
+    private final GithubUserIdentity githubUserIdentity = GithubUserIdentity.builder()
+            .githubUserId(595505L)
+            .githubLogin("ofux")
+            .build();
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .githubUserId(595505L)
+            .login("ofux")
+            .build();
+    private UserFacadePort userFacadePort;
+    private CacheInvalidationPort cacheInvalidationPort;
+    private CachedUserFacade cachedUserFacade;
+
+    @BeforeEach
+    void setUp() {
+        userFacadePort = mock(UserFacadePort.class);
+        cacheInvalidationPort = mock(CacheInvalidationPort.class);
+        cachedUserFacade = new CachedUserFacade(userFacadePort, dateProvider,
+                CachedUserFacade.Config.builder().maxSize(2).ttlInSeconds(60).invalidationGraceInMillis(5000L).build(),
+                cacheInvalidationPort);
+        when(userFacadePort.getUserByGithubIdentity(githubUserIdentity)).thenReturn(user);
+    }
+
+    @Test
+    void should_serve_user_from_cache_until_ttl() {
+        // When
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        final User cachedUser = cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        assertEquals(user, cachedUser);
+        verify(userFacadePort, times(1)).getUserByGithubIdentity(githubUserIdentity);
+
+        // When
+        dateProvider.setNow(new Date(dateProvider.now().getTime() + 61_000L));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        verify(userFacadePort, times(2)).getUserByGithubIdentity(githubUserIdentity);
+    }
+
+    @Test
+    void should_evict_user_on_mutation() {
+        // Given
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // When
+        cachedUserFacade.updatePayoutInformation(user.getId(), UserPayoutInformation.builder().build());
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.acceptInvitationToLeadProject(user.getGithubUserId(), UUID.randomUUID());
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        verify(userFacadePort, times(3)).getUserByGithubIdentity(githubUserIdentity);
+        verify(cacheInvalidationPort).publish(CacheInvalidation.ofUser(user.getId()));
+        verify(cacheInvalidationPort).publish(CacheInvalidation.ofGithubUser(user.getGithubUserId()));
+    }
+
+    @Test
+    void should_read_invalidated_user_from_storage_until_grace_expires() {
+        // Given
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // When
+        cachedUserFacade.markUserAsOnboarded(user.getId());
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        verify(userFacadePort, times(3)).getUserByGithubIdentity(githubUserIdentity);
+
+        // When
+        dateProvider.setNow(new Date(dateProvider.now().getTime() + 5_001L));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        verify(userFacadePort, times(4)).getUserByGithubIdentity(githubUserIdentity);
+    }
+
+    @Test
+    void should_not_share_cached_user_lists_between_callers() {
+        // Given
+        user.setRoles(new ArrayList<>(List.of(UserRole.USER)));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity).getRoles().add(UserRole.ADMIN);
+
+        // When
+        final User cachedUser = cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUser.getRoles().add(UserRole.ADMIN);
+
+        // Then
+        assertEquals(List.of(UserRole.USER), cachedUserFacade.getUserByGithubIdentity(githubUserIdentity).getRoles());
+        verify(userFacadePort, times(1)).getUserByGithubIdentity(githubUserIdentity);
+    }
+
+    @Test
+    void should_evict_user_invalidated_by_another_node() {
+        // Given
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // When
+        cachedUserFacade.onInvalidation(CacheInvalidation.ofUser(user.getId()));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.onInvalidation(CacheInvalidation.all(CacheInvalidation.Entity.GITHUB_USER));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.onInvalidation(CacheInvalidation.ofProject(UUID.randomUUID()));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        verify(userFacadePort, times(3)).getUserByGithubIdentity(githubUserIdentity);
+        verify(cacheInvalidationPort, never()).publish(any());
+    }
+
+    @Test
+    void should_bound_cache_size() {
+        // Given
+        final GithubUserIdentity otherIdentity1 = GithubUserIdentity.builder().githubUserId(1L).build();
+        final GithubUserIdentity otherIdentity2 = GithubUserIdentity.builder().githubUserId(2L).build();
+        when(userFacadePort.getUserByGithubIdentity(otherIdentity1)).thenReturn(User.builder().githubUserId(1L).build());
+        when(userFacadePort.getUserByGithubIdentity(otherIdentity2)).thenReturn(User.builder().githubUserId(2L).build());
+
+        // When
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.getUserByGithubIdentity(otherIdentity1);
+        cachedUserFacade.getUserByGithubIdentity(otherIdentity2);
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // Then
+        verify(userFacadePort, times(2)).getUserByGithubIdentity(githubUserIdentity);
+    }
+
+    @Test
+    void should_drop_the_users_cached_first_when_full() {
+        // Given
+        final GithubUserIdentity otherIdentity = GithubUserIdentity.builder().githubUserId(1L).build();
+        final GithubUserIdentity newIdentity = GithubUserIdentity.builder().githubUserId(2L).build();
+        when(userFacadePort.getUserByGithubIdentity(otherIdentity)).thenReturn(User.builder()
+                .id(UUID.randomUUID()).githubUserId(1L).build());
+        when(userFacadePort.getUserByGithubIdentity(newIdentity)).thenReturn(User.builder()
+                .id(UUID.randomUUID()).githubUserId(2L).build());
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.getUserByGithubIdentity(otherIdentity);
+        cachedUserFacade.markUserAsOnboarded(user.getId());
+        dateProvider.setNow(new Date(dateProvider.now().getTime() + 5_001L));
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+
+        // When
+        cachedUserFacade.getUserByGithubIdentity(newIdentity);
+        cachedUserFacade.getUserByGithubIdentity(githubUserIdentity);
+        cachedUserFacade.getUserByGithubIdentity(otherIdentity);
+
+        // Then
+        verify(userFacadePort, times(2)).getUserByGithubIdentity(githubUserIdentity);
+        verify(userFacadePort, times(2)).getUserByGithubIdentity(otherIdentity);
+    }
+}
@@ -3,11 +3,14 @@ package onlydust.com.marketplace.api.domain.service;
 import com.github.javafaker.Faker;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.ContributionStatus;
+import onlydust.com.marketplace.api.domain.model.ContributionsChange;
 import onlydust.com.marketplace.api.domain.port.output.ContributionStoragePort;
+import onlydust.com.marketplace.api.domain.port.output.ContributionsChangeQueuePort;
 import onlydust.com.marketplace.api.domain.view.ContributionDetailsView;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,8 +21,10 @@ class ContributionServiceTest {
 
     final ContributionStoragePort contributionStoragePort = mock(ContributionStoragePort.class);
     final PermissionService permissionService = mock(PermissionService.class);
+    final ContributionsChangeQueuePort contributionsChangeQueuePort = mock(ContributionsChangeQueuePort.class);
 
-    final ContributionService contributionService = new ContributionService(contributionStoragePort, permissionService);
+    final ContributionService contributionService = new ContributionService(contributionStoragePort, permissionService,
+            contributionsChangeQueuePort);
 
     private final Faker faker = new Faker();
 
@@ -131,4 +136,96 @@ class ContributionServiceTest {
         // Then
         verify(contributionStoragePort, times(1)).refreshIgnoredContributions(repoIds);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_refresh_only_changed_contributions() {
+        // Given
+        final var repoIds = List.of(faker.number().randomNumber());
+        final var contributionIds = List.of(faker.pokemon().name(), faker.pokemon().name());
+
+        // When
+        contributionService.refreshIgnoredContributions(repoIds, contributionIds);
+
+        // Then
+        verify(contributionStoragePort, times(1)).refreshIgnoredContributionsAmong(contributionIds);
+        verify(contributionStoragePort, never()).refreshIgnoredContributions(repoIds);
+    }
+
+    @Test
+    void should_refresh_whole_repos_when_changed_contributions_are_unknown() {
+        // Given
+        final var repoIds = List.of(faker.number().randomNumber());
+
+        // When
+        contributionService.refreshIgnoredContributions(repoIds, null);
+
+        // Then
+        verify(contributionStoragePort, times(1)).refreshIgnoredContributions(repoIds);
+        verify(contributionStoragePort, never()).refreshIgnoredContributionsAmong(any());
+    }
+
+    @Test
+    void should_enqueue_contributions_change() {
+        // Given
+        final var repoIds = List.of(faker.number().randomNumber());
+        final var contributionIds = List.of(faker.pokemon().name());
+
+        // When
+        contributionService.onContributionsChange(repoIds, contributionIds);
+
+        // Then
+        verify(contributionsChangeQueuePort, times(1)).push(repoIds, contributionIds);
+        verifyNoInteractions(contributionStoragePort);
+    }
+
+    @Test
+    void should_process_next_contributions_change() {
+        // Given
+        final var change = ContributionsChange.builder()
+                .repoId(faker.number().randomNumber())
+                .contributionIds(List.of(faker.pokemon().name()))
+                .version(3L)
+                .build();
+        when(contributionsChangeQueuePort.poll(any())).thenReturn(Optional.of(change));
+
+        // When
+        final boolean processed = contributionService.processNextContributionsChange();
+
+        // Then
+        assertThat(processed).isTrue();
+        verify(contributionStoragePort, times(1)).refreshIgnoredContributionsAmong(change.getContributionIds());
+        verify(contributionsChangeQueuePort, times(1)).acknowledge(change);
+    }
+
+    @Test
+    void should_not_acknowledge_contributions_change_when_refresh_fails() {
+        // Given
+        final var change = ContributionsChange.builder()
+                .repoId(faker.number().randomNumber())
+                .version(0L)
+                .build();
+        when(contributionsChangeQueuePort.poll(any())).thenReturn(Optional.of(change));
+        doThrow(new RuntimeException("db is down")).when(contributionStoragePort)
+                .refreshIgnoredContributions(List.of(change.getRepoId()));
+
+        // When
+        assertThatThrownBy(contributionService::processNextContributionsChange)
+                .isInstanceOf(RuntimeException.class);
+
+        // Then
+        verify(contributionsChangeQueuePort, never()).acknowledge(any());
+    }
+
+    @Test
+    void should_return_false_when_no_contributions_change_is_pending() {
+        // Given
+        when(contributionsChangeQueuePort.poll(any())).thenReturn(Optional.empty());
+
+        // When
+        final boolean processed = contributionService.processNextContributionsChange();
+
+        // Then
+        assertThat(processed).isFalse();
+        verifyNoInteractions(contributionStoragePort);
+    }
+}
@@ -2,6 +2,7 @@ package onlydust.com.marketplace.api.domain.service;
 
 import com.github.javafaker.Faker;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
 import onlydust.com.marketplace.api.domain.model.GithubRepo;
 import onlydust.com.marketplace.api.domain.model.User;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
@@ -12,18 +13,20 @@ import org.mockito.Mockito;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class GithubAccountServiceTest {
 
     final GithubStoragePort githubStoragePort = mock(GithubStoragePort.class);
-    final RetriedGithubInstallationFacade.Config config =
-            RetriedGithubInstallationFacade.Config.builder().retryCount(3).retryInterval(0).build();
-    final RetriedGithubInstallationFacade githubInstallationService =
-            new RetriedGithubInstallationFacade(new GithubAccountService(githubStoragePort,
+    final AwaitingGithubInstallationFacade.Config config = new AwaitingGithubInstallationFacade.Config();
+    final AwaitingGithubInstallationFacade githubInstallationService =
+            new AwaitingGithubInstallationFacade(new GithubAccountService(githubStoragePort,
                     mock(GithubSearchPort.class)), config);
     private final Faker faker = new Faker();
     final Long installationId = (long) faker.number().numberBetween(1000, 2000);
@@ -65,7 +68,7 @@ public class GithubAccountServiceTest {
     }
 
     @Test
-    void should_retry_if_not_found() {
+    void should_wait_for_the_installation_to_be_indexed() throws Exception {
 
         // When
         final var expectedAccount = new GithubAccount(
@@ -96,10 +99,28 @@ public class GithubAccountServiceTest {
                 .thenReturn(Optional.empty())
                 .thenReturn(Optional.of(expectedAccount));
 
-        final var githubAccount = githubInstallationService.getAccountByInstallationId(installationId);
+        final var githubAccount = githubInstallationService.awaitAccountByInstallationId(installationId);
+        final boolean doneBeforeNotification = githubAccount.isDone();
+        githubInstallationService.onInstallationIndexed(installationId);
 
         // Then
-        assertEquals(githubAccount, Optional.of(expectedAccount));
+        assertFalse(doneBeforeNotification);
+        assertEquals(githubAccount.get(1, TimeUnit.SECONDS), Optional.of(expectedAccount));
+        assertEquals(0, githubInstallationService.pendingInstallationCount());
+    }
+
+    @Test
+    void should_return_empty_account_when_installation_is_not_indexed_in_time() throws Exception {
+        // Given
+        config.setTimeoutInMillis(50L);
+        Mockito.when(githubStoragePort.findAccountByInstallationId(installationId)).thenReturn(Optional.empty());
+
+        // When
+        final var githubAccount = githubInstallationService.awaitAccountByInstallationId(installationId);
+        githubInstallationService.recheckPendingInstallations();
+
+        // Then
+        assertEquals(githubAccount.get(1, TimeUnit.SECONDS), Optional.empty());
     }
 
     final GithubSearchPort githubSearchPort = mock(GithubSearchPort.class);
@@ -123,16 +144,15 @@ public class GithubAccountServiceTest {
                         .login("org2")
                         .build()
         );
-        when(githubSearchPort.searchOrganizationsByGithubPersonalToken(githubPAT))
-                .thenReturn(githubAccounts);
-        when(githubSearchPort.isGithubUserAdminOfOrganization(githubPAT, authenticatedUser.getLogin(), "org1"))
-                .thenReturn(true);
-        when(githubSearchPort.isGithubUserAdminOfOrganization(githubPAT, authenticatedUser.getLogin(), "org2"))
-                .thenReturn(false);
+        when(githubSearchPort.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, authenticatedUser.getLogin()))
+                .thenReturn(GithubAccountSearchResult.builder()
+                        .accounts(List.of(githubAccounts.get(0).toBuilder().isCurrentUserAdmin(true).build(),
+                                githubAccounts.get(1).toBuilder().isCurrentUserAdmin(false).build()))
+                        .build());
         when(githubStoragePort.findInstalledAccountsByIds(List.of(1L, 2L))).thenReturn(List.of());
         final List<GithubAccount> organizationsForGithubPersonalToken =
                 githubAccountService.getOrganizationsForAuthenticatedUserAndGithubPersonalToken(githubPAT,
-                        authenticatedUser);
+                        authenticatedUser).getAccounts();
 
         // Then
         assertEquals(List.of(githubAccounts.get(0).toBuilder().isCurrentUserAdmin(true).build(),
@@ -158,12 +178,11 @@ public class GithubAccountServiceTest {
                         .login("org2")
                         .build()
         );
-        when(githubSearchPort.searchOrganizationsByGithubPersonalToken(githubPAT))
-                .thenReturn(githubAccounts);
-        when(githubSearchPort.isGithubUserAdminOfOrganization(githubPAT, user.getLogin(), "org1"))
-                .thenReturn(true);
-        when(githubSearchPort.isGithubUserAdminOfOrganization(githubPAT, user.getLogin(), "org2"))
-                .thenReturn(false);
+        when(githubSearchPort.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, user.getLogin()))
+                .thenReturn(GithubAccountSearchResult.builder()
+                        .accounts(List.of(githubAccounts.get(0).toBuilder().isCurrentUserAdmin(true).build(),
+                                githubAccounts.get(1).toBuilder().isCurrentUserAdmin(false).build()))
+                        .build());
         when(githubStoragePort.findInstalledAccountsByIds(List.of(1L, 2L, 5L))).thenReturn(List.of(
                 GithubAccount.builder()
                         .id(2L)
@@ -179,7 +198,8 @@ public class GithubAccountServiceTest {
                         .build()
         ));
         final List<GithubAccount> organizationsForGithubPersonalToken =
-                githubAccountService.getOrganizationsForAuthenticatedUserAndGithubPersonalToken(githubPAT, user);
+                githubAccountService.getOrganizationsForAuthenticatedUserAndGithubPersonalToken(githubPAT, user)
+                        .getAccounts();
 
         // Then
         assertEquals(List.of(
@@ -201,4 +221,26 @@ public class GithubAccountServiceTest {
                                 .build())
                 , organizationsForGithubPersonalToken);
     }
+
+    @Test
+    void should_flag_user_organizations_as_incomplete_given_an_incomplete_search() {
+        // Given
+        final GithubAccountService githubAccountService = new GithubAccountService(githubStoragePort, githubSearchPort);
+        final String githubPAT = faker.rickAndMorty().character() + faker.random().nextLong();
+        final User user = User.builder().login(faker.pokemon().name()).githubUserId(5L).build();
+        final GithubAccount organization = GithubAccount.builder().id(1L).login("org1").isCurrentUserAdmin(false).build();
+
+        // When
+        when(githubSearchPort.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, user.getLogin()))
+                .thenReturn(GithubAccountSearchResult.builder().accounts(List.of(organization)).incomplete(true).build());
+        when(githubStoragePort.findInstalledAccountsByIds(List.of(1L, 5L))).thenReturn(List.of());
+        final GithubAccountSearchResult result =
+                githubAccountService.getOrganizationsForAuthenticatedUserAndGithubPersonalToken(githubPAT, user);
+
+        // Then
+        assertTrue(result.isIncomplete());
+        assertEquals(List.of(organization,
+                        GithubAccount.builder().id(5L).login(user.getLogin()).isPersonal(true).isCurrentUserAdmin(true).installed(false).build()),
+                result.getAccounts());
+    }
 }
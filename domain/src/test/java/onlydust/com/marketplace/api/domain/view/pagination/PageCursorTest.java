@@ -0,0 +1,62 @@
+package onlydust.com.marketplace.api.domain.view.pagination;
+
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageCursorTest {
+
+    @Test
+    void should_decode_encoded_cursor() {
+        // Given
+        final PageCursor cursor = PageCursor.of("rewards:amount", "1250.50", "2023-09-20 08:01:16.850492",
+                "b0e8b4b1-8a2e-4a8e-9d1a-2b4e1c6f2c4a");
+
+        // When
+        final PageCursor decoded = PageCursor.decode(cursor.encode(), "rewards:amount", 3);
+
+        // Then
+        assertEquals(cursor, decoded);
+        assertEquals(List.of("1250.50", "2023-09-20 08:01:16.850492", "b0e8b4b1-8a2e-4a8e-9d1a-2b4e1c6f2c4a"),
+                decoded.getKeys());
+    }
+
+    @Test
+    void should_keep_empty_keys() {
+        // Given
+        final PageCursor cursor = PageCursor.of("contributors:login", "");
+
+        // When
+        final PageCursor decoded = PageCursor.decode(cursor.encode(), "contributors:login", 1);
+
+        // Then
+        assertEquals("", decoded.key(0));
+    }
+
+    @Test
+    void should_reject_cursor_issued_for_another_sort() {
+        // Given
+        final String cursor = PageCursor.of("contributors:login", "ofux").encode();
+
+        // When
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> PageCursor.decode(cursor, "contributors:earned", 2));
+
+        // Then
+        assertEquals(400, exception.getStatus());
+    }
+
+    @Test
+    void should_reject_malformed_cursor() {
+        // When
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> PageCursor.decode("not a cursor!", "contributors:login", 1));
+
+        // Then
+        assertEquals(400, exception.getStatus());
+    }
+}
@@ -3,28 +3,42 @@ package onlydust.com.marketplace.api.github_api;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import static java.util.Objects.isNull;
 import static onlydust.com.marketplace.api.domain.exception.OnlyDustException.internalServerError;
 
 @Slf4j
-@AllArgsConstructor
 public class GithubHttpClient {
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient;
+    private final OutboundHttpClient httpClient;
     private final Config config;
+    private final GithubResponseCache responseCache;
+    private final GithubTokenPool tokenPool;
+
+    public GithubHttpClient(final ObjectMapper objectMapper, final OutboundHttpClient httpClient, final Config config) {
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.config = config;
+        this.responseCache = new GithubResponseCache(config.responseCacheMaxSize);
+        this.tokenPool = new GithubTokenPool(config);
+    }
+
+    public GithubTokenPool getTokenPool() {
+        return tokenPool;
+    }
 
     public <T> T decode(byte[] data, Class<T> classType) {
         try {
@@ -35,40 +49,117 @@ public class GithubHttpClient {
     }
 
     public HttpResponse<byte[]> fetch(final URI uri, final String personalAccessToken) {
+        return fetch(uri, personalAccessToken, GithubTokenPool.Priority.HIGH);
+    }
+
+    /**
+     * @param personalAccessToken the token of a user, or null to use a token of the pool
+     */
+    public HttpResponse<byte[]> fetch(final URI uri, final String personalAccessToken,
+                                      final GithubTokenPool.Priority priority) {
         LOGGER.debug("Fetching {}", uri);
+        final String resource = GithubTokenPool.resourceOf(uri);
+        for (int attempt = 1; ; attempt++) {
+            final String token = tokenPool.acquire(personalAccessToken, resource, priority, true);
+            final GithubResponseCache.Entry cachedResponse = responseCache.get(uri, token);
+            final HttpResponse<byte[]> httpResponse;
+            try {
+                httpResponse = httpClient.send(conditionalGet(uri, token, cachedResponse));
+            } catch (IOException | InterruptedException e) {
+                throw OnlyDustException.internalServerError("Unable to fetch github API:" + uri, e);
+            }
+            tokenPool.update(token, resource, httpResponse.statusCode(), httpResponse.headers());
+            if (!tokenPool.isRateLimited(httpResponse.statusCode(), httpResponse.headers())) {
+                return responseCache.onResponse(uri, token, cachedResponse, httpResponse);
+            }
+            if (!tokenPool.isPooled(token) || attempt >= tokenPool.poolSize()) {
+                throw OnlyDustException.serviceUnavailable("Github rate limit exceeded while fetching " + uri);
+            }
+        }
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> fetchAsync(final String path, final String personalAccessToken) {
+        return fetchAsync(path, personalAccessToken, GithubTokenPool.Priority.HIGH);
+    }
+
+    /**
+     * Same as {@link #fetch(URI, String, GithubTokenPool.Priority)}, but never waits for a rate limit reset: the
+     * returned future fails right away when no token has budget left.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> fetchAsync(final String path, final String personalAccessToken,
+                                                              final GithubTokenPool.Priority priority) {
+        final URI uri = buildURI(path);
+        LOGGER.debug("Fetching asynchronously {}", uri);
+        return fetchAsync(uri, personalAccessToken, priority, 1);
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> fetchAsync(final URI uri, final String personalAccessToken,
+                                                               final GithubTokenPool.Priority priority,
+                                                               final int attempt) {
+        final String resource = GithubTokenPool.resourceOf(uri);
+        final String token;
         try {
-            final var requestBuilder = HttpRequest.newBuilder().uri(uri).headers("Authorization",
-                    "Bearer " + personalAccessToken).GET();
-            return httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
-        } catch (IOException | InterruptedException e) {
-            throw OnlyDustException.internalServerError("Unable to fetch github API:" + uri, e);
+            token = tokenPool.acquire(personalAccessToken, resource, priority, false);
+        } catch (OnlyDustException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        final GithubResponseCache.Entry cachedResponse = responseCache.get(uri, token);
+        return httpClient.sendAsync(conditionalGet(uri, token, cachedResponse))
+                .thenCompose(httpResponse -> {
+                    tokenPool.update(token, resource, httpResponse.statusCode(), httpResponse.headers());
+                    if (!tokenPool.isRateLimited(httpResponse.statusCode(), httpResponse.headers())) {
+                        return CompletableFuture.completedFuture(
+                                responseCache.onResponse(uri, token, cachedResponse, httpResponse));
+                    }
+                    if (!tokenPool.isPooled(token) || attempt >= tokenPool.poolSize()) {
+                        return CompletableFuture.failedFuture(OnlyDustException.serviceUnavailable(
+                                "Github rate limit exceeded while fetching " + uri));
+                    }
+                    return fetchAsync(uri, personalAccessToken, priority, attempt + 1);
+                });
     }
 
-    public <ResponseBody> Optional<ResponseBody> get(String path, Class<ResponseBody> responseClass) {
-        return get(path, responseClass, null);
+    private static HttpRequest conditionalGet(final URI uri, final String personalAccessToken,
+                                              final GithubResponseCache.Entry cachedResponse) {
+        return GithubResponseCache.withValidators(HttpRequest.newBuilder().uri(uri)
+                .headers("Authorization", "Bearer " + personalAccessToken).GET(), cachedResponse).build();
     }
 
-    public <ResponseBody> Optional<ResponseBody> get(String path, Class<ResponseBody> responseClass,
-                                                     final String personalAccessToken) {
-        final var httpResponse = fetch(buildURI(path), isNull(personalAccessToken) ? config.personalAccessToken :
-                personalAccessToken);
+    public <ResponseBody> Optional<ResponseBody> decodeResponse(final String path,
+                                                                final HttpResponse<byte[]> httpResponse,
+                                                                final Class<ResponseBody> responseClass) {
         return switch (httpResponse.statusCode()) {
-            case 200 -> Optional.of(decode(httpResponse.body(), responseClass));
+            case 200 -> Optional.of(httpResponse instanceof GithubResponseCache.CachedHttpResponse cachedResponse ?
+                    cachedResponse.decodedBody(responseClass, this::decode) :
+                    decode(httpResponse.body(), responseClass));
             case 403, 404 -> Optional.empty();
             default -> throw OnlyDustException.internalServerError("Unable to fetch github API: " + path, null);
         };
     }
 
+    public <ResponseBody> Optional<ResponseBody> get(String path, Class<ResponseBody> responseClass) {
+        return get(path, responseClass, null);
+    }
+
+    public <ResponseBody> Optional<ResponseBody> get(String path, Class<ResponseBody> responseClass,
+                                                     final String personalAccessToken) {
+        final var httpResponse = fetch(buildURI(path), personalAccessToken);
+        return decodeResponse(path, httpResponse, responseClass);
+    }
+
 
     public <ResponseBody, RequestBody> Optional<ResponseBody> post(String path, final RequestBody requestBody,
                                                                    Class<ResponseBody> responseClass) {
         try {
+            final URI uri = buildURI(path);
+            final String resource = GithubTokenPool.resourceOf(uri);
+            final String token = tokenPool.acquire(null, resource, GithubTokenPool.Priority.HIGH, true);
             final HttpResponse<byte[]> httpResponse =
-                    httpClient.send(HttpRequest.newBuilder().uri(buildURI(path)).headers("Authorization",
-                                    "Bearer " + config.personalAccessToken)
+                    httpClient.send(HttpRequest.newBuilder().uri(uri).headers("Authorization",
+                                    "Bearer " + token)
                             .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requestBody)))
-                            .build(), HttpResponse.BodyHandlers.ofByteArray());
+                            .build());
+            tokenPool.update(token, resource, httpResponse.statusCode(), httpResponse.headers());
             return switch (httpResponse.statusCode()) {
                 case 200 -> Optional.of(decode(httpResponse.body(), responseClass));
                 case 403, 404 ->
@@ -105,5 +196,13 @@ public class GithubHttpClient {
     public static class Config {
         private String baseUri;
         private String personalAccessToken;
+        // 0 disables the conditional requests
+        private int responseCacheMaxSize;
+        // used in turn for the calls made on behalf of the application, defaults to personalAccessToken
+        private List<String> personalAccessTokens = new ArrayList<>();
+        // below this remaining budget, low priority calls are rejected
+        private int lowPriorityMinRemaining = 100;
+        // how long a call may block its thread for a budget reset, 0 fails fast when every token is exhausted
+        private long maxRateLimitWaitInMillis = 0;
     }
 }
@@ -0,0 +1,164 @@
+package onlydust.com.marketplace.api.github_api;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps the last GitHub GET responses carrying an {@code ETag} or a {@code Last-Modified} header, per URI and digest
+ * of the personal access token, in a bounded LRU map. The next request of the same resource is sent with
+ * {@code If-None-Match} / {@code If-Modified-Since}: GitHub answers {@code 304 Not Modified} without counting it
+ * against the rate limit, and the cached body, decoded once, is served instead.
+ */
+class GithubResponseCache {
+
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+
+    GithubResponseCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    Entry get(final URI uri, final String personalAccessToken) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        synchronized (entries) {
+            return entries.get(Key.of(uri, personalAccessToken));
+        }
+    }
+
+    static HttpRequest.Builder withValidators(final HttpRequest.Builder requestBuilder, final Entry entry) {
+        if (entry != null) {
+            if (entry.etag != null) {
+                requestBuilder.header("If-None-Match", entry.etag);
+            } else {
+                requestBuilder.header("If-Modified-Since", entry.lastModified);
+            }
+        }
+        return requestBuilder;
+    }
+
+    /**
+     * Replaces a {@code 304} by the cached response and caches the {@code 200} that can be revalidated.
+     */
+    HttpResponse<byte[]> onResponse(final URI uri, final String personalAccessToken, final Entry previous,
+                                    final HttpResponse<byte[]> httpResponse) {
+        if (httpResponse.statusCode() == 304 && previous != null) {
+            return new CachedHttpResponse(httpResponse, previous);
+        }
+        if (maxSize <= 0 || httpResponse.statusCode() != 200) {
+            return httpResponse;
+        }
+        final Optional<String> etag = httpResponse.headers().firstValue("ETag");
+        final Optional<String> lastModified = httpResponse.headers().firstValue("Last-Modified");
+        if (etag.isEmpty() && lastModified.isEmpty()) {
+            return httpResponse;
+        }
+        final Entry entry = new Entry(etag.orElse(null), lastModified.orElse(null), httpResponse.headers(),
+                httpResponse.body());
+        synchronized (entries) {
+            entries.put(Key.of(uri, personalAccessToken), entry);
+        }
+        return new CachedHttpResponse(httpResponse, entry);
+    }
+
+    private record Key(URI uri, String personalAccessTokenDigest) {
+        static Key of(final URI uri, final String personalAccessToken) {
+            return new Key(uri, isNull(personalAccessToken) ? null : GithubTokenPool.digest(personalAccessToken));
+        }
+    }
+
+    static class Entry {
+        private final String etag;
+        private final String lastModified;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private volatile Object decodedBody;
+
+        private Entry(final String etag, final String lastModified, final HttpHeaders headers, final byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    /**
+     * A {@code 200} response whose body is (or will be) cached, decoded at most once per response class.
+     */
+    static class CachedHttpResponse implements HttpResponse<byte[]> {
+        private final HttpResponse<byte[]> httpResponse;
+        private final Entry entry;
+
+        private CachedHttpResponse(final HttpResponse<byte[]> httpResponse, final Entry entry) {
+            this.httpResponse = httpResponse;
+            this.entry = entry;
+        }
+
+        <T> T decodedBody(final Class<T> responseClass, final BiFunction<byte[], Class<T>, T> decoder) {
+            final Object decodedBody = entry.decodedBody;
+            if (responseClass.isInstance(decodedBody)) {
+                return responseClass.cast(decodedBody);
+            }
+            final T decoded = decoder.apply(entry.body, responseClass);
+            entry.decodedBody = decoded;
+            return decoded;
+        }
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return httpResponse.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<byte[]>> previousResponse() {
+            return httpResponse.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return entry.headers;
+        }
+
+        @Override
+        public byte[] body() {
+            return entry.body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return httpResponse.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return httpResponse.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return httpResponse.version();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package onlydust.com.marketplace.api.github_api;
+
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Tracks the rate limit budget of every GitHub personal access token from the {@code X-RateLimit-Remaining},
+ * {@code X-RateLimit-Reset} and {@code Retry-After} response headers. GitHub counts each resource ({@code core},
+ * {@code search}...) separately, so does the pool: a call is checked against the budget of the resource it consumes,
+ * given by {@link #resourceOf(URI)}, and a response updates the budget named by its {@code X-RateLimit-Resource}.
+ * <ul>
+ *     <li>calls made on behalf of the application are spread over the configured pool of tokens, using the one with
+ *     the most remaining budget;</li>
+ *     <li>{@link Priority#LOW} calls are shed when the budget falls below {@code lowPriorityMinRemaining};</li>
+ *     <li>when every token is exhausted, calls fail with a 503 instead of being answered with an empty result,
+ *     unless the earliest reset is within {@code maxRateLimitWaitInMillis} (0 by default, as the wait blocks a
+ *     request thread);</li>
+ *     <li>the budgets of user tokens are keyed by the {@link #digest(String)} of the token.</li>
+ * </ul>
+ */
+@Slf4j
+public class GithubTokenPool {
+    public static final String CORE = "core";
+    public static final String SEARCH = "search";
+    public static final String CODE_SEARCH = "code_search";
+    public static final String GRAPHQL = "graphql";
+    private static final int MAX_TRACKED_USER_TOKENS = 10_000;
+
+    private final List<String> poolTokens;
+    private final Map<String, Budgets> poolBudgets = new HashMap<>();
+    private final Map<String, Budgets> userBudgets;
+    private final int lowPriorityMinRemaining;
+    private final long maxRateLimitWaitInMillis;
+    private final AtomicLong shedCalls = new AtomicLong();
+
+    public enum Priority {
+        HIGH, LOW
+    }
+
+    GithubTokenPool(final GithubHttpClient.Config config) {
+        this.poolTokens = !config.getPersonalAccessTokens().isEmpty() ? List.copyOf(config.getPersonalAccessTokens()) :
+                isNull(config.getPersonalAccessToken()) ? List.of() : List.of(config.getPersonalAccessToken());
+        this.poolTokens.forEach(token -> poolBudgets.put(token, new Budgets()));
+        this.userBudgets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Budgets> eldest) {
+                return size() > MAX_TRACKED_USER_TOKENS;
+            }
+        };
+        this.lowPriorityMinRemaining = config.getLowPriorityMinRemaining();
+        this.maxRateLimitWaitInMillis = config.getMaxRateLimitWaitInMillis();
+    }
+
+    /**
+     * @return the rate limit resource consumed by a call to {@code uri}
+     */
+    static String resourceOf(final URI uri) {
+        final String path = isNull(uri.getPath()) ? "" : uri.getPath();
+        if (path.startsWith("/search/code")) {
+            return CODE_SEARCH;
+        }
+        if (path.startsWith("/search/")) {
+            return SEARCH;
+        }
+        if (path.startsWith("/graphql")) {
+            return GRAPHQL;
+        }
+        return CORE;
+    }
+
+    /**
+     * @return the SHA-256 of the token, to key what is kept about a token without holding the token itself
+     */
+    static String digest(final String personalAccessToken) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(personalAccessToken.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw OnlyDustException.internalServerError("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @param personalAccessToken the token of a user, or null to use a token of the pool
+     * @param resource            the rate limit resource consumed by the call
+     * @param mayWait             whether the calling thread can be blocked until a budget is reset
+     * @return the token to send the call with
+     */
+    String acquire(final String personalAccessToken, final String resource, final Priority priority,
+                   final boolean mayWait) {
+        final List<String> candidates = isNull(personalAccessToken) ? poolTokens : List.of(personalAccessToken);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        while (true) {
+            final long now = System.currentTimeMillis();
+            String bestToken = null;
+            long bestRemaining = -1;
+            long earliestAvailableAt = Long.MAX_VALUE;
+            for (String token : candidates) {
+                final Budget budget = budget(token, resource);
+                final long availableAt = budget.availableAt(now);
+                if (availableAt > now) {
+                    earliestAvailableAt = Math.min(earliestAvailableAt, availableAt);
+                } else if (budget.remaining(now) > bestRemaining) {
+                    bestToken = token;
+                    bestRemaining = budget.remaining(now);
+                }
+            }
+            if (bestToken != null) {
+                if (priority == Priority.LOW && bestRemaining < lowPriorityMinRemaining) {
+                    shedCalls.incrementAndGet();
+                    throw OnlyDustException.serviceUnavailable("Github rate limit budget is too low for a low " +
+                                                               "priority call");
+                }
+                budget(bestToken, resource).consume(now);
+                return bestToken;
+            }
+            if (!mayWait || priority == Priority.LOW || earliestAvailableAt - now > maxRateLimitWaitInMillis) {
+                throw OnlyDustException.serviceUnavailable("Github %s rate limit exceeded for the next %ss"
+                        .formatted(resource, (earliestAvailableAt - now) / 1000));
+            }
+            try {
+                Thread.sleep(earliestAvailableAt - now);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw OnlyDustException.serviceUnavailable("Interrupted while waiting for Github rate limit reset", e);
+            }
+        }
+    }
+
+    /**
+     * @param resource the rate limit resource of the call, when the response does not name it
+     */
+    void update(final String personalAccessToken, final String resource, final int statusCode,
+                final HttpHeaders headers) {
+        if (isNull(personalAccessToken)) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        budget(personalAccessToken, headers.firstValue("X-RateLimit-Resource").orElse(resource)).update(
+                headers.firstValue("X-RateLimit-Remaining").map(Long::parseLong).orElse(null),
+                headers.firstValue("X-RateLimit-Reset").map(reset -> Long.parseLong(reset) * 1000).orElse(null),
+                headers.firstValue("Retry-After").map(retryAfter -> now + Long.parseLong(retryAfter) * 1000)
+                        .orElse(null));
+        if (isRateLimited(statusCode, headers)) {
+            LOGGER.warn("Github {} rate limit exceeded for a {} token",
+                    headers.firstValue("X-RateLimit-Resource").orElse(resource),
+                    poolBudgets.containsKey(personalAccessToken) ? "pool" : "user");
+        }
+    }
+
+    boolean isRateLimited(final int statusCode, final HttpHeaders headers) {
+        return (statusCode == 403 || statusCode == 429) &&
+               (headers.firstValue("Retry-After").isPresent() ||
+                headers.firstValue("X-RateLimit-Remaining").filter("0"::equals).isPresent());
+    }
+
+    boolean isPooled(final String personalAccessToken) {
+        return poolBudgets.containsKey(personalAccessToken);
+    }
+
+    public int poolSize() {
+        return poolTokens.size();
+    }
+
+    /**
+     * @return the remaining {@code resource} budget of the {@code poolIndex}-th token of the pool, NaN until GitHub
+     * told it
+     */
+    public double remainingBudget(final int poolIndex, final String resource) {
+        final long remaining = budget(poolTokens.get(poolIndex), resource).remaining(System.currentTimeMillis());
+        return remaining == Long.MAX_VALUE ? Double.NaN : remaining;
+    }
+
+    public double secondsUntilReset(final int poolIndex, final String resource) {
+        return Math.max(0, budget(poolTokens.get(poolIndex), resource).resetAt - System.currentTimeMillis()) / 1000.0;
+    }
+
+    public long shedCalls() {
+        return shedCalls.get();
+    }
+
+    private Budget budget(final String personalAccessToken, final String resource) {
+        Budgets budgets = poolBudgets.get(personalAccessToken);
+        if (budgets == null) {
+            synchronized (userBudgets) {
+                budgets = userBudgets.computeIfAbsent(digest(personalAccessToken), digest -> new Budgets());
+            }
+        }
+        return budgets.byResource.computeIfAbsent(resource, r -> new Budget());
+    }
+
+    private static class Budgets {
+        private final Map<String, Budget> byResource = new ConcurrentHashMap<>();
+    }
+
+    private static class Budget {
+        private long remaining = Long.MAX_VALUE;
+        private volatile long resetAt;
+        private long retryAfter;
+
+        synchronized long availableAt(final long now) {
+            if (now < retryAfter) {
+                return retryAfter;
+            }
+            return remaining <= 0 && now < resetAt ? resetAt : now;
+        }
+
+        synchronized long remaining(final long now) {
+            return now < resetAt ? remaining : Long.MAX_VALUE;
+        }
+
+        synchronized void consume(final long now) {
+            // counted down locally so that concurrent calls do not all pick the same token until GitHub answers
+            if (now < resetAt && remaining > 0) {
+                remaining--;
+            }
+        }
+
+        synchronized void update(final Long remaining, final Long resetAt, final Long retryAfter) {
+            if (remaining != null && resetAt != null) {
+                this.remaining = remaining;
+                this.resetAt = resetAt;
+            }
+            if (retryAfter != null) {
+                this.retryAfter = retryAfter;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package onlydust.com.marketplace.api.github_api.adapters;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
+import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
+import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps GitHub user search results in a bounded, time-limited cache keyed by the normalized login, because the
+ * contributor picker searches on every keystroke and GitHub search quota is low.
+ * Concurrent searches of the same login wait for a single GitHub call, for at most {@code waitTimeoutInMillis}.
+ * <p>
+ * Failed and empty searches are not kept: GitHub answers an empty page when it is rate limited, which must not hide
+ * the users for the whole TTL. A longer login is always searched on GitHub, because GitHub also matches the name and
+ * email of the users, which the cached results do not hold.
+ */
+public class CachedGithubSearchApiAdapter implements GithubSearchPort {
+
+    private final GithubSearchPort githubSearchPort;
+    private final Config config;
+    private final Map<String, CachedSearch> searchesByLogin;
+
+    public CachedGithubSearchApiAdapter(final GithubSearchPort githubSearchPort, final Config config) {
+        this.githubSearchPort = githubSearchPort;
+        this.config = config;
+        this.searchesByLogin = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSearch> eldest) {
+                return size() > config.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public List<GithubUserIdentity> searchUsersByLogin(final String login) {
+        if (config.ttlInSeconds <= 0) {
+            return githubSearchPort.searchUsersByLogin(login);
+        }
+        final String normalizedLogin = login.trim().toLowerCase(Locale.ROOT);
+        final long now = System.currentTimeMillis();
+        final CachedSearch search;
+        final boolean owner;
+        synchronized (searchesByLogin) {
+            final CachedSearch cachedSearch = searchesByLogin.get(normalizedLogin);
+            if (cachedSearch != null && cachedSearch.expiresAt > now) {
+                search = cachedSearch;
+                owner = false;
+            } else {
+                search = new CachedSearch(new CompletableFuture<>(), now + config.ttlInSeconds * 1000L);
+                searchesByLogin.put(normalizedLogin, search);
+                owner = true;
+            }
+        }
+        if (owner) {
+            List<GithubUserIdentity> users = null;
+            try {
+                users = githubSearchPort.searchUsersByLogin(normalizedLogin);
+                search.result.complete(users);
+            } catch (Throwable e) {
+                search.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                if (users == null || users.isEmpty()) {
+                    synchronized (searchesByLogin) {
+                        searchesByLogin.remove(normalizedLogin, search);
+                    }
+                }
+            }
+            return users;
+        }
+        try {
+            return search.result.get(config.waitTimeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException :
+                    OnlyDustException.internalServerError("Unable to search github users", e.getCause());
+        } catch (TimeoutException e) {
+            throw OnlyDustException.serviceUnavailable("Github users search of %s did not complete in %sms"
+                    .formatted(normalizedLogin, config.waitTimeoutInMillis), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw OnlyDustException.serviceUnavailable("Interrupted while waiting for github users search", e);
+        }
+    }
+
+    @Override
+    public GithubAccountSearchResult searchOrganizationsWithAdminRoleByGithubPersonalToken(final String githubPersonalToken,
+                                                                                           final String userLogin) {
+        return githubSearchPort.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPersonalToken, userLogin);
+    }
+
+    private record CachedSearch(CompletableFuture<List<GithubUserIdentity>> result, long expiresAt) {
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        Integer maxSize;
+        Integer ttlInSeconds;
+        Integer waitTimeoutInMillis;
+    }
+}
@@ -1,26 +1,53 @@
 package onlydust.com.marketplace.api.github_api.adapters;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
 import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
 import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
 import onlydust.com.marketplace.api.github_api.GithubHttpClient;
+import onlydust.com.marketplace.api.github_api.GithubTokenPool;
 import onlydust.com.marketplace.api.github_api.dto.GetOrgaMembershipsResponseDTO;
 import onlydust.com.marketplace.api.github_api.dto.GithubOrgaSearchResponseDTO;
 import onlydust.com.marketplace.api.github_api.dto.GithubUserSearchResponse;
 import onlydust.com.marketplace.api.github_api.properties.GithubPaginationProperties;
 
-import java.util.ArrayList;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static java.util.Objects.nonNull;
 
+@Slf4j
 @AllArgsConstructor
 public class GithubSearchApiAdapter implements GithubSearchPort {
+    private static final Pattern LAST_PAGE_LINK = Pattern.compile("<[^>]*[?&]page=(\\d+)[^>]*>\\s*;\\s*rel=\"last\"");
+
     private final GithubHttpClient client;
     private final GithubPaginationProperties githubPaginationProperties;
+    private final Config config;
 
     @Override
     public List<GithubUserIdentity> searchUsersByLogin(final String login) {
@@ -36,37 +63,43 @@ public class GithubSearchApiAdapter implements GithubSearchPort {
                 ).toList();
     }
 
+    /**
+     * Fetches the organization pages and the memberships of the user concurrently: the first page gives the page
+     * count (Link header), then the other pages are fetched in parallel and the membership of each organization is
+     * checked as soon as its page arrives. At most {@code maxConcurrentRequests} requests are in flight, and what
+     * has not been answered after {@code timeoutInMillis} is dropped and the result flagged as incomplete.
+     */
     @Override
-    public List<GithubAccount> searchOrganizationsByGithubPersonalToken(final String githubPersonalToken) {
-        final int pageSize = githubPaginationProperties.getPageSize();
-        Integer pageIndex = 1;
-        List<GithubAccount> githubAccountsForPageIndex = getGithubAccountsForPageIndex(githubPersonalToken, pageSize,
-                pageIndex);
-        if (githubAccountsForPageIndex.isEmpty()) {
-            return githubAccountsForPageIndex;
-        }
-        if (githubAccountsForPageIndex.size() < pageSize) {
-            return githubAccountsForPageIndex;
+    public GithubAccountSearchResult searchOrganizationsWithAdminRoleByGithubPersonalToken(final String githubPersonalToken,
+                                                                                           final String userLogin) {
+        final OrganizationsSearch search = new OrganizationsSearch(githubPersonalToken, userLogin);
+        search.searchPage(1);
+        boolean incomplete = false;
+        try {
+            search.done.get(config.timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Github organizations search of {} did not complete in {}ms, returning partial results",
+                    userLogin, config.timeoutInMillis);
+            incomplete = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            incomplete = true;
+        } catch (ExecutionException e) {
+            incomplete = true;
+        } finally {
+            search.cancel();
         }
-
-        final List<GithubAccount> githubAccounts = new ArrayList<>(githubAccountsForPageIndex);
-        while (githubAccountsForPageIndex.size() == pageSize) {
-            pageIndex += 1;
-            githubAccountsForPageIndex = getGithubAccountsForPageIndex(githubPersonalToken, pageSize, pageIndex);
-            githubAccounts.addAll(githubAccountsForPageIndex);
+        if (search.firstPageFailure != null) {
+            throw search.firstPageFailure;
         }
-        return githubAccounts;
+        return GithubAccountSearchResult.builder()
+                .accounts(search.accounts())
+                .incomplete(incomplete || search.failed)
+                .build();
     }
 
-    private List<GithubAccount> getGithubAccountsForPageIndex(String githubPersonalToken, final int pageSize,
-                                                              Integer pageIndex) {
-        final Optional<GithubOrgaSearchResponseDTO[]> githubOrgaSearchResponseDTOS =
-                client.get(String.format("/user/orgs?per_page=%s&page=%s", pageSize, pageIndex),
-                        GithubOrgaSearchResponseDTO[].class, githubPersonalToken);
-        if (githubOrgaSearchResponseDTOS.isEmpty() || githubOrgaSearchResponseDTOS.get().length == 0) {
-            return List.of();
-        }
-        return Arrays.stream(githubOrgaSearchResponseDTOS.get()).map(githubOrgaSearchResponseDTO -> GithubAccount.builder()
+    private List<GithubAccount> mapToGithubAccounts(final GithubOrgaSearchResponseDTO[] githubOrgaSearchResponseDTOS) {
+        return Arrays.stream(githubOrgaSearchResponseDTOS).map(githubOrgaSearchResponseDTO -> GithubAccount.builder()
                         .id(githubOrgaSearchResponseDTO.getId())
                         .login(githubOrgaSearchResponseDTO.getLogin())
                         .avatarUrl(githubOrgaSearchResponseDTO.getAvatarUrl())
@@ -75,13 +108,167 @@ public class GithubSearchApiAdapter implements GithubSearchPort {
                 .toList();
     }
 
-    @Override
-    public boolean isGithubUserAdminOfOrganization(String githubPersonalToken, String userLogin,
-                                                   String organizationLogin) {
-        return client.get(String.format("/orgs/%s/memberships/%s", organizationLogin, userLogin),
-                        GetOrgaMembershipsResponseDTO.class, githubPersonalToken)
-                .filter(dto -> nonNull(dto.getRole()) && nonNull(dto.getState()))
-                .map(dto -> dto.getRole().equals("admin") && dto.getState().equals("active"))
-                .orElse(false);
+    private static Optional<Integer> lastPage(final HttpResponse<byte[]> httpResponse) {
+        return httpResponse.headers().firstValue("Link")
+                .map(LAST_PAGE_LINK::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Integer.parseInt(matcher.group(1)));
+    }
+
+    /**
+     * State of one search: the requests are queued when {@code maxConcurrentRequests} are already in flight, and
+     * {@code done} completes when the last pending request has been handled.
+     */
+    private class OrganizationsSearch {
+        private final String githubPersonalToken;
+        private final String userLogin;
+        private final Map<Integer, List<GithubAccount>> accountsByPage = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> adminByOrganizationLogin = new ConcurrentHashMap<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final AtomicInteger pendingRequests = new AtomicInteger();
+        private final Queue<Runnable> queuedRequests = new ArrayDeque<>();
+        private final Set<CompletableFuture<?>> inFlightRequests = new HashSet<>();
+        private int runningRequests;
+        private volatile boolean cancelled;
+        private volatile boolean failed;
+        private volatile RuntimeException firstPageFailure;
+
+        OrganizationsSearch(final String githubPersonalToken, final String userLogin) {
+            this.githubPersonalToken = githubPersonalToken;
+            this.userLogin = userLogin;
+        }
+
+        void searchPage(final int pageIndex) {
+            final int pageSize = githubPaginationProperties.getPageSize();
+            final String path = String.format("/user/orgs?per_page=%s&page=%s", pageSize, pageIndex);
+            submit(() -> client.fetchAsync(path, githubPersonalToken), httpResponse -> {
+                final List<GithubAccount> accounts = client.decodeResponse(path, httpResponse,
+                                GithubOrgaSearchResponseDTO[].class)
+                        .map(GithubSearchApiAdapter.this::mapToGithubAccounts)
+                        .orElse(List.of());
+                accountsByPage.put(pageIndex, accounts);
+                final Optional<Integer> lastPage = lastPage(httpResponse);
+                if (pageIndex == 1 && lastPage.isPresent()) {
+                    for (int nextPageIndex = 2; nextPageIndex <= lastPage.get(); nextPageIndex++) {
+                        searchPage(nextPageIndex);
+                    }
+                } else if (httpResponse.headers().firstValue("Link").isEmpty() && accounts.size() == pageSize) {
+                    // no Link header to rely on: keep paging until a page is not full
+                    searchPage(pageIndex + 1);
+                }
+                accounts.forEach(account -> checkMembership(account.getLogin()));
+            }, pageIndex == 1);
+        }
+
+        void checkMembership(final String organizationLogin) {
+            final String path = String.format("/orgs/%s/memberships/%s", organizationLogin, userLogin);
+            // roles are the first thing to give up when the budget runs low: the result is then flagged incomplete
+            submit(() -> client.fetchAsync(path, githubPersonalToken, GithubTokenPool.Priority.LOW), httpResponse ->
+                    adminByOrganizationLogin.put(organizationLogin, client.decodeResponse(path, httpResponse,
+                                    GetOrgaMembershipsResponseDTO.class)
+                            .filter(dto -> nonNull(dto.getRole()) && nonNull(dto.getState()))
+                            .map(dto -> dto.getRole().equals("admin") && dto.getState().equals("active"))
+                            .orElse(false)), false);
+        }
+
+        List<GithubAccount> accounts() {
+            return new TreeMap<>(accountsByPage).values().stream()
+                    .flatMap(List::stream)
+                    .map(account -> account.toBuilder()
+                            .isCurrentUserAdmin(adminByOrganizationLogin.getOrDefault(account.getLogin(), false))
+                            .build())
+                    .toList();
+        }
+
+        private void submit(final Supplier<CompletableFuture<HttpResponse<byte[]>>> request,
+                            final Consumer<HttpResponse<byte[]>> handler, final boolean firstPage) {
+            pendingRequests.incrementAndGet();
+            final Runnable startRequest = () -> start(request, handler, firstPage);
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (runningRequests >= config.maxConcurrentRequests) {
+                    queuedRequests.add(startRequest);
+                    return;
+                }
+                runningRequests++;
+            }
+            startRequest.run();
+        }
+
+        private void start(final Supplier<CompletableFuture<HttpResponse<byte[]>>> request,
+                           final Consumer<HttpResponse<byte[]>> handler, final boolean firstPage) {
+            CompletableFuture<HttpResponse<byte[]>> response;
+            try {
+                response = request.get();
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                inFlightRequests.add(response);
+            }
+            final CompletableFuture<HttpResponse<byte[]>> inFlightResponse = response;
+            response.whenComplete((httpResponse, error) -> {
+                try {
+                    if (error == null) {
+                        handler.accept(httpResponse);
+                    } else {
+                        onFailure(error, firstPage);
+                    }
+                } catch (RuntimeException e) {
+                    onFailure(e, firstPage);
+                } finally {
+                    release(inFlightResponse);
+                }
+            });
+        }
+
+        private void onFailure(final Throwable error, final boolean firstPage) {
+            if (cancelled) {
+                return;
+            }
+            failed = true;
+            if (firstPage) {
+                firstPageFailure = error instanceof OnlyDustException onlyDustException ? onlyDustException :
+                        OnlyDustException.internalServerError("Unable to fetch github organizations", error);
+            }
+        }
+
+        private void release(final CompletableFuture<HttpResponse<byte[]>> response) {
+            final Runnable next;
+            synchronized (this) {
+                inFlightRequests.remove(response);
+                next = cancelled ? null : queuedRequests.poll();
+                if (next == null) {
+                    runningRequests--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+            if (pendingRequests.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+
+        void cancel() {
+            final List<CompletableFuture<?>> toCancel;
+            synchronized (this) {
+                cancelled = true;
+                queuedRequests.clear();
+                toCancel = List.copyOf(inFlightRequests);
+            }
+            toCancel.forEach(response -> response.cancel(true));
+        }
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Config {
+        Integer maxConcurrentRequests;
+        Integer timeoutInMillis;
     }
 }
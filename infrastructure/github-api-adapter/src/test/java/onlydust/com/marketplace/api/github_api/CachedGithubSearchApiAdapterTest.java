@@ -0,0 +1,159 @@
+package onlydust.com.marketplace.api.github_api;
+
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.domain.model.GithubUserIdentity;
+import onlydust.com.marketplace.api.domain.port.output.GithubSearchPort;
+import onlydust.com.marketplace.api.github_api.adapters.CachedGithubSearchApiAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+public class CachedGithubSearchApiAdapterTest {
+
+    private final GithubSearchPort githubSearchPort = mock(GithubSearchPort.class);
+    private final CachedGithubSearchApiAdapter cachedGithubSearchApiAdapter = new CachedGithubSearchApiAdapter(
+            githubSearchPort, CachedGithubSearchApiAdapter.Config.builder().maxSize(10).ttlInSeconds(60)
+                    .waitTimeoutInMillis(200).build());
+
+    @Test
+    void should_search_github_once_per_normalized_login() {
+        // Given
+        final List<GithubUserIdentity> users = users("AnthonyBuisset", "anthonychu", "anthonyshort", "AnthoPakPak",
+                "AnthonyByansi");
+        when(githubSearchPort.searchUsersByLogin("antho")).thenReturn(users);
+
+        // When
+        final List<GithubUserIdentity> result1 = cachedGithubSearchApiAdapter.searchUsersByLogin("antho");
+        final List<GithubUserIdentity> result2 = cachedGithubSearchApiAdapter.searchUsersByLogin(" Antho");
+
+        // Then
+        assertEquals(users, result1);
+        assertEquals(users, result2);
+        verify(githubSearchPort, times(1)).searchUsersByLogin("antho");
+    }
+
+    @Test
+    void should_search_github_for_longer_logins() {
+        // Given
+        when(githubSearchPort.searchUsersByLogin("antho")).thenReturn(users("AnthonyBuisset", "anthonychu"));
+        when(githubSearchPort.searchUsersByLogin("anthony")).thenReturn(users("AnthonyBuisset"));
+
+        // When
+        cachedGithubSearchApiAdapter.searchUsersByLogin("antho");
+        final List<GithubUserIdentity> result = cachedGithubSearchApiAdapter.searchUsersByLogin("anthony");
+
+        // Then
+        assertEquals(users("AnthonyBuisset"), result);
+        verify(githubSearchPort, times(1)).searchUsersByLogin("anthony");
+    }
+
+    @Test
+    void should_coalesce_concurrent_searches() throws Exception {
+        // Given
+        final CountDownLatch githubCalled = new CountDownLatch(1);
+        final CountDownLatch githubResponds = new CountDownLatch(1);
+        when(githubSearchPort.searchUsersByLogin("ofux")).thenAnswer(invocation -> {
+            githubCalled.countDown();
+            githubResponds.await(5, TimeUnit.SECONDS);
+            return users("ofux");
+        });
+
+        // When
+        final var search1 = CompletableFuture.supplyAsync(() -> cachedGithubSearchApiAdapter.searchUsersByLogin("ofux"));
+        githubCalled.await(5, TimeUnit.SECONDS);
+        final var search2 = CompletableFuture.supplyAsync(() -> cachedGithubSearchApiAdapter.searchUsersByLogin("ofux"));
+        githubResponds.countDown();
+
+        // Then
+        assertEquals(users("ofux"), search1.get(5, TimeUnit.SECONDS));
+        assertEquals(users("ofux"), search2.get(5, TimeUnit.SECONDS));
+        verify(githubSearchPort, times(1)).searchUsersByLogin("ofux");
+    }
+
+    @Test
+    void should_not_cache_failed_searches() {
+        // Given
+        when(githubSearchPort.searchUsersByLogin("ofux"))
+                .thenThrow(new IllegalStateException("GitHub is down"))
+                .thenReturn(users("ofux"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cachedGithubSearchApiAdapter.searchUsersByLogin("ofux"));
+        final List<GithubUserIdentity> result = cachedGithubSearchApiAdapter.searchUsersByLogin("ofux");
+
+        // Then
+        assertEquals(users("ofux"), result);
+    }
+
+    @Test
+    void should_not_cache_empty_searches() {
+        // Given
+        when(githubSearchPort.searchUsersByLogin("ofux"))
+                .thenReturn(List.of())
+                .thenReturn(users("ofux"));
+
+        // When
+        final List<GithubUserIdentity> result1 = cachedGithubSearchApiAdapter.searchUsersByLogin("ofux");
+        final List<GithubUserIdentity> result2 = cachedGithubSearchApiAdapter.searchUsersByLogin("ofux");
+
+        // Then
+        assertEquals(List.of(), result1);
+        assertEquals(users("ofux"), result2);
+        verify(githubSearchPort, times(2)).searchUsersByLogin("ofux");
+    }
+
+    @Test
+    void should_not_cache_searches_failing_with_an_error() {
+        // Given
+        when(githubSearchPort.searchUsersByLogin("ofux"))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(users("ofux"));
+
+        // When
+        assertThrows(StackOverflowError.class, () -> cachedGithubSearchApiAdapter.searchUsersByLogin("ofux"));
+        final List<GithubUserIdentity> result = cachedGithubSearchApiAdapter.searchUsersByLogin("ofux");
+
+        // Then
+        assertEquals(users("ofux"), result);
+    }
+
+    @Test
+    void should_stop_waiting_for_a_hung_concurrent_search() throws Exception {
+        // Given
+        final CountDownLatch githubCalled = new CountDownLatch(1);
+        final CountDownLatch githubResponds = new CountDownLatch(1);
+        when(githubSearchPort.searchUsersByLogin("ofux")).thenAnswer(invocation -> {
+            githubCalled.countDown();
+            githubResponds.await(5, TimeUnit.SECONDS);
+            return users("ofux");
+        });
+        final var search1 = CompletableFuture.supplyAsync(() -> cachedGithubSearchApiAdapter.searchUsersByLogin("ofux"));
+        githubCalled.await(5, TimeUnit.SECONDS);
+
+        // When
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> cachedGithubSearchApiAdapter.searchUsersByLogin("ofux"));
+
+        // Then
+        assertEquals(503, exception.getStatus());
+        githubResponds.countDown();
+        assertEquals(users("ofux"), search1.get(5, TimeUnit.SECONDS));
+    }
+
+    private static List<GithubUserIdentity> users(final String... logins) {
+        return Arrays.stream(logins)
+                .map(login -> GithubUserIdentity.builder()
+                        .githubUserId((long) login.hashCode())
+                        .githubLogin(login)
+                        .build())
+                .toList();
+    }
+}
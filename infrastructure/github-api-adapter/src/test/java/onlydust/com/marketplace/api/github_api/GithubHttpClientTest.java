@@ -0,0 +1,248 @@
+package onlydust.com.marketplace.api.github_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.github_api.dto.GithubOrgaSearchResponseDTO;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GithubHttpClientTest {
+
+    private static final String ORGANIZATIONS = """
+            [{"id": 1, "login": "onlydustxyz"}]""";
+
+    private WireMockServer githubWireMockServer;
+
+    @BeforeEach
+    void setUp() {
+        githubWireMockServer = new WireMockServer(options().dynamicPort());
+        githubWireMockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        githubWireMockServer.stop();
+    }
+
+    @Test
+    void should_serve_cached_body_when_github_answers_not_modified() {
+        // Given
+        final GithubHttpClient client = newClient(10);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs")).withHeader("If-None-Match", absent())
+                .willReturn(okJson(ORGANIZATIONS).withHeader("ETag", "\"v1\"")));
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs")).withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        // When
+        final Optional<GithubOrgaSearchResponseDTO[]> first = client.get("/user/orgs",
+                GithubOrgaSearchResponseDTO[].class, "pat");
+        final Optional<GithubOrgaSearchResponseDTO[]> second = client.get("/user/orgs",
+                GithubOrgaSearchResponseDTO[].class, "pat");
+
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals("onlydustxyz", first.get()[0].getLogin());
+        assertSame(first.get(), second.orElseThrow());
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/user/orgs")).withHeader("If-None-Match",
+                absent()));
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/user/orgs")).withHeader("If-None-Match",
+                equalTo("\"v1\"")));
+    }
+
+    @Test
+    void should_revalidate_with_last_modified_when_there_is_no_etag() {
+        // Given
+        final GithubHttpClient client = newClient(10);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(okJson(ORGANIZATIONS).withHeader("Last-Modified", "Tue, 10 Oct 2023 10:00:00 GMT")));
+
+        // When
+        client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "pat");
+        client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "pat");
+
+        // Then
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/user/orgs"))
+                .withHeader("If-Modified-Since", equalTo("Tue, 10 Oct 2023 10:00:00 GMT")));
+    }
+
+    @Test
+    void should_not_share_cached_responses_between_tokens() {
+        // Given
+        final GithubHttpClient client = newClient(10);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(okJson(ORGANIZATIONS).withHeader("ETag", "\"v1\"")));
+
+        // When
+        client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "pat1");
+        client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "pat2");
+
+        // Then
+        githubWireMockServer.verify(2, getRequestedFor(urlEqualTo("/user/orgs")).withHeader("If-None-Match",
+                absent()));
+    }
+
+    @Test
+    void should_not_send_conditional_requests_when_cache_is_disabled() {
+        // Given
+        final GithubHttpClient client = newClient(0);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(okJson(ORGANIZATIONS).withHeader("ETag", "\"v1\"")));
+
+        // When
+        client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "pat");
+        client.fetchAsync("/user/orgs", "pat").join();
+
+        // Then
+        githubWireMockServer.verify(2, getRequestedFor(urlEqualTo("/user/orgs")).withHeader("If-None-Match",
+                absent()));
+    }
+
+    @Test
+    void should_use_another_token_of_the_pool_when_rate_limited() {
+        // Given
+        final GithubHttpClient client = newClient(0, List.of("pat1", "pat2"));
+        githubWireMockServer.stubFor(get(urlEqualTo("/search/users")).withHeader("Authorization", equalTo("Bearer pat1"))
+                .willReturn(aResponse().withStatus(403)
+                        .withHeader("X-RateLimit-Remaining", "0")
+                        .withHeader("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()))));
+        githubWireMockServer.stubFor(get(urlEqualTo("/search/users")).withHeader("Authorization", equalTo("Bearer pat2"))
+                .willReturn(okJson(ORGANIZATIONS)));
+
+        // When
+        final Optional<GithubOrgaSearchResponseDTO[]> first = client.get("/search/users",
+                GithubOrgaSearchResponseDTO[].class);
+        final Optional<GithubOrgaSearchResponseDTO[]> second = client.get("/search/users",
+                GithubOrgaSearchResponseDTO[].class);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/search/users"))
+                .withHeader("Authorization", equalTo("Bearer pat1")));
+        githubWireMockServer.verify(2, getRequestedFor(urlEqualTo("/search/users"))
+                .withHeader("Authorization", equalTo("Bearer pat2")));
+    }
+
+    @Test
+    void should_fail_instead_of_returning_empty_result_when_rate_limited() {
+        // Given
+        final GithubHttpClient client = newClient(0);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(aResponse().withStatus(403).withHeader("Retry-After", "60")));
+
+        // When
+        final OnlyDustException first = assertThrows(OnlyDustException.class,
+                () -> client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "user-pat"));
+        final OnlyDustException second = assertThrows(OnlyDustException.class,
+                () -> client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "user-pat"));
+
+        // Then
+        assertEquals(503, first.getStatus());
+        assertEquals(503, second.getStatus());
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/user/orgs")));
+    }
+
+    @Test
+    void should_not_block_the_calling_thread_until_a_close_reset() {
+        // Given
+        final GithubHttpClient client = newClient(0);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(aResponse().withStatus(403).withHeader("Retry-After", "1")));
+        assertThrows(OnlyDustException.class,
+                () -> client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "user-pat"));
+
+        // When
+        final long start = System.currentTimeMillis();
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "user-pat"));
+
+        // Then
+        assertEquals(503, exception.getStatus());
+        assertTrue(System.currentTimeMillis() - start < 500);
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/user/orgs")));
+    }
+
+    @Test
+    void should_shed_low_priority_calls_when_budget_is_low() {
+        // Given
+        final GithubHttpClient client = newClient(0);
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(okJson(ORGANIZATIONS)
+                        .withHeader("X-RateLimit-Remaining", "50")
+                        .withHeader("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()))));
+        client.get("/user/orgs", GithubOrgaSearchResponseDTO[].class, "user-pat");
+
+        // When
+        final CompletableFuture<HttpResponse<byte[]>> lowPriority = client.fetchAsync("/user/orgs", "user-pat",
+                GithubTokenPool.Priority.LOW);
+        final HttpResponse<byte[]> highPriority = client.fetchAsync("/user/orgs", "user-pat").join();
+
+        // Then
+        final CompletionException exception = assertThrows(CompletionException.class, lowPriority::join);
+        assertEquals(503, ((OnlyDustException) exception.getCause()).getStatus());
+        assertEquals(200, highPriority.statusCode());
+        assertEquals(1, client.getTokenPool().shedCalls());
+        githubWireMockServer.verify(2, getRequestedFor(urlEqualTo("/user/orgs")));
+    }
+
+    @Test
+    void should_keep_core_calls_going_when_the_search_budget_is_exhausted() {
+        // Given
+        final GithubHttpClient client = newClient(0, List.of("pat"));
+        final String reset = String.valueOf(Instant.now().plusSeconds(60).getEpochSecond());
+        githubWireMockServer.stubFor(get(urlEqualTo("/search/users"))
+                .willReturn(okJson(ORGANIZATIONS)
+                        .withHeader("X-RateLimit-Resource", "search")
+                        .withHeader("X-RateLimit-Remaining", "0")
+                        .withHeader("X-RateLimit-Reset", reset)));
+        githubWireMockServer.stubFor(get(urlEqualTo("/user/orgs"))
+                .willReturn(okJson(ORGANIZATIONS)
+                        .withHeader("X-RateLimit-Resource", "core")
+                        .withHeader("X-RateLimit-Remaining", "4999")
+                        .withHeader("X-RateLimit-Reset", reset)));
+        client.get("/search/users", GithubOrgaSearchResponseDTO[].class);
+
+        // When
+        final Optional<GithubOrgaSearchResponseDTO[]> core = client.get("/user/orgs",
+                GithubOrgaSearchResponseDTO[].class);
+        final CompletableFuture<HttpResponse<byte[]>> search = client.fetchAsync("/search/users", null);
+
+        // Then
+        assertTrue(core.isPresent());
+        final CompletionException exception = assertThrows(CompletionException.class, search::join);
+        assertEquals(503, ((OnlyDustException) exception.getCause()).getStatus());
+        assertEquals(4999, client.getTokenPool().remainingBudget(0, GithubTokenPool.CORE));
+        assertEquals(0, client.getTokenPool().remainingBudget(0, GithubTokenPool.SEARCH));
+        githubWireMockServer.verify(1, getRequestedFor(urlEqualTo("/search/users")));
+    }
+
+    private GithubHttpClient newClient(final int responseCacheMaxSize) {
+        return newClient(responseCacheMaxSize, List.of());
+    }
+
+    private GithubHttpClient newClient(final int responseCacheMaxSize, final List<String> personalAccessTokens) {
+        final GithubHttpClient.Config config = new GithubHttpClient.Config();
+        config.setBaseUri(githubWireMockServer.baseUrl());
+        config.setResponseCacheMaxSize(responseCacheMaxSize);
+        config.setPersonalAccessTokens(personalAccessTokens);
+        return new GithubHttpClient(new ObjectMapper(),
+                new OutboundHttpClient("github", new OutboundHttpClient.Config()), config);
+    }
+}
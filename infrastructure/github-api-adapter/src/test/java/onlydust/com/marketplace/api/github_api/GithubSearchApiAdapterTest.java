@@ -1,80 +1,197 @@
 package onlydust.com.marketplace.api.github_api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import onlydust.com.marketplace.api.domain.model.GithubAccount;
+import onlydust.com.marketplace.api.domain.model.GithubAccountSearchResult;
 import onlydust.com.marketplace.api.github_api.adapters.GithubSearchApiAdapter;
-import onlydust.com.marketplace.api.github_api.dto.GithubOrgaSearchResponseDTO;
 import onlydust.com.marketplace.api.github_api.properties.GithubPaginationProperties;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GithubSearchApiAdapterTest {
 
     private static final Faker faker = new Faker();
 
+    private final Map<String, String> bodiesByPath = new ConcurrentHashMap<>();
+    private final Map<String, String> linksByPath = new ConcurrentHashMap<>();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final CountDownLatch slowMembershipLatch = new CountDownLatch(1);
+    private HttpServer githubServer;
+    private GithubHttpClient httpClient;
+    private final String githubPAT = faker.rickAndMorty().character();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        githubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        githubServer.createContext("/", this::handle);
+        githubServer.setExecutor(Executors.newCachedThreadPool());
+        githubServer.start();
+        final GithubHttpClient.Config config = new GithubHttpClient.Config();
+        config.setBaseUri("http://localhost:%d".formatted(githubServer.getAddress().getPort()));
+        // the mock server only speaks HTTP/1.1
+        final OutboundHttpClient.Config outboundConfig = new OutboundHttpClient.Config();
+        outboundConfig.setHttpVersion(HttpClient.Version.HTTP_1_1);
+        httpClient = new GithubHttpClient(new ObjectMapper(), new OutboundHttpClient("github", outboundConfig), config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowMembershipLatch.countDown();
+        githubServer.stop(0);
+    }
 
     @Test
     void should_return_organization_for_user_for_one_page() {
         // Given
-        final GithubHttpClient httpClient = mock(GithubHttpClient.class);
-        final GithubSearchApiAdapter githubSearchApiAdapter = new GithubSearchApiAdapter(httpClient,
-                GithubPaginationProperties.builder().pageSize(2).build());
-        final String githubPAT = faker.rickAndMorty().character();
-        final GithubOrgaSearchResponseDTO orga1 = new GithubOrgaSearchResponseDTO();
-        orga1.setId(1L);
+        final GithubSearchApiAdapter githubSearchApiAdapter = newAdapter(2, 4, 5000);
+        bodiesByPath.put("/user/orgs?per_page=2&page=1", organizations(1L));
+        bodiesByPath.put("/orgs/org1/memberships/pierre", membership("admin"));
 
         // When
-        when(httpClient.get("/user/orgs?per_page=2&page=1", GithubOrgaSearchResponseDTO[].class, githubPAT))
-                .thenReturn(Optional.of(new GithubOrgaSearchResponseDTO[]{
-                        orga1
-                }));
-        final List<GithubAccount> githubAccounts =
-                githubSearchApiAdapter.searchOrganizationsByGithubPersonalToken(githubPAT);
+        final GithubAccountSearchResult result =
+                githubSearchApiAdapter.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, "pierre");
 
         // Then
-        assertEquals(1, githubAccounts.size());
-        assertEquals(orga1.getId(), githubAccounts.get(0).getId());
+        assertFalse(result.isIncomplete());
+        assertEquals(1, result.getAccounts().size());
+        assertEquals(1L, result.getAccounts().get(0).getId());
+        assertTrue(result.getAccounts().get(0).getIsCurrentUserAdmin());
     }
 
     @Test
-    void should_return_organization_for_user_for_two_pages() {
+    void should_return_organization_for_user_for_two_pages_without_link_header() {
         // Given
-        final GithubHttpClient httpClient = mock(GithubHttpClient.class);
-        final GithubSearchApiAdapter githubSearchApiAdapter = new GithubSearchApiAdapter(httpClient,
-                GithubPaginationProperties.builder().pageSize(2).build());
-        final String githubPAT = faker.rickAndMorty().character();
-        final GithubOrgaSearchResponseDTO orga1 = new GithubOrgaSearchResponseDTO();
-        orga1.setId(1L);
-        final GithubOrgaSearchResponseDTO orga2 = new GithubOrgaSearchResponseDTO();
-        orga1.setId(2L);
-        final GithubOrgaSearchResponseDTO orga3 = new GithubOrgaSearchResponseDTO();
-        orga1.setId(3L);
+        final GithubSearchApiAdapter githubSearchApiAdapter = newAdapter(2, 4, 5000);
+        bodiesByPath.put("/user/orgs?per_page=2&page=1", organizations(1L, 2L));
+        bodiesByPath.put("/user/orgs?per_page=2&page=2", organizations(3L));
+        bodiesByPath.put("/orgs/org2/memberships/pierre", membership("admin"));
+        bodiesByPath.put("/orgs/org3/memberships/pierre", membership("member"));
 
+        // When
+        final GithubAccountSearchResult result =
+                githubSearchApiAdapter.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, "pierre");
+
+        // Then
+        assertFalse(result.isIncomplete());
+        assertEquals(List.of(1L, 2L, 3L), result.getAccounts().stream().map(GithubAccount::getId).toList());
+        assertEquals(List.of(false, true, false),
+                result.getAccounts().stream().map(GithubAccount::getIsCurrentUserAdmin).toList());
+    }
+
+    @Test
+    void should_fetch_pages_given_by_link_header_concurrently_with_a_bounded_number_of_requests() {
+        // Given
+        final GithubSearchApiAdapter githubSearchApiAdapter = newAdapter(2, 3, 5000);
+        for (int page = 1; page <= 4; page++) {
+            final String path = "/user/orgs?per_page=2&page=" + page;
+            bodiesByPath.put(path, organizations(page * 10L, page * 10L + 1));
+            linksByPath.put(path, "<http://github/user/orgs?per_page=2&page=%d>; rel=\"next\", <http://github/user/orgs?per_page=2&page=4>; rel=\"last\""
+                    .formatted(page + 1));
+            bodiesByPath.put("/orgs/org%d/memberships/pierre".formatted(page * 10), membership("admin"));
+        }
 
         // When
-        when(httpClient.get("/user/orgs?per_page=2&page=1", GithubOrgaSearchResponseDTO[].class, githubPAT))
-                .thenReturn(Optional.of(new GithubOrgaSearchResponseDTO[]{
-                        orga1,orga2
-                }));
-        when(httpClient.get("/user/orgs?per_page=2&page=2", GithubOrgaSearchResponseDTO[].class, githubPAT))
-                .thenReturn(Optional.of(new GithubOrgaSearchResponseDTO[]{
-                        orga3
-                }));
-        final List<GithubAccount> githubAccounts =
-                githubSearchApiAdapter.searchOrganizationsByGithubPersonalToken(githubPAT);
+        final GithubAccountSearchResult result =
+                githubSearchApiAdapter.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, "pierre");
 
         // Then
-        assertEquals(3, githubAccounts.size());
-        assertEquals(orga1.getId(), githubAccounts.get(0).getId());
-        assertEquals(orga2.getId(), githubAccounts.get(1).getId());
-        assertEquals(orga3.getId(), githubAccounts.get(2).getId());
+        assertFalse(result.isIncomplete());
+        assertEquals(List.of(10L, 11L, 20L, 21L, 30L, 31L, 40L, 41L),
+                result.getAccounts().stream().map(GithubAccount::getId).toList());
+        assertEquals(List.of(true, false, true, false, true, false, true, false),
+                result.getAccounts().stream().map(GithubAccount::getIsCurrentUserAdmin).toList());
+        assertTrue(maxConcurrentRequests.get() <= 3);
     }
 
+    @Test
+    void should_return_partial_results_flagged_as_incomplete_given_a_slow_github() {
+        // Given
+        final GithubSearchApiAdapter githubSearchApiAdapter = newAdapter(2, 4, 2000);
+        bodiesByPath.put("/user/orgs?per_page=2&page=1", organizations(1L, 2L));
+        linksByPath.put("/user/orgs?per_page=2&page=1", "<http://github/user/orgs?per_page=2&page=2>; rel=\"last\"");
+        bodiesByPath.put("/user/orgs?per_page=2&page=2", "slow");
+        bodiesByPath.put("/orgs/org1/memberships/pierre", membership("admin"));
+        bodiesByPath.put("/orgs/org2/memberships/pierre", "slow");
 
+        // When
+        final long start = System.currentTimeMillis();
+        final GithubAccountSearchResult result =
+                githubSearchApiAdapter.searchOrganizationsWithAdminRoleByGithubPersonalToken(githubPAT, "pierre");
+
+        // Then
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertTrue(result.isIncomplete());
+        assertEquals(List.of(1L, 2L), result.getAccounts().stream().map(GithubAccount::getId).toList());
+        assertEquals(List.of(true, false),
+                result.getAccounts().stream().map(GithubAccount::getIsCurrentUserAdmin).toList());
+    }
+
+    private GithubSearchApiAdapter newAdapter(final int pageSize, final int maxConcurrentRequests,
+                                              final int timeoutInMillis) {
+        return new GithubSearchApiAdapter(httpClient, GithubPaginationProperties.builder().pageSize(pageSize).build(),
+                GithubSearchApiAdapter.Config.builder()
+                        .maxConcurrentRequests(maxConcurrentRequests)
+                        .timeoutInMillis(timeoutInMillis)
+                        .build());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+        try {
+            final String path = exchange.getRequestURI().toString();
+            String body = bodiesByPath.get(path);
+            if ("slow".equals(body)) {
+                slowMembershipLatch.await(10, TimeUnit.SECONDS);
+                body = null;
+            } else {
+                Thread.sleep(50);
+            }
+            if (linksByPath.containsKey(path)) {
+                exchange.getResponseHeaders().add("Link", linksByPath.get(path));
+            }
+            final byte[] bytes = (body == null ? "{}" : body).getBytes(UTF_8);
+            exchange.sendResponseHeaders(body == null ? 404 : 200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static String organizations(final Long... ids) {
+        return "[" + String.join(",", Arrays.stream(ids)
+                .map(id -> """
+                        {"id": %d, "login": "org%d"}""".formatted(id, id))
+                .toList()) + "]";
+    }
+
+    private static String membership(final String role) {
+        return """
+                {"state": "active", "role": "%s"}""".formatted(role);
+    }
 }
@@ -1,24 +1,93 @@
 package onlydust.com.marketplace.api.indexer.api.client.adapter;
 
 import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.port.output.IndexerPort;
 import org.springframework.http.HttpMethod;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static java.util.Objects.nonNull;
+import static onlydust.com.marketplace.api.domain.exception.OnlyDustException.internalServerError;
+
+@Slf4j
 @AllArgsConstructor
 public class IndexerApiClientAdapter implements IndexerPort {
 
     private final IndexerApiHttpClient httpClient;
+    private final Config config;
 
     @Override
     public void indexUser(Long githubUserId) {
         httpClient.sendRequest("/api/v1/users/" + githubUserId, HttpMethod.PUT, null, Void.class);
     }
 
+    /**
+     * Pipelines the calls on the indexer HTTP client, with at most {@code maxConcurrentCalls} of them in flight, and
+     * returns once they all completed or the batch timed out. Failures are reported together once every call is over.
+     */
     @Override
     public void indexUsers(List<Long> githubUserIds) {
-        githubUserIds.stream().parallel().forEach(this::indexUser);
+        final long deadline = System.currentTimeMillis() + config.timeoutInMillis;
+        final Semaphore slots = new Semaphore(config.maxConcurrentCalls);
+        final Map<Long, CompletableFuture<Void>> calls = new LinkedHashMap<>();
+        try {
+            for (Long githubUserId : githubUserIds.stream().distinct().toList()) {
+                if (!slots.tryAcquire(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                calls.put(githubUserId, httpClient.sendRequestAsync("/api/v1/users/" + githubUserId, HttpMethod.PUT,
+                                null, Void.class)
+                        .whenComplete((result, error) -> slots.release()));
+            }
+            CompletableFuture.allOf(calls.values().toArray(CompletableFuture[]::new))
+                    .get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // reported below, call by call
+        }
+        reportFailures(githubUserIds, calls);
+    }
+
+    private void reportFailures(final List<Long> githubUserIds, final Map<Long, CompletableFuture<Void>> calls) {
+        final Map<Long, Throwable> failures = new LinkedHashMap<>();
+        for (Long githubUserId : githubUserIds) {
+            final CompletableFuture<Void> call = calls.get(githubUserId);
+            if (call == null || !call.isDone()) {
+                failures.putIfAbsent(githubUserId, null);
+            } else if (call.isCompletedExceptionally()) {
+                failures.putIfAbsent(githubUserId, call.handle((result, error) -> unwrap(error)).join());
+            }
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        LOGGER.warn("Failed to index {} github users out of {}: {}", failures.size(), githubUserIds.size(),
+                failures.keySet());
+        final OnlyDustException exception = internalServerError("Failed to index github users %s"
+                .formatted(failures.keySet()), failures.values().stream().filter(Objects::nonNull).findFirst()
+                .orElse(null));
+        failures.values().stream()
+                .filter(e -> nonNull(e) && e != exception.getCause())
+                .forEach(exception::addSuppressed);
+        throw exception;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
     @Override
@@ -32,4 +101,12 @@ public class IndexerApiClientAdapter implements IndexerPort {
         httpClient.sendRequest("/api/v1/repos/%s/%s/issues/%d".formatted(repoOwner, repoName, issueNumber),
                 HttpMethod.PUT, null, Void.class);
     }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        // calls of a batch in flight at the same time, it must stay below the indexer HTTP client bulkhead
+        private int maxConcurrentCalls = 8;
+        private long timeoutInMillis = 10000;
+    }
 }
@@ -5,14 +5,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static java.net.http.HttpRequest.BodyPublishers.noBody;
@@ -22,9 +23,9 @@ import static onlydust.com.marketplace.api.domain.exception.OnlyDustException.in
 
 @AllArgsConstructor
 public class IndexerApiHttpClient {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final Properties properties;
+    private final OutboundHttpClient httpClient;
 
     private HttpRequest.Builder builderFromAuthorizations() {
         return HttpRequest.newBuilder()
@@ -37,36 +38,65 @@ public class IndexerApiHttpClient {
                                                                 final RequestBody requestBody,
                                                                 final Class<ResponseBody> responseClass) {
         try {
-            final HttpResponse<byte[]> httpResponse = httpClient.send(
-                    builderFromAuthorizations()
-                            .uri(URI.create(properties.getBaseUri() + path))
-                            .method(method.name(),
-                                    isNull(requestBody) ? noBody() :
-                                            ofByteArray(objectMapper.writeValueAsBytes(requestBody)))
-                            .build(),
-                    HttpResponse.BodyHandlers.ofByteArray()
-            );
-            final int statusCode = httpResponse.statusCode();
-            if (statusCode == HttpStatus.UNAUTHORIZED.value()) {
-                throw OnlyDustException.unauthorized(format("Unauthorized error when calling %s on Indexer API", path));
-            } else if (statusCode == HttpStatus.FORBIDDEN.value()) {
-                throw OnlyDustException.forbidden(format("Forbidden error when calling %s on Indexer API", path));
-            } else if (statusCode != HttpStatus.OK.value() &&
-                       statusCode != HttpStatus.CREATED.value() &&
-                       statusCode != HttpStatus.ACCEPTED.value() &&
-                       statusCode != HttpStatus.NO_CONTENT.value()) {
-                throw OnlyDustException.internalServerError(format("Unknown error (status %d) when calling %s on " +
-                                                                   "Indexer" +
-                                                                   " API", statusCode, path));
-            } else if (Void.class.isAssignableFrom(responseClass)) {
-                return null;
-            }
-            return objectMapper.readValue(httpResponse.body(), responseClass);
+            return decodeResponse(path, httpClient.send(buildRequest(path, method, requestBody)), responseClass);
+        } catch (IOException | InterruptedException e) {
+            throw internalServerError("Fail send request", e);
+        }
+    }
+
+    /**
+     * Same as {@link #sendRequest} without holding the calling thread: the response is decoded on the HTTP client
+     * threads. The call fails with a 503 when too many calls to the indexer are already in flight.
+     */
+    public <RequestBody, ResponseBody> CompletableFuture<ResponseBody> sendRequestAsync(final String path,
+                                                                                        final HttpMethod method,
+                                                                                        final RequestBody requestBody,
+                                                                                        final Class<ResponseBody> responseClass) {
+        final HttpRequest request;
+        try {
+            request = buildRequest(path, method, requestBody);
+        } catch (OnlyDustException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return httpClient.sendAsync(request)
+                .thenApply(httpResponse -> decodeResponse(path, httpResponse, responseClass));
+    }
 
+    private <RequestBody> HttpRequest buildRequest(final String path, final HttpMethod method,
+                                                   final RequestBody requestBody) {
+        try {
+            return builderFromAuthorizations()
+                    .uri(URI.create(properties.getBaseUri() + path))
+                    .method(method.name(),
+                            isNull(requestBody) ? noBody() :
+                                    ofByteArray(objectMapper.writeValueAsBytes(requestBody)))
+                    .build();
         } catch (JsonProcessingException e) {
             throw internalServerError("Fail to serialize request", e);
-        } catch (IOException | InterruptedException e) {
-            throw internalServerError("Fail send request", e);
+        }
+    }
+
+    private <ResponseBody> ResponseBody decodeResponse(final String path, final HttpResponse<byte[]> httpResponse,
+                                                       final Class<ResponseBody> responseClass) {
+        final int statusCode = httpResponse.statusCode();
+        if (statusCode == HttpStatus.UNAUTHORIZED.value()) {
+            throw OnlyDustException.unauthorized(format("Unauthorized error when calling %s on Indexer API", path));
+        } else if (statusCode == HttpStatus.FORBIDDEN.value()) {
+            throw OnlyDustException.forbidden(format("Forbidden error when calling %s on Indexer API", path));
+        } else if (statusCode != HttpStatus.OK.value() &&
+                   statusCode != HttpStatus.CREATED.value() &&
+                   statusCode != HttpStatus.ACCEPTED.value() &&
+                   statusCode != HttpStatus.NO_CONTENT.value()) {
+            throw OnlyDustException.internalServerError(format("Unknown error (status %d) when calling %s on " +
+                                                               "Indexer" +
+                                                               " API", statusCode, path));
+        } else if (Void.class.isAssignableFrom(responseClass)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(httpResponse.body(), responseClass);
+        } catch (IOException e) {
+            throw internalServerError("Fail to deserialize response", e);
         }
     }
 
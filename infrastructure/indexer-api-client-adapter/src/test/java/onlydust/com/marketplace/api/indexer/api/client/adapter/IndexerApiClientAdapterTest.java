@@ -0,0 +1,124 @@
+package onlydust.com.marketplace.api.indexer.api.client.adapter;
+
+import com.sun.net.httpserver.HttpServer;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexerApiClientAdapterTest {
+
+    private final Set<Long> indexedUsers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> failingUsers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlightCalls = new AtomicInteger();
+    private final AtomicInteger maxInFlightCalls = new AtomicInteger();
+    private volatile long responseDelayInMillis = 50;
+    private ExecutorService serverExecutor;
+    private HttpServer indexerServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        indexerServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        indexerServer.createContext("/api/v1/users/", exchange -> {
+            final long githubUserId = Long.parseLong(exchange.getRequestURI().getPath()
+                    .substring("/api/v1/users/".length()));
+            maxInFlightCalls.accumulateAndGet(inFlightCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(responseDelayInMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlightCalls.decrementAndGet();
+            // the JDK server may reset a kept-alive connection the client is reusing
+            exchange.getResponseHeaders().add("Connection", "close");
+            if (failingUsers.contains(githubUserId)) {
+                exchange.sendResponseHeaders(500, -1);
+            } else {
+                indexedUsers.add(githubUserId);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            exchange.close();
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        indexerServer.setExecutor(serverExecutor);
+        indexerServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexerServer.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void should_index_users_with_bounded_concurrency() {
+        // Given
+        final IndexerApiClientAdapter adapter = newAdapter(4, 10000);
+        final List<Long> githubUserIds = LongStream.rangeClosed(1, 20).boxed().toList();
+
+        // When
+        adapter.indexUsers(githubUserIds);
+
+        // Then
+        assertThat(indexedUsers).containsExactlyInAnyOrder(githubUserIds.toArray(new Long[0]));
+        assertThat(maxInFlightCalls.get()).isBetween(2, 4);
+    }
+
+    @Test
+    void should_report_every_failed_user_once_the_batch_is_over() {
+        // Given
+        final IndexerApiClientAdapter adapter = newAdapter(4, 10000);
+        failingUsers.addAll(List.of(2L, 5L));
+
+        // When
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> adapter.indexUsers(List.of(1L, 2L, 3L, 4L, 5L, 6L)));
+
+        // Then
+        assertThat(exception.getStatus()).isEqualTo(500);
+        assertThat(exception.getMessage()).contains("[2, 5]");
+        assertThat(exception.getSuppressed()).hasSize(1);
+        assertThat(indexedUsers).containsExactlyInAnyOrder(1L, 3L, 4L, 6L);
+    }
+
+    @Test
+    void should_give_up_once_the_batch_timed_out() {
+        // Given
+        final IndexerApiClientAdapter adapter = newAdapter(2, 200);
+        responseDelayInMillis = 1000;
+
+        // When
+        final long start = System.currentTimeMillis();
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> adapter.indexUsers(List.of(1L, 2L, 3L, 4L)));
+
+        // Then
+        assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        assertThat(exception.getMessage()).contains("[1, 2, 3, 4]");
+    }
+
+    private IndexerApiClientAdapter newAdapter(final int maxConcurrentCalls, final long timeoutInMillis) {
+        final IndexerApiHttpClient.Properties properties = new IndexerApiHttpClient.Properties();
+        properties.setBaseUri("http://localhost:%d".formatted(indexerServer.getAddress().getPort()));
+        properties.setApiKey("some-indexer-api-key");
+        final IndexerApiClientAdapter.Config config = new IndexerApiClientAdapter.Config();
+        config.setMaxConcurrentCalls(maxConcurrentCalls);
+        config.setTimeoutInMillis(timeoutInMillis);
+        return new IndexerApiClientAdapter(new IndexerApiHttpClient(properties,
+                new OutboundHttpClient("indexer", new OutboundHttpClient.Config())), config);
+    }
+}
@@ -5,13 +5,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.outbound.http.OutboundHttpClient;
 import onlydust.com.marketplace.api.rest.api.adapter.authentication.hasura.HasuraAuthentication;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 
@@ -25,9 +25,9 @@ import static onlydust.com.marketplace.api.rest.api.adapter.authentication.Authe
 
 @AllArgsConstructor
 public class OdRustApiHttpClient {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final Properties properties;
+    private final OutboundHttpClient httpClient;
 
     private HttpRequest.Builder builderFromAuthorizations(final HasuraAuthentication authentication) {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
@@ -53,8 +53,7 @@ public class OdRustApiHttpClient {
                             .method(method.name(),
                                     isNull(requestBody) ? noBody() :
                                             ofByteArray(objectMapper.writeValueAsBytes(requestBody)))
-                            .build(),
-                    HttpResponse.BodyHandlers.ofByteArray()
+                            .build()
             );
             final int statusCode = httpResponse.statusCode();
             if (statusCode == HttpStatus.UNAUTHORIZED.value()) {
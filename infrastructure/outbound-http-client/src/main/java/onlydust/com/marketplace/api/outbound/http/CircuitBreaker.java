@@ -0,0 +1,130 @@
+package onlydust.com.marketplace.api.outbound.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker: opens when at least {@code failureRateThreshold}% of the last
+ * {@code slidingWindowSize} calls failed (once {@code minimumCalls} have been made), rejects every call for
+ * {@code openStateInMillis}, then lets {@code halfOpenProbes} calls through: it closes again if they all succeed and
+ * opens again as soon as one fails.
+ */
+@Slf4j
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final OutboundHttpClient.Config config;
+    private final LongSupplier clock;
+    private final boolean[] failures;
+    private int calls;
+    private int failureCount;
+    private int nextIndex;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(final String name, final OutboundHttpClient.Config config, final LongSupplier clock) {
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+        this.failures = new boolean[config.getSlidingWindowSize()];
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < config.getOpenStateInMillis()) {
+                return false;
+            }
+            LOGGER.info("Circuit breaker of {} is half-open, probing", name);
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= config.getHalfOpenProbes()) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                probesInFlight--;
+                if (++probeSuccesses >= config.getHalfOpenProbes()) {
+                    close();
+                }
+            }
+            case OPEN -> {
+                // result of a call started before the circuit opened
+            }
+        }
+    }
+
+    synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (calls >= config.getMinimumCalls() &&
+                    failureCount * 100 >= config.getFailureRateThreshold() * calls) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> open();
+            case OPEN -> {
+                // result of a call started before the circuit opened
+            }
+        }
+    }
+
+    /**
+     * The call ended without telling anything about the health of the dependency (cancelled, interrupted...).
+     */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(final boolean failure) {
+        if (calls == failures.length) {
+            if (failures[nextIndex]) {
+                failureCount--;
+            }
+        } else {
+            calls++;
+        }
+        failures[nextIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        nextIndex = (nextIndex + 1) % failures.length;
+    }
+
+    private void open() {
+        LOGGER.warn("Circuit breaker of {} is open for {}ms", name, config.getOpenStateInMillis());
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        LOGGER.info("Circuit breaker of {} is closed", name);
+        state = State.CLOSED;
+        calls = 0;
+        failureCount = 0;
+        nextIndex = 0;
+    }
+}
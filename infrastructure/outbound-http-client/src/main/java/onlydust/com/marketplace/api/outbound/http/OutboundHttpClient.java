@@ -0,0 +1,165 @@
+package onlydust.com.marketplace.api.outbound.http;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP client of one outbound dependency (GitHub, indexer, Rust API...), so that a slow or failing dependency cannot
+ * hold the request threads:
+ * <ul>
+ *     <li>its own connection pool, with a connect timeout;</li>
+ *     <li>a deadline on every call, unless the request sets its own;</li>
+ *     <li>a bulkhead bounding the concurrent calls;</li>
+ *     <li>a {@link CircuitBreaker} failing fast while the dependency keeps failing (I/O errors, timeouts, 5xx).</li>
+ * </ul>
+ * Calls rejected by the bulkhead or the circuit breaker fail with a 503 {@link OnlyDustException}.
+ */
+public class OutboundHttpClient {
+
+    private final String name;
+    private final Config config;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    public OutboundHttpClient(final String name, final Config config) {
+        this.name = name;
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(config.httpVersion)
+                .connectTimeout(Duration.ofMillis(config.connectTimeoutInMillis))
+                .build();
+        this.bulkhead = new Semaphore(config.maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(name, config, System::currentTimeMillis);
+    }
+
+    public HttpResponse<byte[]> send(final HttpRequest request) throws IOException, InterruptedException {
+        acquire(config.maxWaitForCallInMillis);
+        boolean completed = false;
+        try {
+            final HttpResponse<byte[]> httpResponse = httpClient.send(withDeadline(request),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            onResponse(httpResponse);
+            completed = true;
+            return httpResponse;
+        } catch (IOException e) {
+            circuitBreaker.onFailure();
+            completed = true;
+            throw e;
+        } finally {
+            if (!completed) {
+                circuitBreaker.onIgnored();
+            }
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Never blocks the caller: the call is rejected right away when the bulkhead is full.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> sendAsync(final HttpRequest request) {
+        try {
+            acquire(0);
+        } catch (OnlyDustException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return httpClient.sendAsync(withDeadline(request), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((httpResponse, error) -> {
+                    bulkhead.release();
+                    if (error == null) {
+                        onResponse(httpResponse);
+                    } else if (unwrap(error) instanceof IOException) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onIgnored();
+                    }
+                });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 0 when the circuit is closed, 1 when it is open, 2 when it is half-open
+     */
+    public int getCircuitState() {
+        return circuitBreaker.state().ordinal();
+    }
+
+    public int getInFlightCalls() {
+        return config.maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    private void acquire(final long maxWaitInMillis) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCalls.incrementAndGet();
+            throw OnlyDustException.serviceUnavailable("%s is unavailable (circuit breaker open)".formatted(name));
+        }
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(maxWaitInMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            circuitBreaker.onIgnored();
+            rejectedCalls.incrementAndGet();
+            throw OnlyDustException.serviceUnavailable("Too many concurrent calls to %s".formatted(name));
+        }
+    }
+
+    private void onResponse(final HttpResponse<byte[]> httpResponse) {
+        if (httpResponse.statusCode() >= 500) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private HttpRequest withDeadline(final HttpRequest request) {
+        return request.timeout().isPresent() ? request :
+                HttpRequest.newBuilder(request, (header, value) -> true)
+                        .timeout(Duration.ofMillis(config.requestTimeoutInMillis))
+                        .build();
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        // over plain http, HTTP/2 starts with an upgrade that the calls made in the meantime wait for
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+        private long connectTimeoutInMillis = 2000;
+        private long requestTimeoutInMillis = 10000;
+        private int maxConcurrentCalls = 50;
+        // how long a call waits for a free slot in the bulkhead before being rejected
+        private long maxWaitForCallInMillis = 100;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private long openStateInMillis = 30000;
+        private int halfOpenProbes = 3;
+    }
+}
@@ -0,0 +1,153 @@
+package onlydust.com.marketplace.api.outbound.http;
+
+import com.sun.net.httpserver.HttpServer;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboundHttpClientTest {
+
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final CountDownLatch slowLatch = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fast", exchange -> {
+            callCount.incrementAndGet();
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            callCount.incrementAndGet();
+            try {
+                slowLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowLatch.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void should_fail_a_call_exceeding_its_deadline() {
+        // Given
+        final OutboundHttpClient.Config config = new OutboundHttpClient.Config();
+        config.setRequestTimeoutInMillis(200);
+        final OutboundHttpClient client = new OutboundHttpClient("test", config);
+
+        // When
+        final long start = System.currentTimeMillis();
+        assertThrows(HttpTimeoutException.class, () -> client.send(request("/slow")));
+
+        // Then
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        assertEquals(0, client.getInFlightCalls());
+    }
+
+    @Test
+    void should_reject_calls_when_the_bulkhead_is_full() throws Exception {
+        // Given
+        final OutboundHttpClient.Config config = new OutboundHttpClient.Config();
+        config.setMaxConcurrentCalls(1);
+        config.setMaxWaitForCallInMillis(0);
+        final OutboundHttpClient client = new OutboundHttpClient("test", config);
+        final CompletableFuture<HttpResponse<byte[]>> slowCall = client.sendAsync(request("/slow"));
+
+        // When
+        final OnlyDustException exception = assertThrows(OnlyDustException.class, () -> client.send(request("/fast")));
+        slowLatch.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(503, exception.getStatus());
+        assertEquals(1, client.getRejectedCalls());
+        assertEquals(200, client.send(request("/fast")).statusCode());
+    }
+
+    @Test
+    void should_open_the_circuit_on_failures_and_close_it_after_successful_probes() throws Exception {
+        // Given
+        final OutboundHttpClient.Config config = new OutboundHttpClient.Config();
+        config.setSlidingWindowSize(4);
+        config.setMinimumCalls(2);
+        config.setFailureRateThreshold(50);
+        config.setOpenStateInMillis(200);
+        config.setHalfOpenProbes(1);
+        final OutboundHttpClient client = new OutboundHttpClient("test", config);
+        status.set(500);
+
+        // When
+        client.send(request("/fast"));
+        client.send(request("/fast"));
+        final OnlyDustException rejected = assertThrows(OnlyDustException.class, () -> client.send(request("/fast")));
+        final int openState = client.getCircuitState();
+        status.set(200);
+        Thread.sleep(300);
+        final HttpResponse<byte[]> probe = client.send(request("/fast"));
+
+        // Then
+        assertEquals(503, rejected.getStatus());
+        assertEquals(1, openState);
+        assertEquals(200, probe.statusCode());
+        assertEquals(0, client.getCircuitState());
+        assertEquals(3, callCount.get());
+    }
+
+    @Test
+    void should_reopen_the_circuit_when_a_probe_fails() throws Exception {
+        // Given
+        final OutboundHttpClient.Config config = new OutboundHttpClient.Config();
+        config.setSlidingWindowSize(2);
+        config.setMinimumCalls(2);
+        config.setOpenStateInMillis(200);
+        config.setHalfOpenProbes(1);
+        final OutboundHttpClient client = new OutboundHttpClient("test", config);
+        status.set(503);
+        client.send(request("/fast"));
+        client.send(request("/fast"));
+
+        // When
+        Thread.sleep(300);
+        client.send(request("/fast"));
+
+        // Then
+        assertEquals(1, client.getCircuitState());
+        assertThrows(OnlyDustException.class, () -> client.send(request("/fast")));
+        assertEquals(3, callCount.get());
+    }
+
+    private HttpRequest request(final String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:%d%s".formatted(server.getAddress().getPort(), path)))
+                .GET()
+                .build();
+    }
+}
@@ -173,4 +173,12 @@ public class PostgresContributionAdapter implements ContributionStoragePort {
         ignoredContributionsRepository.addMissingContributions(repoIds);
         ignoredContributionsRepository.deleteContributionsThatShouldNotBeIgnored(repoIds);
     }
+
+    @Override
+    @Transactional
+    public void refreshIgnoredContributionsAmong(List<String> contributionIds) {
+        ignoredContributionsRepository.addMissingContributionsAmong(contributionIds);
+        ignoredContributionsRepository.deleteContributionsThatShouldNotBeIgnoredAmong(contributionIds);
+        ignoredContributionsRepository.deleteContributionsThatDoNotExistAnymoreAmong(contributionIds);
+    }
 }
@@ -0,0 +1,72 @@
+package onlydust.com.marketplace.api.postgres.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
+import onlydust.com.marketplace.api.domain.model.ContributionsChange;
+import onlydust.com.marketplace.api.domain.port.output.ContributionsChangeQueuePort;
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.ContributionsChangeEntity;
+import onlydust.com.marketplace.api.postgres.adapter.repository.ContributionsChangeQueueRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@AllArgsConstructor
+public class PostgresContributionsChangeQueueAdapter implements ContributionsChangeQueuePort {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ContributionsChangeQueueRepository contributionsChangeQueueRepository;
+
+    @Override
+    @Transactional
+    public void push(List<Long> repoIds, List<String> contributionIds) {
+        final String contributionIdsJson = toJson(contributionIds == null || contributionIds.isEmpty() ? null :
+                contributionIds);
+        // Sorted to always lock the rows in the same order when 2 events for the same repos are pushed concurrently
+        repoIds.stream().distinct().sorted()
+                .forEach(repoId -> contributionsChangeQueueRepository.push(repoId, contributionIdsJson));
+    }
+
+    @Override
+    @Transactional
+    public Optional<ContributionsChange> poll(Duration lease) {
+        final Optional<ContributionsChangeEntity> change = contributionsChangeQueueRepository.findNextUnleasedForUpdate();
+        change.ifPresent(entity -> contributionsChangeQueueRepository.lease(entity.getRepoId(), lease.toSeconds()));
+        return change.map(ContributionsChangeEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public void acknowledge(ContributionsChange change) {
+        final int deleted = contributionsChangeQueueRepository.deleteProcessed(change.getRepoId(), change.getVersion());
+        if (deleted == 0) {
+            // New changes were pushed while processing, they must be processed as soon as possible
+            contributionsChangeQueueRepository.unlock(change.getRepoId());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long depth() {
+        return contributionsChangeQueueRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Date> oldestEnqueuedAt() {
+        return Optional.ofNullable(contributionsChangeQueueRepository.findOldestEnqueuedAt());
+    }
+
+    private static String toJson(List<String> contributionIds) {
+        try {
+            return objectMapper.writeValueAsString(contributionIds);
+        } catch (JsonProcessingException e) {
+            throw OnlyDustException.internalServerError("Unable to serialize contribution ids", e);
+        }
+    }
+}
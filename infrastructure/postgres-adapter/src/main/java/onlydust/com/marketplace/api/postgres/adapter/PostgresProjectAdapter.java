@@ -9,6 +9,7 @@ import onlydust.com.marketplace.api.domain.model.ProjectVisibility;
 import onlydust.com.marketplace.api.domain.port.output.ProjectStoragePort;
 import onlydust.com.marketplace.api.domain.view.*;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
+import onlydust.com.marketplace.api.domain.view.pagination.PageCursor;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.*;
@@ -113,20 +114,29 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
                                                                               Integer pageSize) {
         final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsors);
         final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
-        final Long count = projectsPageRepository.countProjectsForUserId(userId, mine, technologiesJsonPath,
-                sponsorsJsonPath, search);
+        final String searchPrefixQuery = ProjectPageItemViewEntity.getSearchPrefixQuery(search);
         final List<ProjectPageItemViewEntity> projectsForUserId =
                 projectsPageRepository.findProjectsForUserId(userId, mine,
-                        technologiesJsonPath, sponsorsJsonPath, search, isNull(sort) ?
+                        technologiesJsonPath, sponsorsJsonPath, search, searchPrefixQuery, isNull(sort) ?
                                 ProjectCardView.SortBy.NAME.name() : sort.name(),
                         PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex), pageSize);
-        final Map<String, Set<String>> filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
-                projectsPageFiltersRepository.findFiltersForUser(userId, mine, technologiesJsonPath, sponsorsJsonPath,
-                        search));
+        final int count;
+        final Map<String, Set<String>> filters;
+        if (projectsForUserId.isEmpty() && pageIndex > 0) {
+            // Requested page is past the end: total count and facets can't be read from an empty result set
+            count = projectsPageRepository.countProjectsForUserId(userId, mine, technologiesJsonPath,
+                    sponsorsJsonPath, search, searchPrefixQuery).intValue();
+            filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
+                    projectsPageFiltersRepository.findFiltersForUser(userId, mine, technologiesJsonPath,
+                            sponsorsJsonPath, search, searchPrefixQuery));
+        } else {
+            count = ProjectPageItemViewEntity.totalItemNumber(projectsForUserId);
+            filters = ProjectPageItemViewEntity.filters(projectsForUserId);
+        }
         return Page.<ProjectCardView>builder()
                 .content(projectsForUserId.stream().map(p -> p.toView(userId)).toList())
-                .totalItemNumber(count.intValue())
-                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count.intValue()))
+                .totalItemNumber(count)
+                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
                 .filters(filters)
                 .build();
     }
@@ -140,20 +150,29 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
 
         final String sponsorsJsonPath = ProjectPageItemViewEntity.getSponsorsJsonPath(sponsors);
         final String technologiesJsonPath = ProjectPageItemViewEntity.getTechnologiesJsonPath(technologies);
+        final String searchPrefixQuery = ProjectPageItemViewEntity.getSearchPrefixQuery(search);
         final List<ProjectPageItemViewEntity> projectsForAnonymousUser =
                 projectsPageRepository.findProjectsForAnonymousUser(technologiesJsonPath, sponsorsJsonPath, search,
-                        isNull(sort) ?
+                        searchPrefixQuery, isNull(sort) ?
                                 ProjectCardView.SortBy.NAME.name() : sort.name(),
                         PaginationMapper.getPostgresOffsetFromPagination(pageSize, pageIndex), pageSize);
-        final Long count = projectsPageRepository.countProjectsForAnonymousUser(technologiesJsonPath,
-                sponsorsJsonPath, search);
-        final Map<String, Set<String>> filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
-                projectsPageFiltersRepository.findFiltersForAnonymousUser(technologiesJsonPath, sponsorsJsonPath,
-                        search));
+        final int count;
+        final Map<String, Set<String>> filters;
+        if (projectsForAnonymousUser.isEmpty() && pageIndex > 0) {
+            // Requested page is past the end: total count and facets can't be read from an empty result set
+            count = projectsPageRepository.countProjectsForAnonymousUser(technologiesJsonPath, sponsorsJsonPath,
+                    search, searchPrefixQuery).intValue();
+            filters = ProjectPageItemFiltersViewEntity.entitiesToFilters(
+                    projectsPageFiltersRepository.findFiltersForAnonymousUser(technologiesJsonPath,
+                            sponsorsJsonPath, search, searchPrefixQuery));
+        } else {
+            count = ProjectPageItemViewEntity.totalItemNumber(projectsForAnonymousUser);
+            filters = ProjectPageItemViewEntity.filters(projectsForAnonymousUser);
+        }
         return Page.<ProjectCardView>builder()
                 .content(projectsForAnonymousUser.stream().map(p -> p.toView(null)).toList())
-                .totalItemNumber(count.intValue())
-                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count.intValue()))
+                .totalItemNumber(count)
+                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
                 .filters(filters)
                 .build();
     }
@@ -285,15 +304,32 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
                                                               SortDirection sortDirection,
                                                               int pageIndex, int pageSize) {
         final Integer count = customContributorRepository.getProjectContributorCount(projectId, login);
-        final List<ProjectContributorsLinkView> projectContributorsLinkViews =
+        final List<ProjectContributorViewEntity> entities =
                 customContributorRepository.getProjectContributorViewEntity(projectId, login, sortBy, sortDirection,
-                                pageIndex, pageSize)
-                        .stream().map(ProjectContributorsMapper::mapToDomainWithoutProjectLeadData)
-                        .toList();
+                        pageIndex, pageSize);
+        final int totalPageNumber = PaginationHelper.calculateTotalNumberOfPage(pageSize, count);
         return Page.<ProjectContributorsLinkView>builder()
-                .content(projectContributorsLinkViews)
+                .content(entities.stream().map(ProjectContributorsMapper::mapToDomainWithoutProjectLeadData).toList())
                 .totalItemNumber(count)
-                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                .totalPageNumber(totalPageNumber)
+                .nextCursor(PaginationHelper.hasMore(pageIndex, totalPageNumber) && !entities.isEmpty() ?
+                        CustomContributorRepository.cursorOf(entities.get(entities.size() - 1), sortBy, sortDirection).encode() :
+                        null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectContributorsLinkView> findContributorsAfter(UUID projectId, String login,
+                                                              ProjectContributorsLinkView.SortBy sortBy,
+                                                              SortDirection sortDirection,
+                                                              String cursor, int pageSize) {
+        final List<ProjectContributorViewEntity> entities = findContributorEntitiesAfter(projectId, login, sortBy,
+                sortDirection, cursor, pageSize);
+        return Page.<ProjectContributorsLinkView>builder()
+                .content(entities.stream().limit(pageSize).map(ProjectContributorsMapper::mapToDomainWithoutProjectLeadData).toList())
+                .nextCursor(entities.size() > pageSize ?
+                        CustomContributorRepository.cursorOf(entities.get(pageSize - 1), sortBy, sortDirection).encode() : null)
                 .build();
     }
 
@@ -304,18 +340,47 @@ public class PostgresProjectAdapter implements ProjectStoragePort {
                                                                             SortDirection sortDirection,
                                                                             int pageIndex, int pageSize) {
         final Integer count = customContributorRepository.getProjectContributorCount(projectId, login);
-        final List<ProjectContributorsLinkView> projectContributorsLinkViews =
+        final List<ProjectContributorViewEntity> entities =
                 customContributorRepository.getProjectContributorViewEntity(projectId, login, sortBy, sortDirection,
-                                pageIndex, pageSize)
-                        .stream().map(ProjectContributorsMapper::mapToDomainWithProjectLeadData)
-                        .toList();
+                        pageIndex, pageSize);
+        final int totalPageNumber = PaginationHelper.calculateTotalNumberOfPage(pageSize, count);
         return Page.<ProjectContributorsLinkView>builder()
-                .content(projectContributorsLinkViews)
+                .content(entities.stream().map(ProjectContributorsMapper::mapToDomainWithProjectLeadData).toList())
                 .totalItemNumber(count)
-                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                .totalPageNumber(totalPageNumber)
+                .nextCursor(PaginationHelper.hasMore(pageIndex, totalPageNumber) && !entities.isEmpty() ?
+                        CustomContributorRepository.cursorOf(entities.get(entities.size() - 1), sortBy, sortDirection).encode() :
+                        null)
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectContributorsLinkView> findContributorsForProjectLeadAfter(UUID projectId, String login,
+                                                              ProjectContributorsLinkView.SortBy sortBy,
+                                                              SortDirection sortDirection,
+                                                              String cursor, int pageSize) {
+        final List<ProjectContributorViewEntity> entities = findContributorEntitiesAfter(projectId, login, sortBy,
+                sortDirection, cursor, pageSize);
+        return Page.<ProjectContributorsLinkView>builder()
+                .content(entities.stream().limit(pageSize).map(ProjectContributorsMapper::mapToDomainWithProjectLeadData).toList())
+                .nextCursor(entities.size() > pageSize ?
+                        CustomContributorRepository.cursorOf(entities.get(pageSize - 1), sortBy, sortDirection).encode() : null)
+                .build();
+    }
+
+    private List<ProjectContributorViewEntity> findContributorEntitiesAfter(UUID projectId, String login,
+                                                                            ProjectContributorsLinkView.SortBy sortBy,
+                                                                            SortDirection sortDirection,
+                                                                            String cursor, int pageSize) {
+        final PageCursor pageCursor = isNull(cursor) ? null : PageCursor.decode(cursor,
+                CustomContributorRepository.cursorSort(sortBy, sortDirection),
+                CustomContributorRepository.cursorKeyCount(sortBy));
+        // one extra row tells whether there is a next page without counting the whole result set
+        return customContributorRepository.getProjectContributorViewEntityAfter(projectId, login, sortBy,
+                sortDirection, pageCursor, pageSize + 1);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UUID> getProjectLeadIds(UUID projectId) {
@@ -6,11 +6,13 @@ import onlydust.com.marketplace.api.domain.model.*;
 import onlydust.com.marketplace.api.domain.port.output.UserStoragePort;
 import onlydust.com.marketplace.api.domain.view.*;
 import onlydust.com.marketplace.api.domain.view.pagination.Page;
+import onlydust.com.marketplace.api.domain.view.pagination.PageCursor;
 import onlydust.com.marketplace.api.domain.view.pagination.PaginationHelper;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectLedIdViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectStatsForUserEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserPayoutInfoValidationEntity;
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.old.RegisteredUserViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.write.old.ApplicationEntity;
@@ -28,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 
 @AllArgsConstructor
 public class PostgresUserAdapter implements UserStoragePort {
@@ -223,14 +226,32 @@ public class PostgresUserAdapter implements UserStoragePort {
     public Page<UserRewardView> findRewardsForUserId(UUID userId, int pageIndex, int pageSize,
                                                      UserRewardView.SortBy sortBy, SortDirection sortDirection) {
         final Integer count = customUserRewardRepository.getCount(userId);
-        final List<UserRewardView> userRewardViews = customUserRewardRepository.getViewEntities(userId,
-                        sortBy, sortDirection, pageIndex, pageSize)
-                .stream().map(UserRewardMapper::mapEntityToDomain)
-                .toList();
+        final List<UserRewardViewEntity> entities = customUserRewardRepository.getViewEntities(userId,
+                sortBy, sortDirection, pageIndex, pageSize);
+        final int totalPageNumber = PaginationHelper.calculateTotalNumberOfPage(pageSize, count);
         return Page.<UserRewardView>builder()
-                .content(userRewardViews)
+                .content(entities.stream().map(UserRewardMapper::mapEntityToDomain).toList())
                 .totalItemNumber(count)
-                .totalPageNumber(PaginationHelper.calculateTotalNumberOfPage(pageSize, count))
+                .totalPageNumber(totalPageNumber)
+                .nextCursor(PaginationHelper.hasMore(pageIndex, totalPageNumber) && !entities.isEmpty() ?
+                        CustomUserRewardRepository.cursorOf(entities.get(entities.size() - 1), sortBy, sortDirection).encode() :
+                        null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserRewardView> findRewardsForUserIdAfter(UUID userId, String cursor, int pageSize,
+                                                          UserRewardView.SortBy sortBy, SortDirection sortDirection) {
+        final PageCursor pageCursor = isNull(cursor) ? null :
+                PageCursor.decode(cursor, CustomUserRewardRepository.cursorSort(sortBy, sortDirection), 3);
+        // one extra row tells whether there is a next page without counting the whole result set
+        final List<UserRewardViewEntity> entities = customUserRewardRepository.getViewEntitiesAfter(userId, sortBy,
+                sortDirection, pageCursor, pageSize + 1);
+        return Page.<UserRewardView>builder()
+                .content(entities.stream().limit(pageSize).map(UserRewardMapper::mapEntityToDomain).toList())
+                .nextCursor(entities.size() > pageSize ?
+                        CustomUserRewardRepository.cursorOf(entities.get(pageSize - 1), sortBy, sortDirection).encode() : null)
                 .build();
     }
 
@@ -1,17 +1,28 @@
 package onlydust.com.marketplace.api.postgres.adapter.configuration;
 
+import com.zaxxer.hikari.HikariDataSource;
 import onlydust.com.marketplace.api.postgres.adapter.*;
+import onlydust.com.marketplace.api.postgres.adapter.datasource.ReplicaRoutingDataSource;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresCacheInvalidationBus;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresNotificationListener;
 import onlydust.com.marketplace.api.postgres.adapter.repository.*;
 import onlydust.com.marketplace.api.postgres.adapter.repository.old.*;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.sql.DriverManager;
 
 @Configuration
 @EnableAutoConfiguration
@@ -25,6 +36,51 @@ import javax.persistence.EntityManager;
 @EnableJpaAuditing
 public class PostgresConfiguration {
 
+    @Bean
+    @LiquibaseDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("application.read-replicas")
+    public ReplicaRoutingDataSource.Config readReplicasConfig() {
+        return new ReplicaRoutingDataSource.Config();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(final HikariDataSource primaryDataSource,
+                                                             final ReplicaRoutingDataSource.Config readReplicasConfig) {
+        return ReplicaRoutingDataSource.fromPrimary(primaryDataSource, readReplicasConfig);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @ConfigurationProperties("application.postgres-notifications")
+    public PostgresNotificationListener.Config postgresNotificationsConfig() {
+        return new PostgresNotificationListener.Config();
+    }
+
+    @Bean(destroyMethod = "close")
+    public PostgresNotificationListener postgresNotificationListener(final DataSourceProperties dataSourceProperties,
+                                                                     final PostgresNotificationListener.Config postgresNotificationsConfig) {
+        return new PostgresNotificationListener(() -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                postgresNotificationsConfig);
+    }
+
+    @Bean
+    public PostgresCacheInvalidationBus postgresCacheInvalidationBus(final EntityManager entityManager,
+                                                                     final PostgresNotificationListener postgresNotificationListener) {
+        return new PostgresCacheInvalidationBus(entityManager, postgresNotificationListener);
+    }
+
     @Bean
     public CustomProjectRepository customProjectRepository(final EntityManager entityManager) {
         return new CustomProjectRepository(entityManager);
@@ -155,6 +211,11 @@ public class PostgresConfiguration {
                 customIgnoredContributionsRepository, ignoredContributionsRepository, projectRepository);
     }
 
+    @Bean
+    public PostgresContributionsChangeQueueAdapter postgresContributionsChangeQueueAdapter(final ContributionsChangeQueueRepository contributionsChangeQueueRepository) {
+        return new PostgresContributionsChangeQueueAdapter(contributionsChangeQueueRepository);
+    }
+
     @Bean
     public CustomRewardRepository customRewardRepository(final EntityManager entityManager) {
         return new CustomRewardRepository(entityManager);
@@ -0,0 +1,27 @@
+package onlydust.com.marketplace.api.postgres.adapter.datasource;
+
+/**
+ * Identifies who is reading and writing on the current thread (typically the authenticated user of the request), so
+ * that {@link ReplicaRoutingDataSource} can send the reads following someone's own writes to the primary.
+ * When no key is set, the current thread is used as the key.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<String> KEY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void setKey(final String key) {
+        KEY.set(key);
+    }
+
+    public static void clear() {
+        KEY.remove();
+    }
+
+    static String currentKey() {
+        final String key = KEY.get();
+        return key != null ? key : "thread-" + Thread.currentThread().getId();
+    }
+}
@@ -0,0 +1,189 @@
+package onlydust.com.marketplace.api.postgres.adapter.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the read replicas, and everything else to the primary.
+ * <ul>
+ *     <li>replicas lagging more than {@code maxLagInMillis} behind the primary (or unreachable) are left aside until
+ *     they catch up, reads fall back to the primary when no replica is left;</li>
+ *     <li>after a write transaction, the reads of the same {@link ReadYourWritesContext} key go to the primary during
+ *     {@code readYourWritesWindowInMillis}, so that users always see their own changes.</li>
+ * </ul>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, for the
+ * connection to be fetched once the transaction read-only flag is known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    private static final String LAG_QUERY = """
+            select case
+                       when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                       else extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000
+                   end
+            """;
+
+    private final Map<String, DataSource> replicas;
+    private final Config config;
+    private final Map<String, Long> lastWriteByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(final DataSource primary, final Map<String, DataSource> replicas,
+                                    final Config config) {
+        this.replicas = replicas;
+        this.config = config;
+        final Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        if (replicas.isEmpty()) {
+            lagChecker = null;
+        } else {
+            lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "replica-lag-checker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            checkReplicas();
+            lagChecker.scheduleWithFixedDelay(this::checkReplicas, config.getLagCheckDelayInMillis(),
+                    config.getLagCheckDelayInMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static ReplicaRoutingDataSource fromPrimary(final HikariDataSource primary, final Config config) {
+        final Map<String, DataSource> replicas = new HashMap<>();
+        final List<String> urls = config.getUrls().stream().filter(url -> !url.isBlank()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            final HikariConfig replicaConfig = new HikariConfig();
+            primary.copyStateTo(replicaConfig);
+            replicaConfig.setJdbcUrl(urls.get(i));
+            replicaConfig.setPoolName("replica-" + i);
+            replicas.put("replica-" + i, new HikariDataSource(replicaConfig));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, config);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // writes are only tracked when there are replicas, whose lag checker prunes them
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        final String key = ReadYourWritesContext.currentKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite(key);
+            return PRIMARY;
+        }
+        final Long lastWrite = lastWriteByKey.get(key);
+        if (lastWrite != null && System.currentTimeMillis() - lastWrite < config.getReadYourWritesWindowInMillis()) {
+            return PRIMARY;
+        }
+        final List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    private void recordWrite(final String key) {
+        lastWriteByKey.put(key, System.currentTimeMillis());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the window starts when the changes become visible
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lastWriteByKey.put(key, System.currentTimeMillis());
+                }
+            });
+        }
+    }
+
+    void checkReplicas() {
+        final List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            final Long lag = lagInMillis(name, replica);
+            if (lag != null && lag <= config.getMaxLagInMillis()) {
+                healthy.add(name);
+            } else if (healthyReplicas.contains(name)) {
+                LOGGER.warn("Replica {} is {} behind the primary, routing its reads to the primary", name,
+                        lag == null ? "unreachable or" : lag + "ms");
+            }
+        });
+        healthy.sort(String::compareTo);
+        healthyReplicas = List.copyOf(healthy);
+
+        final long expiredBefore = System.currentTimeMillis() - config.getReadYourWritesWindowInMillis();
+        lastWriteByKey.values().removeIf(lastWrite -> lastWrite < expiredBefore);
+    }
+
+    private static Long lagInMillis(final String name, final DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            final double lag = resultSet.getDouble(1);
+            return resultSet.wasNull() ? null : (long) lag;
+        } catch (Exception e) {
+            LOGGER.warn("Unable to check replication lag of replica {}", name, e);
+            return null;
+        }
+    }
+
+    List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    int trackedWrites() {
+        return lastWriteByKey.size();
+    }
+
+    @Override
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        replicas.values().forEach(replica -> {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOGGER.warn("Unable to close replica data source", e);
+                }
+            }
+        });
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        List<String> urls = new ArrayList<>();
+        Long maxLagInMillis = 5000L;
+        Long readYourWritesWindowInMillis = 5000L;
+        Long lagCheckDelayInMillis = 1000L;
+    }
+}
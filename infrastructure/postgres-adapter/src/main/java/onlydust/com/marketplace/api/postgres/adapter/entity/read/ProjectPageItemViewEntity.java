@@ -13,9 +13,7 @@ import org.hibernate.annotations.Type;
 import org.hibernate.annotations.TypeDef;
 
 import javax.persistence.*;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -48,6 +46,11 @@ public class ProjectPageItemViewEntity {
     List<ProjectLead> projectLeads;
     @Type(type = "jsonb")
     List<Map<String, Long>> technologies;
+    Integer totalItemNumber;
+    @Type(type = "jsonb")
+    List<String> technologyNames;
+    @Type(type = "jsonb")
+    List<String> sponsorNames;
 
     public static String getSponsorsJsonPath(List<String> sponsors) {
         if (isNull(sponsors) || sponsors.isEmpty()) {
@@ -63,6 +66,33 @@ public class ProjectPageItemViewEntity {
         return "$[*] ? (" + String.join(" || ", technologies.stream().map(t -> "@.\"" + t + "\" > 0").toList()) + ")";
     }
 
+    /**
+     * Full-text query matching the projects containing words starting with each word of the search, or null when the
+     * search has no word.
+     */
+    public static String getSearchPrefixQuery(String search) {
+        if (isNull(search)) {
+            return null;
+        }
+        final List<String> words = Arrays.stream(search.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+        return words.isEmpty() ? null : String.join(" & ", words.stream().map(word -> word + ":*").toList());
+    }
+
+    public static int totalItemNumber(final List<ProjectPageItemViewEntity> page) {
+        return page.isEmpty() ? 0 : page.get(0).totalItemNumber;
+    }
+
+    public static Map<String, Set<String>> filters(final List<ProjectPageItemViewEntity> page) {
+        final Map<String, Set<String>> filters = new HashMap<>();
+        filters.put(ProjectCardView.FilterBy.TECHNOLOGIES.name(), page.isEmpty() || isNull(page.get(0).technologyNames) ?
+                new HashSet<>() : new HashSet<>(page.get(0).technologyNames));
+        filters.put(ProjectCardView.FilterBy.SPONSORS.name(), page.isEmpty() || isNull(page.get(0).sponsorNames) ?
+                new HashSet<>() : new HashSet<>(page.get(0).sponsorNames));
+        return filters;
+    }
+
     public ProjectCardView toView(UUID userId) {
         final ProjectCardView view = ProjectCardView.builder()
                 .repoCount(this.repoCount)
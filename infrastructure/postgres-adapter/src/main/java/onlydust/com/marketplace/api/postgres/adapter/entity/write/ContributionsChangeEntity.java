@@ -0,0 +1,44 @@
+package onlydust.com.marketplace.api.postgres.adapter.entity.write;
+
+import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
+import lombok.*;
+import onlydust.com.marketplace.api.domain.model.ContributionsChange;
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.TypeDef;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.Date;
+import java.util.List;
+
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Data
+@Builder
+@Table(name = "contributions_change_queue", schema = "public")
+@TypeDef(name = "jsonb", typeClass = JsonBinaryType.class)
+public class ContributionsChangeEntity {
+    @Id
+    Long repoId;
+    @Type(type = "jsonb")
+    @Column(columnDefinition = "jsonb")
+    List<String> contributionIds;
+    @Column(nullable = false)
+    Long version;
+    @Column(nullable = false)
+    Date enqueuedAt;
+    Date lockedUntil;
+
+    public ContributionsChange toDomain() {
+        return ContributionsChange.builder()
+                .repoId(repoId)
+                .contributionIds(contributionIds)
+                .version(version)
+                .enqueuedAt(enqueuedAt)
+                .build();
+    }
+}
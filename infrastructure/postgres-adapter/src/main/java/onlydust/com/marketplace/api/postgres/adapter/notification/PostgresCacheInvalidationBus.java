@@ -0,0 +1,94 @@
+package onlydust.com.marketplace.api.postgres.adapter.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+import onlydust.com.marketplace.api.domain.port.output.CacheInvalidationPort;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations to every node with {@code pg_notify}, no broker needed. Postgres delivers
+ * notifications on commit, and drops them on rollback, so invalidations published within a transaction are only
+ * received once their writes are visible. Nodes that lost their listening connection invalidate everything once it is
+ * back.
+ * <p>
+ * Payloads are {@code ENTITY:id}, or just {@code ENTITY} to invalidate every cached entry of the entity.
+ */
+@Slf4j
+public class PostgresCacheInvalidationBus implements CacheInvalidationPort {
+
+    public static final String CHANNEL = "cache_invalidations";
+    private static final String SEPARATOR = ":";
+
+    private final EntityManager entityManager;
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong publishedInvalidations = new AtomicLong();
+    private final AtomicLong receivedInvalidations = new AtomicLong();
+
+    public PostgresCacheInvalidationBus(final EntityManager entityManager,
+                                        final PostgresNotificationListener postgresNotificationListener) {
+        this.entityManager = entityManager;
+        postgresNotificationListener.listen(CHANNEL, this::onNotification);
+        postgresNotificationListener.onReconnect(() -> {
+            for (CacheInvalidation.Entity entity : CacheInvalidation.Entity.values()) {
+                deliver(CacheInvalidation.all(entity));
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void publish(final CacheInvalidation invalidation) {
+        entityManager.createNativeQuery("select 1 from pg_notify(:channel, :payload)")
+                .setParameter("channel", CHANNEL)
+                .setParameter("payload", invalidation.getId() == null ? invalidation.getEntity().name() :
+                        invalidation.getEntity().name() + SEPARATOR + invalidation.getId())
+                .getSingleResult();
+        publishedInvalidations.incrementAndGet();
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public long getPublishedInvalidations() {
+        return publishedInvalidations.get();
+    }
+
+    public long getReceivedInvalidations() {
+        return receivedInvalidations.get();
+    }
+
+    private void onNotification(final String payload) {
+        final int separatorIndex = payload.indexOf(SEPARATOR);
+        final CacheInvalidation invalidation;
+        try {
+            invalidation = separatorIndex < 0 ?
+                    CacheInvalidation.all(CacheInvalidation.Entity.valueOf(payload)) :
+                    new CacheInvalidation(CacheInvalidation.Entity.valueOf(payload.substring(0, separatorIndex)),
+                            payload.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            // published by a node running another version
+            LOGGER.warn("Ignoring unknown cache invalidation {}", payload);
+            return;
+        }
+        receivedInvalidations.incrementAndGet();
+        deliver(invalidation);
+    }
+
+    private void deliver(final CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (Exception e) {
+                LOGGER.error("Failed to apply cache invalidation {}", invalidation, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package onlydust.com.marketplace.api.postgres.adapter.notification;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Receives the Postgres notifications ({@code LISTEN}/{@code NOTIFY}) of the listened channels on a dedicated
+ * connection to the primary, outside of the connection pool, and hands their payload to the listeners on a single
+ * background thread. The connection is re-opened after a failure: notifications sent meanwhile are lost, the
+ * {@link #onReconnect} callbacks are called once it is back so that listeners can catch up.
+ */
+@Slf4j
+public class PostgresNotificationListener implements AutoCloseable {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final Callable<Connection> connectionFactory;
+    private final Config config;
+    private final Map<String, List<Consumer<String>>> listenersByChannel = new ConcurrentHashMap<>();
+    private final List<Runnable> reconnectCallbacks = new CopyOnWriteArrayList<>();
+    private final AtomicLong receivedNotifications = new AtomicLong();
+    private final AtomicLong reconnections = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean connected;
+
+    public PostgresNotificationListener(final Callable<Connection> connectionFactory, final Config config) {
+        this.connectionFactory = connectionFactory;
+        this.config = config;
+        this.thread = new Thread(this::run, "postgres-notification-listener");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Channels can be listened at any time, they are subscribed to within {@code pollTimeoutInMillis}.
+     */
+    public void listen(final String channel, final Consumer<String> listener) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid channel name " + channel);
+        }
+        listenersByChannel.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void onReconnect(final Runnable callback) {
+        reconnectCallbacks.add(callback);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public long getReceivedNotifications() {
+        return receivedNotifications.get();
+    }
+
+    public long getReconnections() {
+        return reconnections.get();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(config.pollTimeoutInMillis * 2);
+    }
+
+    private void run() {
+        boolean firstConnection = true;
+        while (running) {
+            try (Connection connection = connectionFactory.call()) {
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                final Set<String> listenedChannels = new HashSet<>();
+                subscribeToNewChannels(connection, listenedChannels);
+                connected = true;
+                LOGGER.info("Listening to postgres notifications");
+                if (!firstConnection) {
+                    reconnections.incrementAndGet();
+                    reconnectCallbacks.forEach(this::runCallback);
+                }
+                firstConnection = false;
+                while (running) {
+                    subscribeToNewChannels(connection, listenedChannels);
+                    final PGNotification[] notifications =
+                            pgConnection.getNotifications(config.pollTimeoutInMillis.intValue());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getName(), notification.getParameter());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                connected = false;
+                if (running) {
+                    LOGGER.warn("Lost postgres notifications connection, reconnecting in {}ms",
+                            config.reconnectDelayInMillis, e);
+                    sleep(config.reconnectDelayInMillis);
+                }
+            }
+        }
+    }
+
+    private void subscribeToNewChannels(final Connection connection, final Set<String> listenedChannels)
+            throws SQLException {
+        for (String channel : listenersByChannel.keySet()) {
+            if (listenedChannels.add(channel)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+            }
+        }
+    }
+
+    private void dispatch(final String channel, final String payload) {
+        receivedNotifications.incrementAndGet();
+        for (Consumer<String> listener : listenersByChannel.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(payload);
+            } catch (Exception e) {
+                LOGGER.error("Failed to handle notification {} on channel {}", payload, channel, e);
+            }
+        }
+    }
+
+    private void runCallback(final Runnable callback) {
+        try {
+            callback.run();
+        } catch (Exception e) {
+            LOGGER.error("Failed to run postgres notifications reconnect callback", e);
+        }
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Config {
+        Long pollTimeoutInMillis = 500L;
+        Long reconnectDelayInMillis = 5000L;
+    }
+}
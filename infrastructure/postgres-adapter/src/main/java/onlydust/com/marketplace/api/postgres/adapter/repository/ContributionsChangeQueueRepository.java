@@ -0,0 +1,69 @@
+package onlydust.com.marketplace.api.postgres.adapter.repository;
+
+import onlydust.com.marketplace.api.postgres.adapter.entity.write.ContributionsChangeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Date;
+import java.util.Optional;
+
+public interface ContributionsChangeQueueRepository extends JpaRepository<ContributionsChangeEntity, Long> {
+
+    /**
+     * Coalesces the change with the one already pending for the repo, if any: contribution ids are merged, and a
+     * whole-repo change (null contribution ids) absorbs any partial one. The version is bumped so that a worker
+     * processing the previous state of the row does not acknowledge the new one.
+     */
+    @Modifying
+    @Query(value = """
+            insert into contributions_change_queue as q (repo_id, contribution_ids)
+            values (:repoId, nullif(cast(:contributionIds as jsonb), 'null'))
+            on conflict (repo_id) do update
+            set contribution_ids = case
+                                       when q.contribution_ids is null or excluded.contribution_ids is null then null
+                                       else (select jsonb_agg(distinct id)
+                                             from jsonb_array_elements_text(q.contribution_ids || excluded.contribution_ids) id)
+                                   end,
+                version          = q.version + 1
+            """, nativeQuery = true)
+    void push(Long repoId, String contributionIds);
+
+    /**
+     * The row stays locked until the end of the transaction, in which it must be {@link #lease leased}.
+     */
+    @Query(value = """
+            select *
+            from contributions_change_queue
+            where locked_until is null or locked_until < now()
+            order by enqueued_at
+            limit 1 for update skip locked
+            """, nativeQuery = true)
+    Optional<ContributionsChangeEntity> findNextUnleasedForUpdate();
+
+    @Modifying
+    @Query(value = """
+            update contributions_change_queue
+            set locked_until = now() + make_interval(secs => :leaseInSeconds)
+            where repo_id = :repoId
+            """, nativeQuery = true)
+    void lease(Long repoId, Long leaseInSeconds);
+
+    @Modifying
+    @Query(value = """
+            delete from contributions_change_queue
+            where repo_id = :repoId and version = :version
+            """, nativeQuery = true)
+    int deleteProcessed(Long repoId, Long version);
+
+    @Modifying
+    @Query(value = """
+            update contributions_change_queue
+            set locked_until = null
+            where repo_id = :repoId
+            """, nativeQuery = true)
+    void unlock(Long repoId);
+
+    @Query(value = "select min(enqueued_at) from contributions_change_queue", nativeQuery = true)
+    Date findOldestEnqueuedAt();
+}
@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onlydust.com.marketplace.api.domain.view.ProjectContributorsLinkView;
+import onlydust.com.marketplace.api.domain.view.pagination.PageCursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributorViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.ProjectContributorViewEntity;
@@ -17,6 +18,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 @AllArgsConstructor
 @Slf4j
 public class CustomContributorRepository {
@@ -42,15 +46,21 @@ public class CustomContributorRepository {
             		LIMIT :limit
             """;
 
+    /**
+     * Served by the github_users_login_trgm_idx trigram index (for searches of 3 characters or more).
+     */
+    protected static final String LOGIN_FILTER = """
+            (:login = '' or gu.login ilike '%' || :login || '%')
+            """;
+
     protected static final String GET_CONTRIBUTOR_COUNT = """
                 select count(*)
                 from projects_contributors pc
                 join github_users gu on gu.id = pc.github_user_id
                 where pc.project_id = :projectId
-                  and gu.login ilike '%' || :login || '%'
-            """;
+                  and """ + LOGIN_FILTER;
     @Language("PostgreSQL")
-    protected static final String GET_CONTRIBUTORS_FOR_PROJECT = """
+    private static final String CONTRIBUTORS_FOR_PROJECT = """
             select gu.id,
                    gu.login,
                    gu.avatar_url,
@@ -112,12 +122,27 @@ public class CustomContributorRepository {
                               left join crypto_usd_quotes cuq_stark on cuq_stark.currency = 'stark'
                               left join crypto_usd_quotes cuq_op on cuq_op.currency = 'op'
             where pc.project_id = :projectId
-              and gu.login ilike '%' || :login || '%'
-            order by %order_by%
+              and """ + LOGIN_FILTER;
+
+    protected static final String GET_CONTRIBUTORS_FOR_PROJECT = CONTRIBUTORS_FOR_PROJECT + """
+            order by %order_by%, gu.id asc
             offset :offset limit :limit
             """;
 
+    protected static final String GET_CONTRIBUTORS_FOR_PROJECT_AFTER_CURSOR = """
+            select * from (
+            """ + CONTRIBUTORS_FOR_PROJECT + """
+            ) contributors
+            where %seek%
+            order by %order_by%
+            limit :limit
+            """;
+
 
+    /**
+     * Autocomplete: logins starting with the search first, then by similarity to the search (computed on the rows
+     * kept by the login filter, the trigram index does not serve this ordering).
+     */
     protected static final String FIND_REPOS_CONTRIBUTORS = """
             WITH users AS (
                 SELECT github_user_id
@@ -135,8 +160,10 @@ public class CustomContributorRepository {
                 LEFT JOIN users u on u.github_user_id = gu.id
             WHERE
                 EXISTS(select 1 from contributions c where c.repo_id in :reposIds and c.user_id = gu.id)
-                AND gu.login ilike '%' || :login ||'%'
-            ORDER BY gu.login
+                AND """ + LOGIN_FILTER + """
+            ORDER BY gu.login ilike :login || '%' DESC,
+                     similarity(gu.login, :login) DESC,
+                     gu.login
             LIMIT :limit
             """;
 
@@ -149,16 +176,65 @@ public class CustomContributorRepository {
     private final EntityManager entityManager;
 
     static protected String buildQuery(ProjectContributorsLinkView.SortBy sortBy, SortDirection sortDirection) {
+        return GET_CONTRIBUTORS_FOR_PROJECT
+                .replace("%order_by%", orderBy(sortBy, sortDirection));
+    }
+
+    static protected String buildSeekQuery(ProjectContributorsLinkView.SortBy sortBy, SortDirection sortDirection,
+                                           boolean hasCursor) {
+        final String operator = sortDirection == SortDirection.desc ? "<" : ">";
+        final String seek = !hasCursor ? "true" : Optional.ofNullable(sortBy).map(sort -> switch (sortBy) {
+            case login -> "login %s :cursorLogin".formatted(operator);
+            case earned -> seekPredicate("earned", "numeric", operator);
+            case contributionCount -> seekPredicate("contribution_count", "bigint", operator);
+            case rewardCount -> seekPredicate("reward_count", "bigint", operator);
+            case toRewardCount -> seekPredicate("to_reward_count", "bigint", operator);
+        }).orElse("login %s :cursorLogin".formatted(operator));
+        return GET_CONTRIBUTORS_FOR_PROJECT_AFTER_CURSOR
+                .replace("%seek%", seek)
+                .replace("%order_by%", orderBy(sortBy, sortDirection));
+    }
+
+    public static PageCursor cursorOf(final ProjectContributorViewEntity lastContributor,
+                                      final ProjectContributorsLinkView.SortBy sortBy,
+                                      final SortDirection sortDirection) {
+        final String sort = cursorSort(sortBy, sortDirection);
+        return Optional.ofNullable(sortBy).map(s -> switch (s) {
+            case login -> PageCursor.of(sort, lastContributor.getLogin());
+            case earned -> PageCursor.of(sort, lastContributor.getLogin(), lastContributor.getEarned().toPlainString());
+            case contributionCount -> PageCursor.of(sort, lastContributor.getLogin(),
+                    String.valueOf(lastContributor.getContributionCount()));
+            case rewardCount -> PageCursor.of(sort, lastContributor.getLogin(),
+                    String.valueOf(lastContributor.getRewards()));
+            case toRewardCount -> PageCursor.of(sort, lastContributor.getLogin(),
+                    String.valueOf(lastContributor.getTotalToReward()));
+        }).orElse(PageCursor.of(sort, lastContributor.getLogin()));
+    }
+
+    public static String cursorSort(final ProjectContributorsLinkView.SortBy sortBy,
+                                    final SortDirection sortDirection) {
+        return "contributors:" + Optional.ofNullable(sortBy).orElse(ProjectContributorsLinkView.SortBy.login).name() +
+               ":" + Optional.ofNullable(sortDirection).orElse(SortDirection.asc).name();
+    }
+
+    public static int cursorKeyCount(final ProjectContributorsLinkView.SortBy sortBy) {
+        return isNull(sortBy) || sortBy == ProjectContributorsLinkView.SortBy.login ? 1 : 2;
+    }
+
+    private static String seekPredicate(final String column, final String type, final String operator) {
+        final String key = "cast(cast(:cursorKey as text) as %s)".formatted(type);
+        return "(%s %s %s or (%s = %s and login > :cursorLogin))".formatted(column, operator, key, column, key);
+    }
+
+    private static String orderBy(ProjectContributorsLinkView.SortBy sortBy, SortDirection sortDirection) {
         final String direction = Optional.ofNullable(sortDirection).map(SortDirection::name).orElse("asc");
-        final String sortValue = Optional.ofNullable(sortBy).map(sort -> switch (sortBy) {
+        return Optional.ofNullable(sortBy).map(sort -> switch (sortBy) {
             case login -> "login " + direction;
             case earned -> "earned " + direction + ", login asc";
             case contributionCount -> "contribution_count " + direction + ", login asc";
             case rewardCount -> "reward_count " + direction + ", login asc";
             case toRewardCount -> "to_reward_count " + direction + ", login asc";
         }).orElse("login " + direction);
-        return GET_CONTRIBUTORS_FOR_PROJECT
-                .replace("%order_by%", sortValue);
     }
 
     public List<GithubUserViewEntity> findProjectTopContributors(UUID projectId, int limit) {
@@ -190,6 +266,24 @@ public class CustomContributorRepository {
                 .getResultList();
     }
 
+    public List<ProjectContributorViewEntity> getProjectContributorViewEntityAfter(final UUID projectId, String login,
+                                                                                   ProjectContributorsLinkView.SortBy sortBy,
+                                                                                   SortDirection sortDirection,
+                                                                                   PageCursor cursor, int limit) {
+        final var query = entityManager.createNativeQuery(buildSeekQuery(sortBy, sortDirection, nonNull(cursor)),
+                        ProjectContributorViewEntity.class)
+                .setParameter("projectId", projectId)
+                .setParameter("login", login != null ? login : "")
+                .setParameter("limit", limit);
+        if (nonNull(cursor)) {
+            query.setParameter("cursorLogin", cursor.key(0));
+            if (cursor.getKeys().size() > 1) {
+                query.setParameter("cursorKey", cursor.key(1));
+            }
+        }
+        return query.getResultList();
+    }
+
     public List<ContributorViewEntity> findReposContributorsByLogin(Set<Long> reposIds, String login, int limit) {
         return entityManager
                 .createNativeQuery(FIND_REPOS_CONTRIBUTORS, ContributorViewEntity.class)
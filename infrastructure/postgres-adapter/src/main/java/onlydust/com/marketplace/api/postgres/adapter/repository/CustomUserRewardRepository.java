@@ -2,16 +2,19 @@ package onlydust.com.marketplace.api.postgres.adapter.repository;
 
 import lombok.AllArgsConstructor;
 import onlydust.com.marketplace.api.domain.view.UserRewardView;
+import onlydust.com.marketplace.api.domain.view.pagination.PageCursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardTotalAmountEntity;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardViewEntity;
 import onlydust.com.marketplace.api.postgres.adapter.mapper.PaginationMapper;
 
 import javax.persistence.EntityManager;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.UUID;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @AllArgsConstructor
 public class CustomUserRewardRepository {
@@ -24,110 +27,7 @@ public class CustomUserRewardRepository {
                      join payment_requests pr on pr.recipient_id = au.github_user_id and au.id = :userId
             """;
 
-    protected static final String FIND_USER_REWARDS_BY_ID = """
-                with payout_checks as (select pr.id,
-                                              pr.recipient_id,
-                                              au.id                                                            user_id,
-                                              (select count(p.id) > 0
-                                               from payment_requests pr2
-                                                        left join payments p on p.request_id = pr2.id
-                                               where p.id is null
-                                                 and pr.id = pr2.id)                                           has_pending_payments,
-                                              (upi.identity is not null and upi.identity -> 'Person' is not null and
-                                             upi.identity -> 'Person' -> 'lastname' != cast('null' as jsonb) and
-                                             upi.identity -> 'Person' -> 'firstname' != cast('null' as jsonb))            valid_person,
-                                            (upi.location is not null and upi.location -> 'city' != cast('null' as jsonb) and
-                                             upi.location -> 'post_code' != cast('null' as jsonb) and
-                                             upi.location -> 'address' != cast('null' as jsonb) and
-                                             upi.location -> 'country' != cast('null' as jsonb))                          valid_location,
-                                            (upi.identity is not null and upi.identity -> 'Company' is not null and
-                                             upi.identity -> 'Company' -> 'name' != cast('null' as jsonb) and
-                                             upi.identity -> 'Company' -> 'identification_number' != cast('null' as jsonb) and
-                                             upi.identity -> 'Company' -> 'owner' is not null and
-                                             upi.identity -> 'Company' -> 'owner' -> 'firstname' != cast('null' as jsonb) and
-                                             upi.identity -> 'Company' -> 'owner' -> 'lastname' != cast('null' as jsonb)) valid_company,
-                                              coalesce((select w_eth.address is not null
-                                                        from payment_requests pr_eth
-                                                                 left join payments p_eth on p_eth.request_id = pr_eth.id
-                                                                 left join wallets w_eth
-                                                                           on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
-                                                        where pr_eth.currency = 'eth'
-                                                          and pr_eth.id = pr.id
-                                                          and pr_eth.recipient_id = au.github_user_id
-                                                          and p_eth is null
-                                                        limit 1), true)                                        valid_eth_wallet,
-                                              coalesce((select w_op.address is not null
-                                                        from payment_requests pr_op
-                                                                 left join payments p_op on p_op.request_id = pr_op.id
-                                                                 left join wallets w_op on w_op.user_id = upi.user_id and w_op.network = 'optimism'
-                                                        where pr_op.currency = 'op'
-                                                          and pr_op.id = pr.id
-                                                          and pr_op.recipient_id = au.github_user_id
-                                                          and p_op is null
-                                                        limit 1), true)                                        valid_op_wallet,
-                                              coalesce((select w_stark.address is not null
-                                                        from payment_requests pr_stark
-                                                                 left join payments p_stark on p_stark.request_id = pr_stark.id
-                                                                 left join wallets w_stark
-                                                                           on w_stark.user_id = upi.user_id and w_stark.network = 'starknet'
-                                                        where pr_stark.currency = 'stark'
-                                                          and pr_stark.id = pr.id
-                                                          and pr_stark.recipient_id = au.github_user_id
-                                                          and p_stark is null
-                                                        limit 1), true)                                        valid_stark_wallet,
-                                              coalesce((select w_apt.address is not null
-                                                        from payment_requests pr_apt
-                                                                 left join payments p_apt on p_apt.request_id = pr_apt.id
-                                                                 left join wallets w_apt on w_apt.user_id = upi.user_id and w_apt.network = 'aptos'
-                                                        where pr_apt.currency = 'apt'
-                                                          and pr_apt.recipient_id = au.github_user_id
-                                                          and p_apt is null
-                                                        limit 1), true)                                        valid_apt_wallet,
-                                              case
-                                                  when (
-                                                      (upi.identity -> 'Company' is not null and upi.usd_preferred_method = 'fiat' and
-                                                       (select count(pr_usd.id) > 0
-                                                        from payment_requests pr_usd
-                                                                 left join payments p_usd on p_usd.request_id = pr_usd.id
-                                                        where pr_usd.recipient_id = au.github_user_id
-                                                          and pr_usd.id = pr.id
-                                                          and pr_usd.currency = 'usd'
-                                                          and p_usd.id is null))
-                                                      ) then (select count(*) > 0
-                                                              from bank_accounts ba
-                                                              where ba.user_id = upi.user_id)
-                                                  else true end                                                valid_banking_account,
-                                              case
-                                                  when (upi.identity -> 'Person' is not null) then (
-                                                      coalesce((select w_eth.address is not null
-                                                                from payment_requests pr_usdc
-                                                                         left join payments p_usdc on p_usdc.request_id = pr_usdc.id
-                                                                         left join wallets w_eth
-                                                                                   on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
-                                                                where pr_usdc.currency = 'usd'
-                                                                  and pr_usdc.id = pr.id
-                                                                  and pr_usdc.recipient_id = au.github_user_id
-                                                                  and p_usdc is null
-                                                                limit 1), true)
-                                                      )
-                                                  when (upi.identity -> 'Company' is not null and upi.usd_preferred_method = 'crypto')
-                                                      then (
-                                                      coalesce((select w_eth.address is not null
-                                                                from payment_requests pr_usdc
-                                                                         left join payments p_usdc on p_usdc.request_id = pr_usdc.id
-                                                                         left join wallets w_eth
-                                                                                   on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
-                                                                where pr_usdc.currency = 'usd'
-                                                                  and pr_usdc.id = pr.id
-                                                                  and pr_usdc.recipient_id = au.github_user_id
-                                                                  and p_usdc is null
-                                                                limit 1), true)
-                                                      )
-                                                  else true
-                                                  end                                                          valid_usdc_wallet
-                                       from payment_requests pr
-                                                left join auth_users au on au.github_user_id = pr.recipient_id
-                                                left join public.user_payout_info upi on au.id = upi.user_id)
+    private static final String USER_REWARDS_BY_ID = """
                 select pr.requested_at,
                        pd.name,
                        pd.logo_url,
@@ -174,116 +74,24 @@ public class CustomUserRewardRepository {
                          join project_details pd on pd.project_id = pr.project_id
                          left join crypto_usd_quotes cuq on cuq.currency = pr.currency
                          left join payments r on r.request_id = pr.id
-                         left join payout_checks on payout_checks.user_id = au.id and payout_checks.id = pr.id
+                         left join payment_request_payout_checks payout_checks on payout_checks.id = pr.id and au.id is not null
                 where au.id = :userId
-            order by %order_by% offset :offset limit :limit
+            """;
+
+    protected static final String FIND_USER_REWARDS_BY_ID = USER_REWARDS_BY_ID + """
+            order by %order_by%, pr.id asc offset :offset limit :limit
                      """;
 
+    protected static final String FIND_USER_REWARDS_BY_ID_AFTER_CURSOR = """
+            select * from (
+            """ + USER_REWARDS_BY_ID + """
+            ) rewards
+            where %seek%
+            order by %order_by%, id asc
+            limit :limit
+            """;
+
     protected static final String FIND_USER_PENDING_INVOICE_REWARDS_BY_RECIPIENT_ID = """
-            with payout_checks as (select pr.id,
-                                          pr.recipient_id,
-                                          au.id                                                              user_id,
-                                          (select count(p.id) > 0
-                                           from payment_requests pr2
-                                                    left join payments p on p.request_id = pr2.id
-                                           where p.id is null
-                                             and pr.id = pr2.id)                                             has_pending_payments,
-                                          (upi.identity is not null and upi.identity -> 'Person' is not null and
-                                           upi.identity -> 'Person' -> 'lastname' != cast('null' as jsonb) and
-                                           upi.identity -> 'Person' -> 'firstname' != cast('null' as jsonb)) valid_person,
-                                          (upi.location is not null and upi.location -> 'city' != cast('null' as jsonb) and
-                                           upi.location -> 'post_code' != cast('null' as jsonb) and
-                                           upi.location -> 'address' != cast('null' as jsonb) and
-                                           upi.location -> 'country' != cast('null' as jsonb))               valid_location,
-                                          (upi.identity is not null and upi.identity -> 'Company' is not null and
-                                           upi.identity -> 'Company' -> 'name' != cast('null' as jsonb) and
-                                           upi.identity -> 'Company' -> 'identification_number' != cast('null' as jsonb) and
-                                           upi.identity -> 'Company' -> 'owner' is not null and
-                                           upi.identity -> 'Company' -> 'owner' -> 'firstname' != cast('null' as jsonb) and
-                                           upi.identity -> 'Company' -> 'owner' -> 'lastname' !=
-                                           cast('null' as jsonb))                                            valid_company,
-                                          coalesce((select w_eth.address is not null
-                                                    from payment_requests pr_eth
-                                                             left join payments p_eth on p_eth.request_id = pr_eth.id
-                                                             left join wallets w_eth
-                                                                       on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
-                                                    where pr_eth.currency = 'eth'
-                                                      and pr_eth.id = pr.id
-                                                      and pr_eth.recipient_id = au.github_user_id
-                                                      and p_eth is null
-                                                    limit 1), true)                                          valid_eth_wallet,
-                                          coalesce((select w_op.address is not null
-                                                    from payment_requests pr_op
-                                                             left join payments p_op on p_op.request_id = pr_op.id
-                                                             left join wallets w_op on w_op.user_id = upi.user_id and w_op.network = 'optimism'
-                                                    where pr_op.currency = 'op'
-                                                      and pr_op.id = pr.id
-                                                      and pr_op.recipient_id = au.github_user_id
-                                                      and p_op is null
-                                                    limit 1), true)                                          valid_op_wallet,
-                                          coalesce((select w_stark.address is not null
-                                                    from payment_requests pr_stark
-                                                             left join payments p_stark on p_stark.request_id = pr_stark.id
-                                                             left join wallets w_stark
-                                                                       on w_stark.user_id = upi.user_id and w_stark.network = 'starknet'
-                                                    where pr_stark.currency = 'stark'
-                                                      and pr_stark.id = pr.id
-                                                      and pr_stark.recipient_id = au.github_user_id
-                                                      and p_stark is null
-                                                    limit 1), true)                                          valid_stark_wallet,
-                                          coalesce((select w_apt.address is not null
-                                                    from payment_requests pr_apt
-                                                             left join payments p_apt on p_apt.request_id = pr_apt.id
-                                                             left join wallets w_apt on w_apt.user_id = upi.user_id and w_apt.network = 'aptos'
-                                                    where pr_apt.currency = 'apt'
-                                                      and pr_apt.recipient_id = au.github_user_id
-                                                      and p_apt is null
-                                                    limit 1), true)                                          valid_apt_wallet,
-                                          case
-                                              when (
-                                                  (upi.identity -> 'Company' is not null and upi.usd_preferred_method = 'fiat' and
-                                                   (select count(pr_usd.id) > 0
-                                                    from payment_requests pr_usd
-                                                             left join payments p_usd on p_usd.request_id = pr_usd.id
-                                                    where pr_usd.recipient_id = au.github_user_id
-                                                      and pr_usd.id = pr.id
-                                                      and pr_usd.currency = 'usd'
-                                                      and p_usd.id is null))
-                                                  ) then (select count(*) > 0
-                                                          from bank_accounts ba
-                                                          where ba.user_id = upi.user_id)
-                                              else true end                                                  valid_banking_account,
-                                          case
-                                              when (upi.identity -> 'Person' is not null) then (
-                                                  coalesce((select w_eth.address is not null
-                                                            from payment_requests pr_usdc
-                                                                     left join payments p_usdc on p_usdc.request_id = pr_usdc.id
-                                                                     left join wallets w_eth
-                                                                               on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
-                                                            where pr_usdc.currency = 'usd'
-                                                              and pr_usdc.id = pr.id
-                                                              and pr_usdc.recipient_id = au.github_user_id
-                                                              and p_usdc is null
-                                                            limit 1), true)
-                                                  )
-                                              when (upi.identity -> 'Company' is not null and upi.usd_preferred_method = 'crypto')
-                                                  then (
-                                                  coalesce((select w_eth.address is not null
-                                                            from payment_requests pr_usdc
-                                                                     left join payments p_usdc on p_usdc.request_id = pr_usdc.id
-                                                                     left join wallets w_eth
-                                                                               on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
-                                                            where pr_usdc.currency = 'usd'
-                                                              and pr_usdc.id = pr.id
-                                                              and pr_usdc.recipient_id = au.github_user_id
-                                                              and p_usdc is null
-                                                            limit 1), true)
-                                                  )
-                                              else true
-                                              end                                                            valid_usdc_wallet
-                                   from payment_requests pr
-                                            left join auth_users au on au.github_user_id = pr.recipient_id
-                                            left join public.user_payout_info upi on au.id = upi.user_id)
             select distinct pr.requested_at,
                    pd.name,
                    pd.logo_url,
@@ -303,7 +111,7 @@ public class CustomUserRewardRepository {
                      join project_details pd on pd.project_id = pr.project_id
                      left join crypto_usd_quotes cuq on cuq.currency = pr.currency
                      left join payments r on r.request_id = pr.id
-                     left join payout_checks on payout_checks.user_id = au.id and payout_checks.id = pr.id
+                     left join payment_request_payout_checks payout_checks on payout_checks.id = pr.id and au.id is not null
             where pr.recipient_id = :recipientId
               and (case
                        when r.id is not null then 'COMPLETE'
@@ -352,14 +160,76 @@ public class CustomUserRewardRepository {
     }
 
     protected static String buildQuery(UserRewardView.SortBy sortBy, final SortDirection sortDirection) {
+        return FIND_USER_REWARDS_BY_ID.replace("%order_by%", orderBy(sortBy, sortDirection));
+    }
+
+    public List<UserRewardViewEntity> getViewEntitiesAfter(UUID userId, UserRewardView.SortBy sortBy,
+                                                           SortDirection sortDirection, PageCursor cursor,
+                                                           int limit) {
+        final var query = entityManager.createNativeQuery(buildSeekQuery(sortBy, sortDirection, nonNull(cursor)),
+                        UserRewardViewEntity.class)
+                .setParameter("userId", userId)
+                .setParameter("limit", limit);
+        if (nonNull(cursor)) {
+            query.setParameter("cursorKey", cursor.key(0))
+                    .setParameter("cursorRequestedAt", cursor.key(1))
+                    .setParameter("cursorId", cursor.key(2));
+        }
+        return query.getResultList();
+    }
+
+    public static PageCursor cursorOf(final UserRewardViewEntity lastReward, final UserRewardView.SortBy sortBy,
+                                      final SortDirection sortDirection) {
+        // Timestamp#toString keeps the microseconds stored by postgres, so the seek predicate matches the row exactly
+        final String requestedAt = (lastReward.getRequestedAt() instanceof Timestamp timestamp ? timestamp :
+                new Timestamp(lastReward.getRequestedAt().getTime())).toString();
+        return PageCursor.of(cursorSort(sortBy, sortDirection), switch (isNull(sortBy) ? UserRewardView.SortBy.requestedAt : sortBy) {
+            case amount -> lastReward.getDollarsEquivalent().toPlainString();
+            case contribution -> String.valueOf(lastReward.getContributionCount());
+            case status -> lastReward.getStatus();
+            default -> requestedAt;
+        }, requestedAt, lastReward.getId().toString());
+    }
+
+    public static String cursorSort(final UserRewardView.SortBy sortBy, final SortDirection sortDirection) {
+        return "rewards:" + (isNull(sortBy) ? UserRewardView.SortBy.requestedAt : sortBy).name() + ":" +
+               sortDirection.name();
+    }
+
+    protected static String buildSeekQuery(UserRewardView.SortBy sortBy, final SortDirection sortDirection,
+                                           final boolean hasCursor) {
+        sortBy = isNull(sortBy) ? UserRewardView.SortBy.requestedAt : sortBy;
+        final String operator = sortDirection == SortDirection.desc ? "<" : ">";
+        final String afterRequestedAt = "requested_at < cast(cast(:cursorRequestedAt as text) as timestamp) or " +
+                                        "(requested_at = cast(cast(:cursorRequestedAt as text) as timestamp) and " +
+                                        "id > cast(cast(:cursorId as text) as uuid))";
+        final String seek = !hasCursor ? "true" : switch (sortBy) {
+            case amount -> seekPredicate("dollars_equivalent", "numeric", operator, afterRequestedAt);
+            case contribution -> seekPredicate("contribution_count", "bigint", operator, afterRequestedAt);
+            case status -> seekPredicate("status", "text", operator, afterRequestedAt);
+            default -> "(requested_at %s cast(cast(:cursorRequestedAt as text) as timestamp) or ".formatted(operator) +
+                       "(requested_at = cast(cast(:cursorRequestedAt as text) as timestamp) and " +
+                       "id > cast(cast(:cursorId as text) as uuid)))";
+        };
+        return FIND_USER_REWARDS_BY_ID_AFTER_CURSOR
+                .replace("%seek%", seek)
+                .replace("%order_by%", orderBy(sortBy, sortDirection));
+    }
+
+    private static String seekPredicate(final String column, final String type, final String operator,
+                                        final String tieBreaker) {
+        final String key = "cast(cast(:cursorKey as text) as %s)".formatted(type);
+        return "(%s %s %s or (%s = %s and (%s)))".formatted(column, operator, key, column, key, tieBreaker);
+    }
+
+    private static String orderBy(UserRewardView.SortBy sortBy, final SortDirection sortDirection) {
         sortBy = isNull(sortBy) ? UserRewardView.SortBy.requestedAt : sortBy;
-        final String sort = switch (sortBy) {
+        return switch (sortBy) {
             case amount -> "dollars_equivalent " + sortDirection.name() + ", requested_at desc";
             case contribution -> "contribution_count " + sortDirection.name() + ", requested_at desc";
             case status -> "status " + sortDirection.name() + ", requested_at desc";
             default -> "requested_at " + sortDirection.name();
         };
-        return FIND_USER_REWARDS_BY_ID.replace("%order_by%", sort);
     }
 
 
@@ -64,6 +64,63 @@ public interface IgnoredContributionsRepository extends JpaRepository<IgnoredCon
             """, nativeQuery = true)
     void deleteContributionsThatShouldNotBeIgnored(List<Long> reposIds);
 
+    @Modifying
+    @Query(value = """
+            insert into ignored_contributions (project_id, contribution_id)
+               select pgr.project_id, c.id
+               from indexer_exp.contributions c
+               join project_github_repos pgr on pgr.github_repo_id = c.repo_id
+               join project_details pd on pd.project_id = pgr.project_id
+               left join custom_ignored_contributions cic on cic.contribution_id = c.id
+                                                           and cic.project_id = pgr.project_id
+                                                           and cic.ignored = false
+               where
+                   c.id in ?1
+                   and cic.contribution_id is null
+                   and (
+                       (pd.reward_ignore_contributions_before_date_by_default is not null
+                           and c.created_at < pd.reward_ignore_contributions_before_date_by_default)
+                    or (pd.reward_ignore_pull_requests_by_default = true and c.type = 'PULL_REQUEST')
+                    or (pd.reward_ignore_issues_by_default = true and c.type = 'ISSUE')
+                    or (pd.reward_ignore_code_reviews_by_default = true and c.type = 'CODE_REVIEW')
+                   )
+               on conflict do nothing
+               """, nativeQuery = true)
+    void addMissingContributionsAmong(List<String> contributionIds);
+
+    @Modifying
+    @Query(value = """
+            delete from ignored_contributions ic
+            where (ic.project_id, ic.contribution_id) in (
+                select pgr.project_id, c.id
+                from indexer_exp.contributions c
+                join project_github_repos pgr on pgr.github_repo_id = c.repo_id
+                join project_details pd on pd.project_id = pgr.project_id
+                left join custom_ignored_contributions cic on cic.contribution_id = c.id
+                                                            and cic.project_id = pgr.project_id
+                                                            and cic.ignored = true
+                where
+                    c.id in ?1
+                    and cic.contribution_id is null
+                    and (
+                        (pd.reward_ignore_contributions_before_date_by_default is null
+                            or c.created_at >= pd.reward_ignore_contributions_before_date_by_default)
+                     and (pd.reward_ignore_pull_requests_by_default = false or c.type != 'PULL_REQUEST')
+                     and (pd.reward_ignore_issues_by_default = false or c.type != 'ISSUE')
+                     and (pd.reward_ignore_code_reviews_by_default = false or c.type != 'CODE_REVIEW')
+                    )
+            )
+            """, nativeQuery = true)
+    void deleteContributionsThatShouldNotBeIgnoredAmong(List<String> contributionIds);
+
+    @Modifying
+    @Query(value = """
+            delete from ignored_contributions ic
+            where ic.contribution_id in ?1
+              and not exists(select 1 from indexer_exp.contributions c where c.id = ic.contribution_id)
+            """, nativeQuery = true)
+    void deleteContributionsThatDoNotExistAnymoreAmong(List<String> contributionIds);
+
     @Modifying
     @Query(value = """
             delete from ignored_contributions ic
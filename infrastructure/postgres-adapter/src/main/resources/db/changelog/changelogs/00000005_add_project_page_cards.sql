@@ -0,0 +1,58 @@
+create materialized view project_page_cards as
+select p.project_id,
+       p.hiring,
+       p.logo_url,
+       p.key,
+       p.name,
+       p.short_description,
+       p.visibility,
+       p.rank,
+       coalesce(r_count.repo_count, 0)           as repo_count,
+       coalesce(pc_count.contributors_count, 0)  as contributors_count,
+       coalesce(pl_count.project_lead_count, 0)  as project_lead_count,
+       leads.project_leads                       as project_leads,
+       t.technologies                            as technologies,
+       s.sponsor_json                            as sponsors
+from project_details p
+         left join (select pgr.project_id, jsonb_agg(gr.languages) technologies
+                    from project_github_repos pgr
+                             join indexer_exp.github_repos gr on gr.id = pgr.github_repo_id
+                    group by pgr.project_id) t on t.project_id = p.project_id
+         left join (select ps.project_id,
+                           jsonb_agg(jsonb_build_object(
+                                   'url', sponsor.url,
+                                   'logoUrl', sponsor.logo_url,
+                                   'id', sponsor.id,
+                                   'name', sponsor.name
+                               )) sponsor_json
+                    from sponsors sponsor
+                             join public.projects_sponsors ps on ps.sponsor_id = sponsor.id
+                    group by ps.project_id) s on s.project_id = p.project_id
+         left join (select pgr_count.project_id, count(github_repo_id) repo_count
+                    from project_github_repos pgr_count
+                    group by pgr_count.project_id) r_count on r_count.project_id = p.project_id
+         left join (select pc.project_id, count(pc.github_user_id) contributors_count
+                    from public.projects_contributors pc
+                    group by pc.project_id) pc_count on pc_count.project_id = p.project_id
+         left join (select pl.project_id, count(pl.user_id) project_lead_count
+                    from project_leads pl
+                    group by pl.project_id) pl_count on pl_count.project_id = p.project_id
+         left join (select pl.project_id,
+                           jsonb_agg(jsonb_build_object(
+                                   'id', pl.user_id,
+                                   'githubId', u.github_user_id,
+                                   'login', coalesce(gu.login, u.login_at_signup),
+                                   'avatarUrl', coalesce(gu.avatar_url, u.avatar_url_at_signup),
+                                   'url', gu.html_url
+                               )) project_leads
+                    from project_leads pl
+                             left join auth_users u on u.id = pl.user_id
+                             left join github_users gu on gu.id = u.github_user_id
+                    group by pl.project_id) leads on leads.project_id = p.project_id;
+
+-- required by "refresh materialized view concurrently"
+create unique index project_page_cards_project_id_idx
+    on project_page_cards (project_id);
+
+create index project_page_cards_rank_idx
+    on project_page_cards (rank desc);
@@ -0,0 +1,10 @@
+CREATE TABLE contributions_change_queue
+(
+    repo_id          bigint    NOT NULL PRIMARY KEY,
+    contribution_ids jsonb,
+    version          bigint    NOT NULL DEFAULT 0,
+    enqueued_at      timestamp NOT NULL DEFAULT now(),
+    locked_until     timestamp
+);
+
+CREATE INDEX contributions_change_queue_enqueued_at_idx ON contributions_change_queue (enqueued_at);
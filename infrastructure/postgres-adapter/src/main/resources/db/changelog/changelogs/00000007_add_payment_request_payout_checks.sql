@@ -0,0 +1,267 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000007_add_payment_request_payout_checks splitStatements:false
+-- Payout checks used to be recomputed for every payment request of the system each time a reward status was read.
+-- They are now kept per payment request in payment_request_payout_checks, refreshed by triggers for the recipient
+-- whose payment requests, payments or payout info (identity, location, wallets, bank account) change.
+
+create view computed_payment_request_payout_checks as
+select pr.id,
+       pr.recipient_id,
+       (select count(p.id) > 0
+        from payment_requests pr2
+                 left join payments p on p.request_id = pr2.id
+        where p.id is null
+          and pr.id = pr2.id)                                           has_pending_payments,
+       (upi.identity is not null and upi.identity -> 'Person' is not null and
+        upi.identity -> 'Person' -> 'lastname' != cast('null' as jsonb) and
+        upi.identity -> 'Person' -> 'firstname' != cast('null' as jsonb))            valid_person,
+       (upi.location is not null and upi.location -> 'city' != cast('null' as jsonb) and
+        upi.location -> 'post_code' != cast('null' as jsonb) and
+        upi.location -> 'address' != cast('null' as jsonb) and
+        upi.location -> 'country' != cast('null' as jsonb))                          valid_location,
+       (upi.identity is not null and upi.identity -> 'Company' is not null and
+        upi.identity -> 'Company' -> 'name' != cast('null' as jsonb) and
+        upi.identity -> 'Company' -> 'identification_number' != cast('null' as jsonb) and
+        upi.identity -> 'Company' -> 'owner' is not null and
+        upi.identity -> 'Company' -> 'owner' -> 'firstname' != cast('null' as jsonb) and
+        upi.identity -> 'Company' -> 'owner' -> 'lastname' != cast('null' as jsonb)) valid_company,
+       coalesce((select w_eth.address is not null
+                 from payment_requests pr_eth
+                          left join payments p_eth on p_eth.request_id = pr_eth.id
+                          left join wallets w_eth
+                                    on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
+                 where pr_eth.currency = 'eth'
+                   and pr_eth.id = pr.id
+                   and pr_eth.recipient_id = au.github_user_id
+                   and p_eth is null
+                 limit 1), true)                                        valid_eth_wallet,
+       coalesce((select w_op.address is not null
+                 from payment_requests pr_op
+                          left join payments p_op on p_op.request_id = pr_op.id
+                          left join wallets w_op on w_op.user_id = upi.user_id and w_op.network = 'optimism'
+                 where pr_op.currency = 'op'
+                   and pr_op.id = pr.id
+                   and pr_op.recipient_id = au.github_user_id
+                   and p_op is null
+                 limit 1), true)                                        valid_op_wallet,
+       coalesce((select w_stark.address is not null
+                 from payment_requests pr_stark
+                          left join payments p_stark on p_stark.request_id = pr_stark.id
+                          left join wallets w_stark
+                                    on w_stark.user_id = upi.user_id and w_stark.network = 'starknet'
+                 where pr_stark.currency = 'stark'
+                   and pr_stark.id = pr.id
+                   and pr_stark.recipient_id = au.github_user_id
+                   and p_stark is null
+                 limit 1), true)                                        valid_stark_wallet,
+       coalesce((select w_apt.address is not null
+                 from payment_requests pr_apt
+                          left join payments p_apt on p_apt.request_id = pr_apt.id
+                          left join wallets w_apt on w_apt.user_id = upi.user_id and w_apt.network = 'aptos'
+                 where pr_apt.currency = 'apt'
+                   and pr_apt.recipient_id = au.github_user_id
+                   and p_apt is null
+                 limit 1), true)                                        valid_apt_wallet,
+       case
+           when (
+               (upi.identity -> 'Company' is not null and upi.usd_preferred_method = 'fiat' and
+                (select count(pr_usd.id) > 0
+                 from payment_requests pr_usd
+                          left join payments p_usd on p_usd.request_id = pr_usd.id
+                 where pr_usd.recipient_id = au.github_user_id
+                   and pr_usd.id = pr.id
+                   and pr_usd.currency = 'usd'
+                   and p_usd.id is null))
+               ) then (select count(*) > 0
+                       from bank_accounts ba
+                       where ba.user_id = upi.user_id)
+           else true end                                                valid_banking_account,
+       case
+           when (upi.identity -> 'Person' is not null) then (
+               coalesce((select w_eth.address is not null
+                         from payment_requests pr_usdc
+                                  left join payments p_usdc on p_usdc.request_id = pr_usdc.id
+                                  left join wallets w_eth
+                                            on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
+                         where pr_usdc.currency = 'usd'
+                           and pr_usdc.id = pr.id
+                           and pr_usdc.recipient_id = au.github_user_id
+                           and p_usdc is null
+                         limit 1), true)
+               )
+           when (upi.identity -> 'Company' is not null and upi.usd_preferred_method = 'crypto')
+               then (
+               coalesce((select w_eth.address is not null
+                         from payment_requests pr_usdc
+                                  left join payments p_usdc on p_usdc.request_id = pr_usdc.id
+                                  left join wallets w_eth
+                                            on w_eth.user_id = upi.user_id and w_eth.network = 'ethereum'
+                         where pr_usdc.currency = 'usd'
+                           and pr_usdc.id = pr.id
+                           and pr_usdc.recipient_id = au.github_user_id
+                           and p_usdc is null
+                         limit 1), true)
+               )
+           else true
+           end                                                          valid_usdc_wallet
+from payment_requests pr
+         left join auth_users au on au.github_user_id = pr.recipient_id
+         left join public.user_payout_info upi on au.id = upi.user_id;
+
+create table payment_request_payout_checks
+(
+    id                    uuid   not null primary key,
+    recipient_id          bigint not null,
+    has_pending_payments  boolean,
+    valid_person          boolean,
+    valid_location        boolean,
+    valid_company         boolean,
+    valid_eth_wallet      boolean,
+    valid_op_wallet       boolean,
+    valid_stark_wallet    boolean,
+    valid_apt_wallet      boolean,
+    valid_banking_account boolean,
+    valid_usdc_wallet     boolean
+);
+
+create index payment_request_payout_checks_recipient_id_idx on payment_request_payout_checks (recipient_id);
+
+create function refresh_payment_request_payout_checks(recipient bigint) returns void
+    language sql
+as
+$$
+delete
+from payment_request_payout_checks pc
+where pc.recipient_id = recipient
+  and not exists(select 1 from payment_requests pr where pr.id = pc.id and pr.recipient_id = recipient);
+
+insert into payment_request_payout_checks (id, recipient_id, has_pending_payments, valid_person, valid_location,
+                                           valid_company, valid_eth_wallet, valid_op_wallet, valid_stark_wallet,
+                                           valid_apt_wallet, valid_banking_account, valid_usdc_wallet)
+select id,
+       recipient_id,
+       has_pending_payments,
+       valid_person,
+       valid_location,
+       valid_company,
+       valid_eth_wallet,
+       valid_op_wallet,
+       valid_stark_wallet,
+       valid_apt_wallet,
+       valid_banking_account,
+       valid_usdc_wallet
+from computed_payment_request_payout_checks
+where recipient_id = recipient
+on conflict (id) do update set recipient_id          = excluded.recipient_id,
+                               has_pending_payments  = excluded.has_pending_payments,
+                               valid_person          = excluded.valid_person,
+                               valid_location        = excluded.valid_location,
+                               valid_company         = excluded.valid_company,
+                               valid_eth_wallet      = excluded.valid_eth_wallet,
+                               valid_op_wallet       = excluded.valid_op_wallet,
+                               valid_stark_wallet    = excluded.valid_stark_wallet,
+                               valid_apt_wallet      = excluded.valid_apt_wallet,
+                               valid_banking_account = excluded.valid_banking_account,
+                               valid_usdc_wallet     = excluded.valid_usdc_wallet;
+$$;
+
+create function refresh_payout_checks_on_payment_request_change() returns trigger
+    language plpgsql
+as
+$$
+begin
+    if tg_op in ('UPDATE', 'DELETE') then
+        perform refresh_payment_request_payout_checks(old.recipient_id);
+    end if;
+    if tg_op = 'INSERT' or (tg_op = 'UPDATE' and new.recipient_id is distinct from old.recipient_id) then
+        perform refresh_payment_request_payout_checks(new.recipient_id);
+    end if;
+    return null;
+end
+$$;
+
+create function refresh_payout_checks_on_payment_change() returns trigger
+    language plpgsql
+as
+$$
+begin
+    if tg_op in ('UPDATE', 'DELETE') then
+        perform refresh_payment_request_payout_checks(pr.recipient_id)
+        from payment_requests pr
+        where pr.id = old.request_id;
+    end if;
+    if tg_op = 'INSERT' or (tg_op = 'UPDATE' and new.request_id is distinct from old.request_id) then
+        perform refresh_payment_request_payout_checks(pr.recipient_id)
+        from payment_requests pr
+        where pr.id = new.request_id;
+    end if;
+    return null;
+end
+$$;
+
+create function refresh_payout_checks_on_payout_info_change() returns trigger
+    language plpgsql
+as
+$$
+begin
+    if tg_op in ('UPDATE', 'DELETE') then
+        perform refresh_payment_request_payout_checks(au.github_user_id)
+        from auth_users au
+        where au.id = old.user_id;
+    end if;
+    if tg_op = 'INSERT' or (tg_op = 'UPDATE' and new.user_id is distinct from old.user_id) then
+        perform refresh_payment_request_payout_checks(au.github_user_id)
+        from auth_users au
+        where au.id = new.user_id;
+    end if;
+    return null;
+end
+$$;
+
+create trigger payment_requests_refresh_payout_checks
+    after insert or update or delete
+    on payment_requests
+    for each row
+execute function refresh_payout_checks_on_payment_request_change();
+
+create trigger payments_refresh_payout_checks
+    after insert or update or delete
+    on payments
+    for each row
+execute function refresh_payout_checks_on_payment_change();
+
+create trigger user_payout_info_refresh_payout_checks
+    after insert or update or delete
+    on user_payout_info
+    for each row
+execute function refresh_payout_checks_on_payout_info_change();
+
+create trigger wallets_refresh_payout_checks
+    after insert or update or delete
+    on wallets
+    for each row
+execute function refresh_payout_checks_on_payout_info_change();
+
+create trigger bank_accounts_refresh_payout_checks
+    after insert or update or delete
+    on bank_accounts
+    for each row
+execute function refresh_payout_checks_on_payout_info_change();
+
+insert into payment_request_payout_checks (id, recipient_id, has_pending_payments, valid_person, valid_location,
+                                           valid_company, valid_eth_wallet, valid_op_wallet, valid_stark_wallet,
+                                           valid_apt_wallet, valid_banking_account, valid_usdc_wallet)
+select id,
+       recipient_id,
+       has_pending_payments,
+       valid_person,
+       valid_location,
+       valid_company,
+       valid_eth_wallet,
+       valid_op_wallet,
+       valid_stark_wallet,
+       valid_apt_wallet,
+       valid_banking_account,
+       valid_usdc_wallet
+from computed_payment_request_payout_checks;
@@ -0,0 +1,16 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000008_add_project_search_indexes
+-- Project search used leading-wildcard ILIKE filters on project_page_cards, which scanned the whole view for each
+-- search. Trigram indexes serve these substring filters (and the name similarity used to rank the results), a
+-- full-text index serves the word prefix matches.
+create extension if not exists pg_trgm;
+
+create index project_page_cards_name_trgm_idx
+    on project_page_cards using gin (name gin_trgm_ops);
+
+create index project_page_cards_short_description_trgm_idx
+    on project_page_cards using gin (short_description gin_trgm_ops);
+
+create index project_page_cards_search_idx
+    on project_page_cards using gin (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(short_description, '')));
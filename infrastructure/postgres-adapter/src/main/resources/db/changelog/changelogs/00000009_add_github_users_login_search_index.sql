@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000009_add_github_users_login_search_index
+-- Contributor searches filter github_users with leading-wildcard ILIKE on the login (reward form contributor picker,
+-- project contributors page), which the btree github_users_login_idx cannot serve. A trigram index can, and also
+-- speeds up the similarity ordering of the autocomplete.
+create extension if not exists pg_trgm;
+
+create index if not exists github_users_login_trgm_idx
+    on github_users using gin (login gin_trgm_ops);
@@ -0,0 +1,39 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000010_notify_github_app_installations splitStatements:false
+-- The github app installation endpoint waits for the indexer to store freshly created installations. Instead of
+-- polling, the waiting calls are woken up by a notification on the github_app_installations channel, sent when the
+-- indexer commits an installation or the repos it authorizes.
+create or replace function notify_github_app_installation() returns trigger as
+$$
+begin
+    if tg_table_name = 'github_app_installations' then
+        perform pg_notify('github_app_installations', new.id::text);
+    else
+        perform pg_notify('github_app_installations', new.installation_id::text);
+    end if;
+    return null;
+end;
+$$ language plpgsql;
+
+do
+$$
+    begin
+        if to_regclass('indexer_exp.github_app_installations') is not null then
+            drop trigger if exists github_app_installations_notify on indexer_exp.github_app_installations;
+            create trigger github_app_installations_notify
+                after insert or update
+                on indexer_exp.github_app_installations
+                for each row
+            execute function notify_github_app_installation();
+        end if;
+        if to_regclass('indexer_exp.github_authorized_repos') is not null then
+            drop trigger if exists github_authorized_repos_notify on indexer_exp.github_authorized_repos;
+            create trigger github_authorized_repos_notify
+                after insert
+                on indexer_exp.github_authorized_repos
+                for each row
+            execute function notify_github_app_installation();
+        end if;
+    end
+$$;
@@ -0,0 +1,24 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000011_refresh_payout_checks_on_signup splitStatements:false
+-- Payout checks depend on the auth user of the recipient: they are refreshed when a recipient signs up or when the
+-- github account of a user changes, for the previous and the new github user.
+
+create function refresh_payout_checks_on_auth_user_change() returns trigger
+    language plpgsql
+as
+$$
+begin
+    if tg_op = 'UPDATE' and new.github_user_id is distinct from old.github_user_id then
+        perform refresh_payment_request_payout_checks(old.github_user_id);
+    end if;
+    perform refresh_payment_request_payout_checks(new.github_user_id);
+    return null;
+end
+$$;
+
+create trigger auth_users_refresh_payout_checks
+    after insert or update of github_user_id
+    on auth_users
+    for each row
+execute function refresh_payout_checks_on_auth_user_change();
@@ -0,0 +1,256 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000012_maintain_project_page_cards splitStatements:false
+-- The project_page_cards materialized view was refreshed as a whole after each project write and every 5 minutes:
+-- the cost grew with the catalogue, and the cards lagged behind their sources. It is replaced by a table whose rows
+-- are rebuilt, in the writing transaction, for the projects touched by each statement on a source table.
+drop materialized view project_page_cards;
+
+create table project_page_cards
+(
+    project_id         uuid primary key,
+    hiring             boolean,
+    logo_url           text,
+    key                text,
+    name               text,
+    short_description  text,
+    visibility         project_visibility,
+    rank               integer,
+    repo_count         bigint not null,
+    contributors_count bigint not null,
+    project_lead_count bigint not null,
+    project_leads      jsonb,
+    technologies       jsonb,
+    sponsors           jsonb
+);
+
+create index project_page_cards_rank_idx
+    on project_page_cards (rank desc);
+
+create index project_page_cards_name_trgm_idx
+    on project_page_cards using gin (name gin_trgm_ops);
+
+create index project_page_cards_short_description_trgm_idx
+    on project_page_cards using gin (short_description gin_trgm_ops);
+
+create index project_page_cards_search_idx
+    on project_page_cards using gin (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(short_description, '')));
+
+create function refresh_project_page_cards(project_ids uuid[]) returns void
+    language plpgsql
+as
+$$
+begin
+    -- waits for the concurrent rebuilds of the same cards to commit, so that the statements below see their writes
+    perform 1 from project_page_cards where project_id = any (project_ids) order by project_id for update;
+
+    delete
+    from project_page_cards c
+    where c.project_id = any (project_ids)
+      and not exists(select 1 from project_details p where p.project_id = c.project_id);
+
+    insert into project_page_cards (project_id, hiring, logo_url, key, name, short_description, visibility, rank,
+                                    repo_count, contributors_count, project_lead_count, project_leads, technologies,
+                                    sponsors)
+    select p.project_id,
+           p.hiring,
+           p.logo_url,
+           p.key,
+           p.name,
+           p.short_description,
+           p.visibility,
+           p.rank,
+           coalesce(r_count.repo_count, 0),
+           coalesce(pc_count.contributors_count, 0),
+           coalesce(pl_count.project_lead_count, 0),
+           leads.project_leads,
+           t.technologies,
+           s.sponsor_json
+    from project_details p
+             left join (select pgr.project_id, jsonb_agg(gr.languages) technologies
+                        from project_github_repos pgr
+                                 join indexer_exp.github_repos gr on gr.id = pgr.github_repo_id
+                        where pgr.project_id = any (project_ids)
+                        group by pgr.project_id) t on t.project_id = p.project_id
+             left join (select ps.project_id,
+                               jsonb_agg(jsonb_build_object(
+                                       'url', sponsor.url,
+                                       'logoUrl', sponsor.logo_url,
+                                       'id', sponsor.id,
+                                       'name', sponsor.name
+                                   )) sponsor_json
+                        from sponsors sponsor
+                                 join public.projects_sponsors ps on ps.sponsor_id = sponsor.id
+                        where ps.project_id = any (project_ids)
+                        group by ps.project_id) s on s.project_id = p.project_id
+             left join (select pgr_count.project_id, count(github_repo_id) repo_count
+                        from project_github_repos pgr_count
+                        where pgr_count.project_id = any (project_ids)
+                        group by pgr_count.project_id) r_count on r_count.project_id = p.project_id
+             left join (select pc.project_id, count(pc.github_user_id) contributors_count
+                        from public.projects_contributors pc
+                        where pc.project_id = any (project_ids)
+                        group by pc.project_id) pc_count on pc_count.project_id = p.project_id
+             left join (select pl.project_id, count(pl.user_id) project_lead_count
+                        from project_leads pl
+                        where pl.project_id = any (project_ids)
+                        group by pl.project_id) pl_count on pl_count.project_id = p.project_id
+             left join (select pl.project_id,
+                               jsonb_agg(jsonb_build_object(
+                                       'id', pl.user_id,
+                                       'githubId', u.github_user_id,
+                                       'login', coalesce(gu.login, u.login_at_signup),
+                                       'avatarUrl', coalesce(gu.avatar_url, u.avatar_url_at_signup),
+                                       'url', gu.html_url
+                                   )) project_leads
+                        from project_leads pl
+                                 left join auth_users u on u.id = pl.user_id
+                                 left join github_users gu on gu.id = u.github_user_id
+                        where pl.project_id = any (project_ids)
+                        group by pl.project_id) leads on leads.project_id = p.project_id
+    where p.project_id = any (project_ids)
+    on conflict (project_id) do update set hiring             = excluded.hiring,
+                                           logo_url           = excluded.logo_url,
+                                           key                = excluded.key,
+                                           name               = excluded.name,
+                                           short_description  = excluded.short_description,
+                                           visibility         = excluded.visibility,
+                                           rank               = excluded.rank,
+                                           repo_count         = excluded.repo_count,
+                                           contributors_count = excluded.contributors_count,
+                                           project_lead_count = excluded.project_lead_count,
+                                           project_leads      = excluded.project_leads,
+                                           technologies       = excluded.technologies,
+                                           sponsors           = excluded.sponsors;
+end
+$$;
+
+-- Statement level: a bulk write rebuilds each touched card once. The first trigger argument selects the ids of the
+-- touched projects from the changed_rows transition table (and old_rows for updates).
+create function refresh_project_page_cards_of_changed_rows() returns trigger
+    language plpgsql
+as
+$$
+declare
+    project_ids uuid[];
+begin
+    execute 'select array_agg(distinct project_id) from (' || tg_argv[0] || ') touched' into project_ids;
+    if project_ids is not null then
+        perform refresh_project_page_cards(project_ids);
+    end if;
+    return null;
+end
+$$;
+
+create trigger project_details_insert_refresh_project_page_cards
+    after insert on project_details referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+create trigger project_details_update_refresh_project_page_cards
+    after update on project_details referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+create trigger project_details_delete_refresh_project_page_cards
+    after delete on project_details referencing old table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+
+create trigger project_github_repos_insert_refresh_project_page_cards
+    after insert on project_github_repos referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+create trigger project_github_repos_update_refresh_project_page_cards
+    after update on project_github_repos referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select project_id from changed_rows union select project_id from old_rows');
+create trigger project_github_repos_delete_refresh_project_page_cards
+    after delete on project_github_repos referencing old table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+
+create trigger projects_sponsors_insert_refresh_project_page_cards
+    after insert on projects_sponsors referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+create trigger projects_sponsors_update_refresh_project_page_cards
+    after update on projects_sponsors referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select project_id from changed_rows union select project_id from old_rows');
+create trigger projects_sponsors_delete_refresh_project_page_cards
+    after delete on projects_sponsors referencing old table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+
+create trigger projects_contributors_insert_refresh_project_page_cards
+    after insert on projects_contributors referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+create trigger projects_contributors_update_refresh_project_page_cards
+    after update on projects_contributors referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select project_id from changed_rows union select project_id from old_rows');
+create trigger projects_contributors_delete_refresh_project_page_cards
+    after delete on projects_contributors referencing old table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+
+create trigger project_leads_insert_refresh_project_page_cards
+    after insert on project_leads referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+create trigger project_leads_update_refresh_project_page_cards
+    after update on project_leads referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select project_id from changed_rows union select project_id from old_rows');
+create trigger project_leads_delete_refresh_project_page_cards
+    after delete on project_leads referencing old table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows('select project_id from changed_rows');
+
+-- sponsor links are removed by cascade, which the projects_sponsors triggers catch
+create trigger sponsors_update_refresh_project_page_cards
+    after update on sponsors referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select ps.project_id from changed_rows s join projects_sponsors ps on ps.sponsor_id = s.id');
+
+-- the indexer updates repos often: only a change of their languages is rebuilt
+create trigger github_repos_insert_refresh_project_page_cards
+    after insert on indexer_exp.github_repos referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select pgr.project_id from changed_rows r join project_github_repos pgr on pgr.github_repo_id = r.id');
+create trigger github_repos_update_refresh_project_page_cards
+    after update on indexer_exp.github_repos referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select pgr.project_id from changed_rows r join old_rows o on o.id = r.id and o.languages is distinct from r.languages join project_github_repos pgr on pgr.github_repo_id = r.id');
+
+-- leads are shown with their github profile, or the one they signed up with
+create trigger github_users_insert_refresh_project_page_cards
+    after insert on github_users referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select pl.project_id from changed_rows gu join auth_users u on u.github_user_id = gu.id join project_leads pl on pl.user_id = u.id');
+create trigger github_users_update_refresh_project_page_cards
+    after update on github_users referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select pl.project_id from changed_rows gu join old_rows o on o.id = gu.id and (o.login, o.avatar_url, o.html_url) is distinct from (gu.login, gu.avatar_url, gu.html_url) join auth_users u on u.github_user_id = gu.id join project_leads pl on pl.user_id = u.id');
+
+create trigger auth_users_insert_refresh_project_page_cards
+    after insert on auth_users referencing new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select pl.project_id from changed_rows u join project_leads pl on pl.user_id = u.id');
+create trigger auth_users_update_refresh_project_page_cards
+    after update on auth_users referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_project_page_cards_of_changed_rows(
+        'select pl.project_id from changed_rows u join old_rows o on o.id = u.id and (o.github_user_id, o.login_at_signup, o.avatar_url_at_signup) is distinct from (u.github_user_id, u.login_at_signup, u.avatar_url_at_signup) join project_leads pl on pl.user_id = u.id');
+
+select refresh_project_page_cards(array(select project_id from project_details));
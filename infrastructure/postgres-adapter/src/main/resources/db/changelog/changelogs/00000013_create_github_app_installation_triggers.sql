@@ -0,0 +1,18 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000013_create_github_app_installation_triggers splitStatements:false
+-- 00000010 only created the notification triggers when the indexer tables existed, and looked for the authorized
+-- repos under a wrong name: that trigger was never created. The triggers are now created unconditionally, so that a
+-- missing indexer table fails the migration instead of silently leaving the installation waits to the re-check.
+drop trigger if exists github_app_installations_notify on indexer_exp.github_app_installations;
+create trigger github_app_installations_notify
+    after insert or update
+    on indexer_exp.github_app_installations
+    for each row
+execute function notify_github_app_installation();
+
+create trigger authorized_github_repos_notify
+    after insert
+    on indexer_exp.authorized_github_repos
+    for each row
+execute function notify_github_app_installation();
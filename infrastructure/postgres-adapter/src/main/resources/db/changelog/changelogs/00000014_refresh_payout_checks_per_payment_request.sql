@@ -0,0 +1,174 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000014_refresh_payout_checks_per_payment_request splitStatements:false
+-- A payment request or payment write used to recompute the payout checks of every payment request of the recipient:
+-- only the checks of the written payment request are recomputed now, but for aptos requests, whose wallet check
+-- depends on all the pending aptos requests of the recipient.
+-- Payout info, wallet, bank account and auth user writes do change the checks of every payment request of the
+-- recipient: they are now refreshed once per statement and recipient, instead of once per written row.
+
+create function refresh_payment_request_payout_check(request uuid) returns void
+    language sql
+as
+$$
+delete
+from payment_request_payout_checks pc
+where pc.id = request
+  and not exists(select 1 from payment_requests pr where pr.id = request);
+
+insert into payment_request_payout_checks (id, recipient_id, has_pending_payments, valid_person, valid_location,
+                                           valid_company, valid_eth_wallet, valid_op_wallet, valid_stark_wallet,
+                                           valid_apt_wallet, valid_banking_account, valid_usdc_wallet)
+select id,
+       recipient_id,
+       has_pending_payments,
+       valid_person,
+       valid_location,
+       valid_company,
+       valid_eth_wallet,
+       valid_op_wallet,
+       valid_stark_wallet,
+       valid_apt_wallet,
+       valid_banking_account,
+       valid_usdc_wallet
+from computed_payment_request_payout_checks
+where id = request
+on conflict (id) do update set recipient_id          = excluded.recipient_id,
+                               has_pending_payments  = excluded.has_pending_payments,
+                               valid_person          = excluded.valid_person,
+                               valid_location        = excluded.valid_location,
+                               valid_company         = excluded.valid_company,
+                               valid_eth_wallet      = excluded.valid_eth_wallet,
+                               valid_op_wallet       = excluded.valid_op_wallet,
+                               valid_stark_wallet    = excluded.valid_stark_wallet,
+                               valid_apt_wallet      = excluded.valid_apt_wallet,
+                               valid_banking_account = excluded.valid_banking_account,
+                               valid_usdc_wallet     = excluded.valid_usdc_wallet;
+$$;
+
+create or replace function refresh_payout_checks_on_payment_request_change() returns trigger
+    language plpgsql
+as
+$$
+begin
+    if tg_op in ('UPDATE', 'DELETE') then
+        perform refresh_payment_request_payout_check(old.id);
+        if old.currency = 'apt' then
+            perform refresh_payment_request_payout_checks(old.recipient_id);
+        end if;
+    end if;
+    if tg_op = 'INSERT' or (tg_op = 'UPDATE' and new.id is distinct from old.id) then
+        perform refresh_payment_request_payout_check(new.id);
+    end if;
+    if tg_op in ('INSERT', 'UPDATE') and new.currency = 'apt' then
+        perform refresh_payment_request_payout_checks(new.recipient_id);
+    end if;
+    return null;
+end
+$$;
+
+create or replace function refresh_payout_checks_on_payment_change() returns trigger
+    language plpgsql
+as
+$$
+begin
+    if tg_op in ('UPDATE', 'DELETE') then
+        perform refresh_payment_request_payout_check(old.request_id);
+        perform refresh_payment_request_payout_checks(pr.recipient_id)
+        from payment_requests pr
+        where pr.id = old.request_id
+          and pr.currency = 'apt';
+    end if;
+    if tg_op = 'INSERT' or (tg_op = 'UPDATE' and new.request_id is distinct from old.request_id) then
+        perform refresh_payment_request_payout_check(new.request_id);
+        perform refresh_payment_request_payout_checks(pr.recipient_id)
+        from payment_requests pr
+        where pr.id = new.request_id
+          and pr.currency = 'apt';
+    end if;
+    return null;
+end
+$$;
+
+-- Statement level: the first trigger argument selects the github user ids of the touched recipients from the
+-- changed_rows transition table (and old_rows for updates).
+create function refresh_payout_checks_of_changed_rows() returns trigger
+    language plpgsql
+as
+$$
+declare
+    recipient_ids bigint[];
+begin
+    execute 'select array_agg(distinct recipient_id) from (' || tg_argv[0] || ') touched where recipient_id is not null'
+        into recipient_ids;
+    perform refresh_payment_request_payout_checks(recipient_id)
+    from unnest(recipient_ids) recipient_id;
+    return null;
+end
+$$;
+
+drop trigger user_payout_info_refresh_payout_checks on user_payout_info;
+drop trigger wallets_refresh_payout_checks on wallets;
+drop trigger bank_accounts_refresh_payout_checks on bank_accounts;
+drop trigger auth_users_refresh_payout_checks on auth_users;
+drop function refresh_payout_checks_on_payout_info_change();
+drop function refresh_payout_checks_on_auth_user_change();
+
+create trigger user_payout_info_insert_refresh_payout_checks
+    after insert on user_payout_info referencing new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from changed_rows c join auth_users au on au.id = c.user_id');
+create trigger user_payout_info_update_refresh_payout_checks
+    after update on user_payout_info referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from (select user_id from changed_rows union select user_id from old_rows) c join auth_users au on au.id = c.user_id');
+create trigger user_payout_info_delete_refresh_payout_checks
+    after delete on user_payout_info referencing old table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from changed_rows c join auth_users au on au.id = c.user_id');
+
+create trigger wallets_insert_refresh_payout_checks
+    after insert on wallets referencing new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from changed_rows c join auth_users au on au.id = c.user_id');
+create trigger wallets_update_refresh_payout_checks
+    after update on wallets referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from (select user_id from changed_rows union select user_id from old_rows) c join auth_users au on au.id = c.user_id');
+create trigger wallets_delete_refresh_payout_checks
+    after delete on wallets referencing old table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from changed_rows c join auth_users au on au.id = c.user_id');
+
+create trigger bank_accounts_insert_refresh_payout_checks
+    after insert on bank_accounts referencing new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from changed_rows c join auth_users au on au.id = c.user_id');
+create trigger bank_accounts_update_refresh_payout_checks
+    after update on bank_accounts referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from (select user_id from changed_rows union select user_id from old_rows) c join auth_users au on au.id = c.user_id');
+create trigger bank_accounts_delete_refresh_payout_checks
+    after delete on bank_accounts referencing old table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select au.github_user_id recipient_id from changed_rows c join auth_users au on au.id = c.user_id');
+
+-- a recipient signing up, or a user changing of github account, for the previous and the new github user
+create trigger auth_users_insert_refresh_payout_checks
+    after insert on auth_users referencing new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows('select github_user_id recipient_id from changed_rows');
+create trigger auth_users_update_refresh_payout_checks
+    after update on auth_users referencing old table as old_rows new table as changed_rows
+    for each statement
+execute function refresh_payout_checks_of_changed_rows(
+        'select unnest(array [o.github_user_id, u.github_user_id]) recipient_id from changed_rows u join old_rows o on o.id = u.id and o.github_user_id is distinct from u.github_user_id');
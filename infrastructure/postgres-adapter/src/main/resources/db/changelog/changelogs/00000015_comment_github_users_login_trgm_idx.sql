@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset marketplace-api:00000015_comment_github_users_login_trgm_idx
+-- Corrects 00000009: the GIN trigram index only serves the leading-wildcard ILIKE login filter. The similarity()
+-- ordering of the autocomplete is computed on the filtered rows, a GIN index cannot serve it (only a GiST index can,
+-- for a <-> distance ordering).
+comment on index github_users_login_trgm_idx is
+    'Serves the leading-wildcard ILIKE login filters only, not the similarity ordering of the autocomplete';
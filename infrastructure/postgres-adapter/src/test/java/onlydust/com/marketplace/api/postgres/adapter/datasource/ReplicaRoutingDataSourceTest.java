@@ -0,0 +1,35 @@
+package onlydust.com.marketplace.api.postgres.adapter.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void should_not_track_writes_given_no_replica() {
+        // Given
+        final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+                new DriverManagerDataSource("jdbc:postgresql://localhost/primary"), Map.of(),
+                new ReplicaRoutingDataSource.Config());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        final Object lookupKey = dataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(dataSource.trackedWrites()).isZero();
+    }
+}
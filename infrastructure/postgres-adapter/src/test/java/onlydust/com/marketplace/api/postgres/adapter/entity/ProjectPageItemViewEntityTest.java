@@ -105,4 +105,34 @@ public class ProjectPageItemViewEntityTest {
 
     }
 
+    @Nested
+    public class ShouldReturnSearchPrefixQuery {
+
+        @Test
+        void given_no_search() {
+            // When
+            final String searchPrefixQuery = ProjectPageItemViewEntity.getSearchPrefixQuery(null);
+
+            // Then
+            assertNull(searchPrefixQuery);
+        }
+
+        @Test
+        void given_a_search_without_words() {
+            // When
+            final String searchPrefixQuery = ProjectPageItemViewEntity.getSearchPrefixQuery(" & !:* ");
+
+            // Then
+            assertNull(searchPrefixQuery);
+        }
+
+        @Test
+        void given_several_words() {
+            // When
+            final String searchPrefixQuery = ProjectPageItemViewEntity.getSearchPrefixQuery("Only dust's  kaaper-2");
+
+            // Then
+            assertEquals("Only:* & dust:* & s:* & kaaper:* & 2:*", searchPrefixQuery);
+        }
+    }
 }
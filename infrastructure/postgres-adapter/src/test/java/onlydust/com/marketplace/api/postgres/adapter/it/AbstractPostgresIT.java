@@ -23,7 +23,7 @@ public class AbstractPostgresIT {
 
     protected final static Faker faker = new Faker();
     @Container
-    static PostgreSQLContainer postgresSQLContainer =
+    protected static PostgreSQLContainer postgresSQLContainer =
             new PostgreSQLContainer<>("postgres:14.3-alpine")
                     .withDatabaseName("marketplace_db")
                     .withUsername("test")
@@ -0,0 +1,116 @@
+package onlydust.com.marketplace.api.postgres.adapter.it.datasource;
+
+import onlydust.com.marketplace.api.postgres.adapter.datasource.ReadYourWritesContext;
+import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The replica is a second, independent container: each database holds a marker telling which one served the query.
+ */
+class ReplicaRoutingDataSourceIT extends AbstractPostgresIT {
+
+    @Container
+    static PostgreSQLContainer replicaContainer =
+            new PostgreSQLContainer<>("postgres:14.3-alpine")
+                    .withDatabaseName("marketplace_db")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void updateReplicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("application.read-replicas.urls", replicaContainer::getJdbcUrl);
+        registry.add("application.read-replicas.read-your-writes-window-in-millis", () -> 60_000);
+    }
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        writeMarker(postgresSQLContainer, "primary");
+        writeMarker(replicaContainer, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void should_route_read_only_transactions_to_replica() {
+        // Given
+        ReadYourWritesContext.setKey("reader");
+
+        // When
+        final String readOnlyServer = serverName(true);
+
+        // Then
+        assertThat(readOnlyServer).isEqualTo("replica");
+    }
+
+    @Test
+    void should_route_read_write_transactions_to_primary() {
+        // Given
+        ReadYourWritesContext.setKey("writer");
+
+        // When
+        final String readWriteServer = serverName(false);
+
+        // Then
+        assertThat(readWriteServer).isEqualTo("primary");
+    }
+
+    @Test
+    void should_read_own_writes_from_primary() {
+        // Given
+        ReadYourWritesContext.setKey("user-1");
+        serverName(false);
+
+        // When
+        final String ownReadServer = serverName(true);
+        ReadYourWritesContext.setKey("user-2");
+        final String otherReadServer = serverName(true);
+
+        // Then
+        assertThat(ownReadServer).isEqualTo("primary");
+        assertThat(otherReadServer).isEqualTo("replica");
+    }
+
+    private String serverName(final boolean readOnly) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> (String) entityManager
+                .createNativeQuery("select name from replica_routing_marker")
+                .getSingleResult());
+    }
+
+    private static void writeMarker(final PostgreSQLContainer<?> container, final String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(),
+                container.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists replica_routing_marker (name text)");
+            statement.execute("truncate replica_routing_marker");
+            statement.execute("insert into replica_routing_marker values ('%s')".formatted(name));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package onlydust.com.marketplace.api.postgres.adapter.it.notification;
+
+import onlydust.com.marketplace.api.domain.model.CacheInvalidation;
+import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresCacheInvalidationBusIT extends AbstractPostgresIT {
+
+    @Autowired
+    PostgresCacheInvalidationBus postgresCacheInvalidationBus;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final BlockingQueue<CacheInvalidation> invalidations = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        postgresCacheInvalidationBus.subscribe(invalidations::add);
+        // the listener subscribes to the channel asynchronously: invalidations published before that are lost
+        CacheInvalidation received = null;
+        for (int i = 0; i < 20 && received == null; i++) {
+            postgresCacheInvalidationBus.publish(CacheInvalidation.all(CacheInvalidation.Entity.PROJECT));
+            received = invalidations.poll(500, TimeUnit.MILLISECONDS);
+        }
+        assertThat(received).isNotNull();
+        Thread.sleep(200);
+        invalidations.clear();
+    }
+
+    @Test
+    void should_broadcast_published_invalidations() throws InterruptedException {
+        // Given
+        final UUID userId = UUID.randomUUID();
+
+        // When
+        postgresCacheInvalidationBus.publish(CacheInvalidation.ofUser(userId));
+        postgresCacheInvalidationBus.publish(CacheInvalidation.all(CacheInvalidation.Entity.GITHUB_USER));
+
+        // Then
+        assertThat(invalidations.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.ofUser(userId));
+        assertThat(invalidations.poll(5, TimeUnit.SECONDS))
+                .isEqualTo(CacheInvalidation.all(CacheInvalidation.Entity.GITHUB_USER));
+    }
+
+    @Test
+    void should_only_broadcast_committed_invalidations() throws InterruptedException {
+        // Given
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final UUID rolledBackProjectId = UUID.randomUUID();
+        final UUID committedProjectId = UUID.randomUUID();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            postgresCacheInvalidationBus.publish(CacheInvalidation.ofProject(rolledBackProjectId));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            postgresCacheInvalidationBus.publish(CacheInvalidation.ofProject(committedProjectId));
+            assertThat(invalidations).isEmpty();
+        });
+
+        // Then
+        assertThat(invalidations.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.ofProject(committedProjectId));
+        assertThat(invalidations.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+}
@@ -0,0 +1,105 @@
+package onlydust.com.marketplace.api.postgres.adapter.it.notification;
+
+import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
+import onlydust.com.marketplace.api.postgres.adapter.notification.PostgresNotificationListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresNotificationListenerIT extends AbstractPostgresIT {
+
+    @Autowired
+    PostgresNotificationListener postgresNotificationListener;
+
+    @Test
+    void should_dispatch_notifications_to_channel_listeners() throws Exception {
+        // Given
+        final BlockingQueue<String> payloads = new LinkedBlockingQueue<>();
+        postgresNotificationListener.listen("test_channel", payloads::add);
+
+        // When
+        final String payload = notifyUntilReceived("select pg_notify('test_channel', 'hello')", payloads);
+
+        // Then
+        assertThat(payload).isEqualTo("hello");
+    }
+
+    @Test
+    void should_notify_indexed_github_app_installations() throws Exception {
+        // Given
+        final BlockingQueue<String> installationIds = new LinkedBlockingQueue<>();
+        postgresNotificationListener.listen("github_app_installations", installationIds::add);
+        execute("""
+                insert into indexer_exp.github_accounts (id, login, type, html_url)
+                values (4242, 'onlydust', 'ORGANIZATION', 'https://github.com/onlydust')
+                on conflict do nothing
+                """);
+
+        // When
+        final String installationId = notifyUntilReceived("""
+                insert into indexer_exp.github_app_installations (id, account_id)
+                select coalesce(max(id), 0) + 1, 4242 from indexer_exp.github_app_installations
+                """, installationIds);
+
+        // Then
+        assertThat(Long.valueOf(installationId)).isPositive();
+    }
+
+    @Test
+    void should_notify_repos_authorized_by_github_app_installations() throws Exception {
+        // Given
+        final BlockingQueue<String> installationIds = new LinkedBlockingQueue<>();
+        postgresNotificationListener.listen("github_app_installations", installationIds::add);
+        // triggers disabled, so that only the authorization is notified
+        execute("""
+                set session_replication_role = replica;
+                insert into indexer_exp.github_accounts (id, login, type, html_url)
+                values (4243, 'onlydust-repos', 'ORGANIZATION', 'https://github.com/onlydust-repos')
+                on conflict do nothing;
+                insert into indexer_exp.github_repos (id, owner_id, name, html_url, updated_at, stars_count, forks_count)
+                values (424301, 4243, 'marketplace', 'https://github.com/onlydust-repos/marketplace', now(), 0, 0)
+                on conflict do nothing;
+                insert into indexer_exp.github_app_installations (id, account_id)
+                values (424300, 4243)
+                on conflict do nothing;
+                """);
+
+        // When
+        final String installationId = notifyUntilReceived("""
+                delete from indexer_exp.authorized_github_repos where installation_id = 424300;
+                insert into indexer_exp.authorized_github_repos (repo_id, installation_id) values (424301, 424300);
+                """, installationIds);
+
+        // Then
+        assertThat(installationId).isEqualTo("424300");
+    }
+
+    // the listener subscribes to new channels asynchronously: notifications sent before that are lost
+    private String notifyUntilReceived(final String sql, final BlockingQueue<String> payloads) throws Exception {
+        for (int i = 0; i < 20; i++) {
+            execute(sql);
+            final String payload = payloads.poll(500, TimeUnit.MILLISECONDS);
+            if (payload != null) {
+                return payload;
+            }
+        }
+        return null;
+    }
+
+    private static void execute(final String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(postgresSQLContainer.getJdbcUrl(),
+                postgresSQLContainer.getUsername(), postgresSQLContainer.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package onlydust.com.marketplace.api.postgres.adapter.it.repository;
+
+import onlydust.com.marketplace.api.postgres.adapter.entity.read.ContributorViewEntity;
+import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
+import onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CustomContributorRepositoryIT extends AbstractPostgresIT {
+
+    private static final Long repoId = faker.random().nextLong();
+    private static final UUID projectId = UUID.randomUUID();
+    private static final List<String> logins = List.of("antho", "anthony", "bob", "xanthos", "zantho");
+    private static boolean contributorsSaved = false;
+
+    @Autowired
+    CustomContributorRepository customContributorRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        if (contributorsSaved) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (String login : logins) {
+                final Long githubUserId = faker.random().nextLong();
+                entityManager.createNativeQuery("""
+                                insert into github_users (id, login, avatar_url, html_url)
+                                values (:id, :login, '', '')
+                                """)
+                        .setParameter("id", githubUserId)
+                        .setParameter("login", login)
+                        .executeUpdate();
+                entityManager.createNativeQuery("""
+                                insert into contributions (repo_id, user_id, type, details_id, status, created_at, id)
+                                values (:repoId, :userId, 'pull_request', :id, 'complete', now(), :id)
+                                """)
+                        .setParameter("repoId", repoId)
+                        .setParameter("userId", githubUserId)
+                        .setParameter("id", UUID.randomUUID().toString())
+                        .executeUpdate();
+                entityManager.createNativeQuery("""
+                                insert into projects_contributors (project_id, github_user_id)
+                                values (:projectId, :userId)
+                                """)
+                        .setParameter("projectId", projectId)
+                        .setParameter("userId", githubUserId)
+                        .executeUpdate();
+            }
+        });
+        contributorsSaved = true;
+    }
+
+    @Test
+    void should_return_logins_starting_with_the_search_first() {
+        // When
+        final List<ContributorViewEntity> contributors = customContributorRepository.findReposContributorsByLogin(
+                Set.of(repoId), "antho", 10);
+
+        // Then
+        assertThat(contributors).extracting(ContributorViewEntity::getLogin)
+                .containsExactly("antho", "anthony", "zantho", "xanthos");
+    }
+
+    @Test
+    void should_order_logins_by_similarity_to_the_search() {
+        // When
+        final List<ContributorViewEntity> contributors = customContributorRepository.findReposContributorsByLogin(
+                Set.of(repoId), "ntho", 10);
+
+        // Then
+        assertThat(contributors).extracting(ContributorViewEntity::getLogin)
+                .containsExactly("antho", "zantho", "anthony", "xanthos");
+    }
+
+    @Test
+    void should_return_all_contributors_given_no_login() {
+        // When
+        final List<ContributorViewEntity> withNullLogin =
+                customContributorRepository.findReposContributorsByLogin(Set.of(repoId), null, 10);
+        final List<ContributorViewEntity> withEmptyLogin =
+                customContributorRepository.findReposContributorsByLogin(Set.of(repoId), "", 10);
+
+        // Then
+        assertThat(withNullLogin).extracting(ContributorViewEntity::getLogin).containsExactlyElementsOf(logins);
+        assertThat(withEmptyLogin).extracting(ContributorViewEntity::getLogin).containsExactlyElementsOf(logins);
+    }
+
+    @Test
+    void should_count_project_contributors_matching_the_login() {
+        // Then
+        assertThat(customContributorRepository.getProjectContributorCount(projectId, "antho")).isEqualTo(4);
+        assertThat(customContributorRepository.getProjectContributorCount(projectId, null)).isEqualTo(5);
+        assertThat(customContributorRepository.getProjectContributorCount(projectId, "")).isEqualTo(5);
+    }
+}
@@ -3,6 +3,7 @@ package onlydust.com.marketplace.api.postgres.adapter.it.repository;
 import com.vladmihalcea.hibernate.type.json.internal.JacksonUtil;
 import onlydust.com.marketplace.api.domain.model.UserPayoutInformation;
 import onlydust.com.marketplace.api.domain.view.UserRewardView;
+import onlydust.com.marketplace.api.domain.view.pagination.PageCursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import onlydust.com.marketplace.api.postgres.adapter.PostgresUserAdapter;
 import onlydust.com.marketplace.api.postgres.adapter.entity.read.UserRewardViewEntity;
@@ -20,8 +21,12 @@ import onlydust.com.marketplace.api.postgres.adapter.repository.old.PaymentReque
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -49,6 +54,8 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
     PostgresUserAdapter postgresUserAdapter;
     @Autowired
     CustomUserPayoutInfoRepository customUserPayoutInfoRepository;
+    @Autowired
+    EntityManager entityManager;
 
     @Test
     @Order(1)
@@ -497,5 +504,197 @@ public class CustomUserRewardRepositoryIT extends AbstractPostgresIT {
         }
     }
 
+    @Nested
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class GivenARecipientSigningUpAfterBeingRewarded {
+        private static final Long githubUserId = faker.random().nextLong();
+        private static final UUID userId = UUID.randomUUID();
+
+        @Test
+        @Order(1)
+        void should_refresh_payout_checks_when_the_recipient_signs_up() {
+            // Given
+            final UUID rewardId = UUID.randomUUID();
+            paymentRequestRepository.save(new PaymentRequestEntity(rewardId, UUID.randomUUID(), githubUserId,
+                    new Date(), BigDecimal.ONE, null, 1, projectId, CurrencyEnumEntity.eth));
+            assertEquals(true, validEthWallet(rewardId));
+
+            // When
+            authUserRepository.save(new AuthUserEntity(userId, githubUserId, faker.rickAndMorty().location(),
+                    new Date(), faker.rickAndMorty().character(), faker.internet().url(), new Date(), false));
+
+            // Then
+            assertEquals(false, validEthWallet(rewardId));
+            final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(userId,
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+            assertEquals(1, viewEntities.size());
+            assertEquals("MISSING_PAYOUT_INFO", viewEntities.get(0).getStatus());
+        }
+
+        @Test
+        @Order(2)
+        void should_refresh_payout_checks_when_the_github_account_of_a_user_changes() {
+            // Given
+            final Long newGithubUserId = faker.random().nextLong();
+            postgresUserAdapter.savePayoutInformationForUserId(userId,
+                    UserPayoutInformation.builder().person(UserPayoutInformation.Person.builder()
+                                    .lastName(faker.name().lastName()).firstName(faker.name().firstName())
+                                    .build())
+                            .location(UserPayoutInformation.Location.builder()
+                                    .address(faker.address().fullAddress())
+                                    .city(faker.address().city())
+                                    .postalCode(faker.address()
+                                            .zipCode()).country(faker.address().country()).build())
+                            .payoutSettings(UserPayoutInformation.PayoutSettings.builder()
+                                    .starknetAddress(faker.random().hex()).build()).build());
+            final UUID previousAccountRewardId = UUID.randomUUID();
+            final UUID newAccountRewardId = UUID.randomUUID();
+            paymentRequestRepository.saveAll(List.of(new PaymentRequestEntity(previousAccountRewardId,
+                            UUID.randomUUID(), githubUserId, new Date(), BigDecimal.ONE, null, 1, projectId,
+                            CurrencyEnumEntity.stark),
+                    new PaymentRequestEntity(newAccountRewardId, UUID.randomUUID(), newGithubUserId, new Date(),
+                            BigDecimal.ONE, null, 1, projectId, CurrencyEnumEntity.stark)));
+            assertEquals(true, validPerson(previousAccountRewardId));
+            assertEquals(false, validPerson(newAccountRewardId));
+
+            // When
+            authUserRepository.save(new AuthUserEntity(userId, newGithubUserId, faker.rickAndMorty().location(),
+                    new Date(), faker.rickAndMorty().character(), faker.internet().url(), new Date(), false));
 
+            // Then
+            assertEquals(false, validPerson(previousAccountRewardId));
+            assertEquals(true, validPerson(newAccountRewardId));
+            final List<UserRewardViewEntity> viewEntities = customUserRewardRepository.getViewEntities(userId,
+                    UserRewardView.SortBy.amount, SortDirection.desc, 0, 100);
+            assertEquals(1, viewEntities.size());
+            assertEquals(newAccountRewardId, viewEntities.get(0).getId());
+            assertEquals("PROCESSING", viewEntities.get(0).getStatus());
+        }
+
+        private Boolean validEthWallet(final UUID rewardId) {
+            return (Boolean) entityManager.createNativeQuery(
+                            "select valid_eth_wallet from payment_request_payout_checks where id = :id")
+                    .setParameter("id", rewardId)
+                    .getSingleResult();
+        }
+
+        private Boolean validPerson(final UUID rewardId) {
+            return (Boolean) entityManager.createNativeQuery(
+                            "select valid_person from payment_request_payout_checks where id = :id")
+                    .setParameter("id", rewardId)
+                    .getSingleResult();
+        }
+    }
+
+    @Nested
+    class GivenARecipientPaidOneRewardAtATime {
+        private final Long githubUserId = faker.random().nextLong();
+
+        @Test
+        void should_refresh_the_payout_checks_of_the_paid_rewards() {
+            // Given
+            authUserRepository.save(new AuthUserEntity(UUID.randomUUID(), githubUserId,
+                    faker.rickAndMorty().location(), new Date(), faker.rickAndMorty().character(),
+                    faker.internet().url(), new Date(), false));
+            final UUID firstRewardId = UUID.randomUUID();
+            final UUID secondRewardId = UUID.randomUUID();
+            paymentRequestRepository.saveAll(List.of(
+                    new PaymentRequestEntity(firstRewardId, UUID.randomUUID(), githubUserId, new Date(),
+                            BigDecimal.ONE, null, 1, projectId, CurrencyEnumEntity.apt),
+                    new PaymentRequestEntity(secondRewardId, UUID.randomUUID(), githubUserId, new Date(),
+                            BigDecimal.ONE, null, 1, projectId, CurrencyEnumEntity.apt)));
+            assertEquals(false, validAptWallet(firstRewardId));
+            assertEquals(false, validAptWallet(secondRewardId));
+
+            // When
+            paymentRepository.save(new PaymentEntity(UUID.randomUUID(), BigDecimal.ONE, "APT",
+                    JacksonUtil.toJsonNode("{}"), firstRewardId, new Date()));
+
+            // Then
+            assertEquals(false, hasPendingPayments(firstRewardId));
+            assertEquals(true, hasPendingPayments(secondRewardId));
+            assertEquals(false, validAptWallet(secondRewardId));
+
+            // When
+            paymentRepository.save(new PaymentEntity(UUID.randomUUID(), BigDecimal.ONE, "APT",
+                    JacksonUtil.toJsonNode("{}"), secondRewardId, new Date()));
+
+            // Then
+            assertEquals(false, hasPendingPayments(secondRewardId));
+            // the aptos wallet is checked against all the pending aptos rewards of the recipient
+            assertEquals(true, validAptWallet(firstRewardId));
+            assertEquals(true, validAptWallet(secondRewardId));
+        }
+
+        private Boolean hasPendingPayments(final UUID rewardId) {
+            return (Boolean) entityManager.createNativeQuery(
+                            "select has_pending_payments from payment_request_payout_checks where id = :id")
+                    .setParameter("id", rewardId)
+                    .getSingleResult();
+        }
+
+        private Boolean validAptWallet(final UUID rewardId) {
+            return (Boolean) entityManager.createNativeQuery(
+                            "select valid_apt_wallet from payment_request_payout_checks where id = :id")
+                    .setParameter("id", rewardId)
+                    .getSingleResult();
+        }
+    }
+
+    @Nested
+    class GivenRewardsWithTheSameAmount {
+        private static final Long githubUserId = faker.random().nextLong();
+        private static final UUID userId = UUID.randomUUID();
+        private static final List<UUID> rewardIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            if (!rewardIds.isEmpty()) {
+                return;
+            }
+            authUserRepository.save(new AuthUserEntity(userId, githubUserId, faker.rickAndMorty().location(),
+                    new Date(), faker.rickAndMorty().character(), faker.internet().url(), new Date(), false));
+            final Date requestedAt = new Date();
+            for (int i = 0; i < 5; i++) {
+                final UUID rewardId = UUID.randomUUID();
+                paymentRequestRepository.save(new PaymentRequestEntity(rewardId, UUID.randomUUID(), githubUserId,
+                        requestedAt, BigDecimal.TEN, null, 1, projectId, CurrencyEnumEntity.usd));
+                rewardIds.add(rewardId);
+            }
+        }
+
+        @Test
+        void should_page_across_ties_with_offsets() {
+            // When
+            final List<UUID> pagedIds = new ArrayList<>();
+            for (int pageIndex = 0; pageIndex < 3; pageIndex++) {
+                customUserRewardRepository.getViewEntities(userId, UserRewardView.SortBy.amount, SortDirection.desc,
+                        pageIndex, 2).forEach(reward -> pagedIds.add(reward.getId()));
+            }
+
+            // Then
+            assertEquals(5, pagedIds.size());
+            assertEquals(new HashSet<>(rewardIds), new HashSet<>(pagedIds));
+        }
+
+        @Test
+        void should_page_across_ties_with_cursors() {
+            // When
+            final List<UUID> pagedIds = new ArrayList<>();
+            PageCursor cursor = null;
+            for (int page = 0; page < 3; page++) {
+                final List<UserRewardViewEntity> rewards = customUserRewardRepository.getViewEntitiesAfter(userId,
+                        UserRewardView.SortBy.amount, SortDirection.desc, cursor, 2);
+                rewards.forEach(reward -> pagedIds.add(reward.getId()));
+                if (!rewards.isEmpty()) {
+                    cursor = CustomUserRewardRepository.cursorOf(rewards.get(rewards.size() - 1),
+                            UserRewardView.SortBy.amount, SortDirection.desc);
+                }
+            }
+
+            // Then
+            assertEquals(5, pagedIds.size());
+            assertEquals(new HashSet<>(rewardIds), new HashSet<>(pagedIds));
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package onlydust.com.marketplace.api.postgres.adapter.it.repository;
+
+import onlydust.com.marketplace.api.domain.model.ContributionsChange;
+import onlydust.com.marketplace.api.postgres.adapter.PostgresContributionsChangeQueueAdapter;
+import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
+import onlydust.com.marketplace.api.postgres.adapter.repository.ContributionsChangeQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostgresContributionsChangeQueueAdapterIT extends AbstractPostgresIT {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    PostgresContributionsChangeQueueAdapter postgresContributionsChangeQueueAdapter;
+    @Autowired
+    ContributionsChangeQueueRepository contributionsChangeQueueRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        contributionsChangeQueueRepository.deleteAll();
+    }
+
+    @Test
+    void should_lease_a_polled_change_until_it_is_acknowledged() {
+        // Given
+        final Long repoId = faker.random().nextLong();
+        postgresContributionsChangeQueueAdapter.push(List.of(repoId), List.of("contribution-1"));
+
+        // When
+        final Optional<ContributionsChange> change = postgresContributionsChangeQueueAdapter.poll(LEASE);
+
+        // Then
+        assertThat(change).isPresent();
+        assertThat(change.get().getRepoId()).isEqualTo(repoId);
+        assertThat(change.get().getContributionIds()).containsExactly("contribution-1");
+        assertThat(contributionsChangeQueueRepository.findById(repoId).orElseThrow().getLockedUntil()).isNotNull();
+        assertThat(postgresContributionsChangeQueueAdapter.poll(LEASE)).isEmpty();
+
+        // When
+        postgresContributionsChangeQueueAdapter.acknowledge(change.get());
+
+        // Then
+        assertThat(contributionsChangeQueueRepository.findById(repoId)).isEmpty();
+    }
+
+    @Test
+    void should_release_a_change_updated_while_being_processed() {
+        // Given
+        final Long repoId = faker.random().nextLong();
+        postgresContributionsChangeQueueAdapter.push(List.of(repoId), List.of("contribution-1"));
+        final ContributionsChange change = postgresContributionsChangeQueueAdapter.poll(LEASE).orElseThrow();
+        postgresContributionsChangeQueueAdapter.push(List.of(repoId), List.of("contribution-2"));
+
+        // When
+        postgresContributionsChangeQueueAdapter.acknowledge(change);
+
+        // Then
+        final ContributionsChange nextChange = postgresContributionsChangeQueueAdapter.poll(LEASE).orElseThrow();
+        assertThat(nextChange.getRepoId()).isEqualTo(repoId);
+        assertThat(nextChange.getContributionIds()).containsExactlyInAnyOrder("contribution-1", "contribution-2");
+    }
+
+    @Test
+    void should_skip_a_change_being_polled_by_another_transaction() {
+        // Given
+        final Long repoId = faker.random().nextLong();
+        postgresContributionsChangeQueueAdapter.push(List.of(repoId), null);
+
+        // When
+        final Optional<ContributionsChange> concurrentPoll = new TransactionTemplate(transactionManager)
+                .execute(status -> {
+                    assertThat(contributionsChangeQueueRepository.findNextUnleasedForUpdate()).isPresent();
+                    return CompletableFuture.supplyAsync(() -> postgresContributionsChangeQueueAdapter.poll(LEASE))
+                            .orTimeout(5, TimeUnit.SECONDS)
+                            .join();
+                });
+
+        // Then
+        assertThat(concurrentPoll).isEmpty();
+        assertThat(postgresContributionsChangeQueueAdapter.poll(LEASE)).isPresent();
+    }
+}
@@ -0,0 +1,76 @@
+package onlydust.com.marketplace.api.postgres.adapter.it.repository;
+
+import onlydust.com.marketplace.api.postgres.adapter.it.AbstractPostgresIT;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectPageCardsIT extends AbstractPostgresIT {
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void should_keep_the_card_of_a_project_up_to_date_with_each_write() {
+        // Given
+        final UUID projectId = UUID.randomUUID();
+
+        // When
+        execute("""
+                insert into project_details (project_id, name, short_description, long_description, visibility)
+                values (:projectId, 'Card project', 'short', 'long', 'PUBLIC')
+                """, projectId);
+
+        // Then
+        assertThat(card(projectId)).containsExactly("Card project", "PUBLIC", 0);
+
+        // When
+        execute("""
+                insert into projects_contributors (project_id, github_user_id)
+                values (:projectId, 1), (:projectId, 2), (:projectId, 3)
+                """, projectId);
+        execute("update project_details set visibility = 'PRIVATE' where project_id = :projectId", projectId);
+
+        // Then
+        assertThat(card(projectId)).containsExactly("Card project", "PRIVATE", 3);
+
+        // When
+        execute("delete from projects_contributors where project_id = :projectId and github_user_id = 1", projectId);
+
+        // Then
+        assertThat(card(projectId)).containsExactly("Card project", "PRIVATE", 2);
+
+        // When
+        execute("delete from project_details where project_id = :projectId", projectId);
+
+        // Then
+        assertThat(card(projectId)).isEmpty();
+    }
+
+    private void execute(final String query, final UUID projectId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createNativeQuery(query)
+                .setParameter("projectId", projectId)
+                .executeUpdate());
+    }
+
+    private List<Object> card(final UUID projectId) {
+        final List<?> cards = entityManager.createNativeQuery("""
+                        select name, cast(visibility as text), cast(contributors_count as integer)
+                        from project_page_cards
+                        where project_id = :projectId
+                        """)
+                .setParameter("projectId", projectId)
+                .getResultList();
+        return cards.isEmpty() ? List.of() : List.of((Object[]) cards.get(0));
+    }
+}
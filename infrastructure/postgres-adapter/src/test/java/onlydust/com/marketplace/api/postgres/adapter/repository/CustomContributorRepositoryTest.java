@@ -1,12 +1,16 @@
 package onlydust.com.marketplace.api.postgres.adapter.repository;
 
+import onlydust.com.marketplace.api.domain.exception.OnlyDustException;
 import onlydust.com.marketplace.api.domain.view.ProjectContributorsLinkView;
+import onlydust.com.marketplace.api.domain.view.pagination.PageCursor;
 import onlydust.com.marketplace.api.domain.view.pagination.SortDirection;
 import org.junit.jupiter.api.Test;
 
 import static onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository.GET_CONTRIBUTORS_FOR_PROJECT;
 import static onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository.buildQuery;
+import static onlydust.com.marketplace.api.postgres.adapter.repository.CustomContributorRepository.cursorSort;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CustomContributorRepositoryTest {
 
@@ -92,4 +96,18 @@ public class CustomContributorRepositoryTest {
     }
 
 
+
+    @Test
+    void should_reject_a_cursor_issued_for_another_sort_direction() {
+        // Given
+        final ProjectContributorsLinkView.SortBy sortBy = ProjectContributorsLinkView.SortBy.earned;
+        final String cursor = PageCursor.of(cursorSort(sortBy, SortDirection.desc), "ofux", "1250.50").encode();
+
+        // When
+        final OnlyDustException exception = assertThrows(OnlyDustException.class,
+                () -> PageCursor.decode(cursor, cursorSort(sortBy, SortDirection.asc), 2));
+
+        // Then
+        assertEquals(400, exception.getStatus());
+    }
 }